@@ -0,0 +1,66 @@
+package com.talentradar.assessment_service.benchmark;
+
+import com.talentradar.assessment_service.util.AnalysisKeyUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a payload's dimension ratings into the analysis score map.
+ * <p>
+ * {@code inlineNormalization} is what {@code FeedbackAnalysisService} used to do for every dimension of every
+ * analysis; {@code storedKeys} is the current path, where the key was computed once when the dimension
+ * definition was written. Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnalysisKeyBenchmark {
+
+    private static final String[] DIMENSION_NAMES = BenchmarkFixtures.DIMENSION_NAMES;
+
+    private final int[] ratings = BenchmarkFixtures.RATINGS;
+    private String[] analysisKeys;
+
+    @Setup
+    public void setUp() {
+        analysisKeys = new String[DIMENSION_NAMES.length];
+        for (int i = 0; i < DIMENSION_NAMES.length; i++) {
+            analysisKeys[i] = AnalysisKeyUtil.toAnalysisKey(DIMENSION_NAMES[i]);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Integer> inlineNormalization() {
+        Map<String, Integer> scores = new HashMap<>();
+        for (int i = 0; i < DIMENSION_NAMES.length; i++) {
+            String dimensionName = DIMENSION_NAMES[i]
+                    .toLowerCase()
+                    .replaceAll("\\s+", "")
+                    .replaceAll("&", "");
+            scores.put(dimensionName, ratings[i]);
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public Map<String, Integer> storedKeys() {
+        Map<String, Integer> scores = HashMap.newHashMap(analysisKeys.length);
+        for (int i = 0; i < analysisKeys.length; i++) {
+            scores.put(analysisKeys[i], ratings[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * One-off cost paid when a dimension definition is created or renamed.
+     */
+    @Benchmark
+    public String computeKeyOnWrite() {
+        return AnalysisKeyUtil.toAnalysisKey(DIMENSION_NAMES[2]);
+    }
+}
@@ -0,0 +1,34 @@
+package com.talentradar.assessment_service.benchmark;
+
+import com.talentradar.assessment_service.dto.assessment.response.AssessmentResponseDTO;
+import com.talentradar.assessment_service.mapper.AssessmentMapper;
+import com.talentradar.assessment_service.mapper.AssessmentMapperImpl;
+import com.talentradar.assessment_service.model.Assessment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct entity-to-response mapping used by every assessment endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AssessmentMapperBenchmark {
+
+    private final AssessmentMapper assessmentMapper = new AssessmentMapperImpl();
+    private Assessment assessment;
+
+    @Setup
+    public void setUp() {
+        assessment = BenchmarkFixtures.submittedAssessment(UUID.randomUUID(), BenchmarkFixtures.dimensionDefinitions());
+    }
+
+    @Benchmark
+    public AssessmentResponseDTO toResponseDto() {
+        return assessmentMapper.toResponseDto(assessment);
+    }
+}
@@ -0,0 +1,91 @@
+package com.talentradar.assessment_service.benchmark;
+
+import com.talentradar.assessment_service.model.Assessment;
+import com.talentradar.assessment_service.model.AssessmentDimension;
+import com.talentradar.assessment_service.model.DimensionDefinition;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import com.talentradar.assessment_service.util.AnalysisKeyUtil;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Shared, deterministic inputs for the benchmarks. Mirrors the dimensions seeded by {@code DataInitializer}.
+ */
+final class BenchmarkFixtures {
+
+    static final String[] DIMENSION_NAMES = {
+            "Technical Excellence",
+            "Communication & Collaboration",
+            "Team Dynamics & Leadership",
+            "Execution & Results",
+            "Growth & Innovation"
+    };
+
+    static final BigDecimal[] DIMENSION_WEIGHTS = {
+            new BigDecimal("25.00"),
+            new BigDecimal("20.00"),
+            new BigDecimal("20.00"),
+            new BigDecimal("20.00"),
+            new BigDecimal("15.00")
+    };
+
+    static final int[] RATINGS = {4, 3, 5, 2, 4};
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<DimensionDefinition> dimensionDefinitions() {
+        return IntStream.range(0, DIMENSION_NAMES.length)
+                .mapToObj(i -> DimensionDefinition.builder()
+                        .id(new UUID(0, i + 1))
+                        .dimensionName(DIMENSION_NAMES[i])
+                        .analysisKey(AnalysisKeyUtil.toAnalysisKey(DIMENSION_NAMES[i]))
+                        .description(DIMENSION_NAMES[i] + " assessment")
+                        .weight(DIMENSION_WEIGHTS[i])
+                        .build())
+                .toList();
+    }
+
+    static Assessment submittedAssessment(UUID userId, List<DimensionDefinition> definitions) {
+        Assessment assessment = Assessment.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .submissionStatus(SubmissionStatus.SUBMITTED)
+                .averageScore(4)
+                .reflection("Shipped the reporting pipeline and mentored two new joiners this quarter.")
+                .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .updatedAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .build();
+        assessment.setDimensions(IntStream.range(0, definitions.size())
+                .mapToObj(i -> AssessmentDimension.builder()
+                        .id(UUID.randomUUID())
+                        .assessment(assessment)
+                        .dimensionDefinition(definitions.get(i))
+                        .rating(RATINGS[i % RATINGS.length])
+                        .createdAt(assessment.getCreatedAt())
+                        .build())
+                .toList());
+        return assessment;
+    }
+
+    /**
+     * Minimal interface implementation answering each method by name, so benchmarks run without Mockito
+     * or a database. Methods without an answer return null.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + " stub";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> answers.get(method.getName());
+                });
+    }
+}
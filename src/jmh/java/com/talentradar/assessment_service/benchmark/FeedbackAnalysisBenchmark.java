@@ -0,0 +1,96 @@
+package com.talentradar.assessment_service.benchmark;
+
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.analysis.FeedbackAnalysisDto;
+import com.talentradar.assessment_service.dto.comment.response.CommentDto;
+import com.talentradar.assessment_service.dto.dimensionDefinition.response.DimensionDefinitionDto;
+import com.talentradar.assessment_service.dto.feedbackComment.response.FeedbackCommentDto;
+import com.talentradar.assessment_service.dto.feedbackDimension.response.FeedbackDimensionDto;
+import com.talentradar.assessment_service.model.DimensionDefinition;
+import com.talentradar.assessment_service.model.Feedback;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
+import com.talentradar.assessment_service.service.FeedbackCommentService;
+import com.talentradar.assessment_service.service.FeedbackDimensionService;
+import com.talentradar.assessment_service.service.impl.FeedbackAnalysisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembly of the analysis payload sent with every feedback event. Repositories and services are in-memory
+ * stubs, so this measures the mapping work only, not database access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FeedbackAnalysisBenchmark {
+
+    private FeedbackAnalysisService feedbackAnalysisService;
+    private Feedback feedback;
+
+    @Setup
+    public void setUp() {
+        UUID developerId = UUID.randomUUID();
+        List<DimensionDefinition> definitions = BenchmarkFixtures.dimensionDefinitions();
+        feedback = Feedback.builder()
+                .id(UUID.randomUUID())
+                .managerId(UUID.randomUUID())
+                .developerId(developerId)
+                .feedbackVersion(1)
+                .build();
+
+        List<FeedbackDimensionDto> feedbackDimensions = definitions.stream()
+                .map(definition -> FeedbackDimensionDto.builder()
+                        .feedbackId(feedback.getId())
+                        .dimensionDefinition(DimensionDefinitionDto.builder()
+                                .id(definition.getId())
+                                .dimensionName(definition.getDimensionName())
+                                .weight(definition.getWeight())
+                                .build())
+                        .rating(3)
+                        .comment("Consistent delivery")
+                        .build())
+                .toList();
+        List<FeedbackCommentDto> comments = List.of(
+                comment("Key Strengths & Achievements", "Owns features end to end."),
+                comment("Areas for Improvement", "Write design notes before large changes."),
+                comment("Goals for Next Period", "Lead one cross-team initiative."));
+
+        AssessmentRepository assessmentRepository = BenchmarkFixtures.stub(AssessmentRepository.class,
+                Map.of("findLatestSubmittedAssessmentByUserId",
+                        Optional.of(BenchmarkFixtures.submittedAssessment(developerId, definitions))));
+        DimensionDefinitionRepository dimensionDefinitionRepository = BenchmarkFixtures.stub(
+                DimensionDefinitionRepository.class, Map.of("findAllWithGradingCriteria", definitions));
+        FeedbackDimensionService feedbackDimensionService = BenchmarkFixtures.stub(FeedbackDimensionService.class,
+                Map.of("getFeedbackDimensionsByFeedbackId", feedbackDimensions));
+        FeedbackCommentService feedbackCommentService = BenchmarkFixtures.stub(FeedbackCommentService.class,
+                Map.of("getFeedbackCommentsByFeedbackId", comments));
+
+        DimensionDefinitionCatalog catalog = new DimensionDefinitionCatalog(dimensionDefinitionRepository,
+                new SimpleMeterRegistry(), Duration.ofHours(1));
+        feedbackAnalysisService = new FeedbackAnalysisService(assessmentRepository, catalog,
+                feedbackDimensionService, feedbackCommentService);
+    }
+
+    @Benchmark
+    public FeedbackAnalysisDto createAnalysisDto() {
+        return feedbackAnalysisService.createAnalysisDto(feedback);
+    }
+
+    private static FeedbackCommentDto comment(String title, String body) {
+        return FeedbackCommentDto.builder()
+                .id(UUID.randomUUID())
+                .comment(CommentDto.builder().id(UUID.randomUUID()).commentTitle(title).build())
+                .feedbackCommentBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.talentradar.assessment_service.benchmark;
+
+import com.talentradar.assessment_service.event.AssessmentEvent;
+import com.talentradar.assessment_service.event.AssessmentEventType;
+import com.talentradar.assessment_service.event.FeedbackEvent;
+import com.talentradar.assessment_service.event.FeedbackEventType;
+import com.talentradar.assessment_service.event.UserContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event serialization with the same converter {@code RabbitMQConfig} registers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MessageConverterBenchmark {
+
+    private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+    private AssessmentEvent assessmentEvent;
+    private FeedbackEvent feedbackEvent;
+
+    @Setup
+    public void setUp() {
+        UUID managerId = UUID.randomUUID();
+        UUID developerId = UUID.randomUUID();
+        UserContext manager = userContext(managerId, "Jane Manager", "MANAGER", null);
+        UserContext developer = userContext(developerId, "John Developer", "DEVELOPER", managerId);
+
+        assessmentEvent = AssessmentEvent.builder()
+                .eventType(AssessmentEventType.ASSESSMENT_SUBMITTED)
+                .assessmentId(UUID.randomUUID())
+                .userId(developerId)
+                .reflection("Shipped the reporting pipeline and mentored two new joiners this quarter.")
+                .averageScore(4)
+                .submissionStatus("SUBMITTED")
+                .timestamp(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .eventId(UUID.randomUUID().toString())
+                .source("assessment-service")
+                .userContext(developer)
+                .build();
+
+        feedbackEvent = FeedbackEvent.builder()
+                .eventType(FeedbackEventType.FEEDBACK_CREATED)
+                .feedbackId(UUID.randomUUID())
+                .managerId(managerId)
+                .developerId(developerId)
+                .feedbackVersion(2)
+                .timestamp(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .eventId(UUID.randomUUID().toString())
+                .source("assessment-service")
+                .managerContext(manager)
+                .developerContext(developer)
+                .build();
+    }
+
+    @Benchmark
+    public Message assessmentEvent() {
+        return converter.toMessage(assessmentEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message feedbackEvent() {
+        return converter.toMessage(feedbackEvent, new MessageProperties());
+    }
+
+    private static UserContext userContext(UUID userId, String fullName, String role, UUID managerId) {
+        return UserContext.builder()
+                .userId(userId)
+                .fullName(fullName)
+                .username(fullName.toLowerCase().replace(' ', '.'))
+                .email(fullName.toLowerCase().replace(' ', '.') + "@example.com")
+                .role(role)
+                .managerId(managerId)
+                .build();
+    }
+}
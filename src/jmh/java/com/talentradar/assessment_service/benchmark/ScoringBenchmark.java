@@ -0,0 +1,49 @@
+package com.talentradar.assessment_service.benchmark;
+
+import com.talentradar.assessment_service.util.WeightedScoreUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted average score computed for every assessment create and update and for every complete feedback,
+ * comparing the fixed-point path against the BigDecimal reference. Run with {@code -prof gc} to compare
+ * allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScoringBenchmark {
+
+    @Param({"5", "20"})
+    private int dimensions;
+
+    private int[] ratings;
+    private BigDecimal[] weights;
+    private long[] scaledWeights;
+
+    @Setup
+    public void setUp() {
+        ratings = new int[dimensions];
+        weights = new BigDecimal[dimensions];
+        scaledWeights = new long[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            ratings[i] = BenchmarkFixtures.RATINGS[i % BenchmarkFixtures.RATINGS.length];
+            weights[i] = BenchmarkFixtures.DIMENSION_WEIGHTS[i % BenchmarkFixtures.DIMENSION_WEIGHTS.length];
+            scaledWeights[i] = WeightedScoreUtil.toScaledWeight(weights[i]);
+        }
+    }
+
+    @Benchmark
+    public int fixedPoint() {
+        return WeightedScoreUtil.weightedAverage(ratings, scaledWeights);
+    }
+
+    @Benchmark
+    public int bigDecimal() {
+        return WeightedScoreUtil.weightedAverage(ratings, weights);
+    }
+}
@@ -0,0 +1,59 @@
+package com.talentradar.assessment_service.benchmark;
+
+import com.talentradar.assessment_service.filter.UserContextFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request header parsing and authentication setup done by {@link UserContextFilter}, in lean mode and
+ * in the verbose mode that logs every header. Logging goes to target/jmh.log at INFO, the service's default
+ * level, so its cost is part of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserContextFilterBenchmark {
+
+    @Param({"true", "false"})
+    private boolean lean;
+
+    private UserContextFilter filter;
+    private final FilterChain chain = (request, response) -> { };
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        filter = new UserContextFilter(new SimpleMeterRegistry(), lean, 0.01, 256);
+        request = new MockHttpServletRequest("GET", "/api/v1/assessments");
+        request.addHeader("X-User-Id", UUID.randomUUID().toString());
+        request.addHeader("X-User-Email", "jane.manager@example.com");
+        request.addHeader("X-User-Role", "ROLE_MANAGER");
+        request.addHeader("X-User-UserName", "jane.manager");
+        request.addHeader("X-User-FullName", "Jane Manager");
+        request.addHeader("Accept", "application/json");
+        request.addHeader("User-Agent", "k6/0.49.0");
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        // OncePerRequestFilter clears its "already filtered" marker when it returns, so the request can be reused
+        filter.doFilter(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
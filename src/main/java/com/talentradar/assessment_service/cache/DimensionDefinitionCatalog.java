@@ -0,0 +1,219 @@
+package com.talentradar.assessment_service.cache;
+
+import com.talentradar.assessment_service.exception.ResourceNotFoundException;
+import com.talentradar.assessment_service.model.DimensionDefinition;
+import com.talentradar.assessment_service.model.GradingCriteria;
+import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
+import com.talentradar.assessment_service.util.AnalysisKeyUtil;
+import com.talentradar.assessment_service.util.WeightedScoreUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through, in-memory catalog of {@link DimensionDefinition}s used on the scoring hot path.
+ * <p>
+ * The whole catalog is held as one immutable snapshot that is swapped atomically. Writes made through
+ * the dimension and grading criteria services call {@link #invalidate()}, which bumps the catalog
+ * version once the surrounding transaction completes; the next lookup then reloads the snapshot with a
+ * single query. Snapshots also expire after {@code assessment.dimension-catalog.max-age} so that changes
+ * made by other instances are eventually picked up.
+ */
+@Component
+@Slf4j
+public class DimensionDefinitionCatalog {
+
+    private final DimensionDefinitionRepository dimensionDefinitionRepository;
+    private final Duration maxAge;
+
+    private final AtomicLong version = new AtomicLong();
+    // A lock rather than synchronized: reload queries the database, and blocking inside a monitor would pin
+    // a virtual thread to its carrier
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter reloads;
+
+    public DimensionDefinitionCatalog(DimensionDefinitionRepository dimensionDefinitionRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${assessment.dimension-catalog.max-age:PT5M}") Duration maxAge) {
+        this.dimensionDefinitionRepository = dimensionDefinitionRepository;
+        this.maxAge = maxAge;
+        this.hits = Counter.builder("assessment.dimension.catalog.lookups")
+                .tag("result", "hit")
+                .description("Dimension definition lookups served from the catalog snapshot")
+                .register(meterRegistry);
+        this.misses = Counter.builder("assessment.dimension.catalog.lookups")
+                .tag("result", "miss")
+                .description("Dimension definition lookups for ids that are not in the catalog")
+                .register(meterRegistry);
+        this.reloads = Counter.builder("assessment.dimension.catalog.reloads")
+                .description("Number of times the catalog snapshot was loaded from the database")
+                .register(meterRegistry);
+        Gauge.builder("assessment.dimension.catalog.size", this, catalog -> {
+                    Snapshot current = catalog.snapshot;
+                    return current == null ? 0 : current.entries().size();
+                })
+                .description("Number of dimension definitions in the current catalog snapshot")
+                .register(meterRegistry);
+    }
+
+    public Optional<Entry> find(UUID id) {
+        Entry entry = current().entries().get(id);
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    public Entry require(UUID id) {
+        return find(id)
+                .orElseThrow(() -> new ResourceNotFoundException("DimensionDefinition with id " + id + " not found"));
+    }
+
+    public boolean contains(UUID id) {
+        boolean present = current().entries().containsKey(id);
+        if (present) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return present;
+    }
+
+    public boolean containsAll(Collection<UUID> ids) {
+        Map<UUID, Entry> entries = current().entries();
+        boolean allPresent = true;
+        for (UUID id : ids) {
+            if (entries.containsKey(id)) {
+                hits.increment();
+            } else {
+                misses.increment();
+                allPresent = false;
+            }
+        }
+        return allPresent;
+    }
+
+    /**
+     * Marks the current snapshot as stale. When called inside a transaction the version bump is deferred
+     * until the transaction completes, so a concurrent reload can never re-cache pre-commit data.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bumpVersion();
+                }
+            });
+        } else {
+            bumpVersion();
+        }
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    private void bumpVersion() {
+        long newVersion = version.incrementAndGet();
+        log.debug("Dimension definition catalog invalidated, version={}", newVersion);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (isValid(current)) {
+            return current;
+        }
+        return reload();
+    }
+
+    private Snapshot reload() {
+        reloadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (isValid(current)) {
+                return current;
+            }
+
+            long loadVersion = version.get();
+            Map<UUID, Entry> entries = dimensionDefinitionRepository.findAllWithGradingCriteria().stream()
+                    .map(Entry::from)
+                    .collect(Collectors.toUnmodifiableMap(Entry::id, Function.identity()));
+
+            Snapshot loaded = new Snapshot(loadVersion, entries, Instant.now());
+            snapshot = loaded;
+            reloads.increment();
+            log.info("Loaded dimension definition catalog: {} definitions, version={}", entries.size(), loadVersion);
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private boolean isValid(Snapshot candidate) {
+        return candidate != null
+                && candidate.version() == version.get()
+                && candidate.loadedAt().plus(maxAge).isAfter(Instant.now());
+    }
+
+    private record Snapshot(long version, Map<UUID, Entry> entries, Instant loadedAt) {
+    }
+
+    /**
+     * Immutable view of a dimension definition and its grading criteria. {@code scaledWeight} is the weight
+     * in hundredths for {@link WeightedScoreUtil}, computed once per catalog load.
+     */
+    public record Entry(UUID id, String dimensionName, String analysisKey, String description, BigDecimal weight,
+                        List<Criterion> gradingCriteria, long scaledWeight) {
+
+        public Entry(UUID id, String dimensionName, String analysisKey, String description, BigDecimal weight,
+                     List<Criterion> gradingCriteria) {
+            this(id, dimensionName, analysisKey, description, weight, gradingCriteria,
+                    WeightedScoreUtil.toScaledWeight(weight));
+        }
+
+        static Entry from(DimensionDefinition definition) {
+            List<Criterion> criteria = definition.getGradingCriteriaSet() == null ? List.of() :
+                    definition.getGradingCriteriaSet().stream()
+                            .map(Criterion::from)
+                            .toList();
+            // Rows written before analysis keys were stored get theirs derived once per catalog load
+            String analysisKey = definition.getAnalysisKey() != null
+                    ? definition.getAnalysisKey()
+                    : AnalysisKeyUtil.toAnalysisKey(definition.getDimensionName());
+            return new Entry(definition.getId(), definition.getDimensionName(), analysisKey,
+                    definition.getDescription(), definition.getWeight(), criteria);
+        }
+    }
+
+    public record Criterion(UUID id, String criteriaName) {
+
+        static Criterion from(GradingCriteria gradingCriteria) {
+            return new Criterion(gradingCriteria.getId(), gradingCriteria.getCriteriaName());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.talentradar.assessment_service.cache;
+
+import com.talentradar.assessment_service.model.ProcessedEvent;
+import com.talentradar.assessment_service.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Remembers which inbound event ids have already been applied.
+ * <p>
+ * The {@code processed_event} table is the source of truth and is written in the caller's transaction,
+ * alongside the event's effects. The most recent {@code user-events.dedup.cache-size} ids are also kept in
+ * an in-memory LRU window so that hot redeliveries are skipped without a query; ids only enter the window
+ * once the transaction that recorded them has committed. Events without an id are never treated as
+ * duplicates.
+ */
+@Component
+@Slf4j
+public class ProcessedEventLog {
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+    private final Map<String, Boolean> recent;
+
+    public ProcessedEventLog(ProcessedEventRepository processedEventRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${user-events.dedup.cache-size:10000}") int cacheSize,
+                             @Value("${user-events.dedup.retention:P7D}") Duration retention) {
+        this.processedEventRepository = processedEventRepository;
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public boolean isProcessed(String eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        return !findProcessed(List.of(eventId)).isEmpty();
+    }
+
+    /**
+     * Returns the subset of the given ids that have already been applied, using at most one query.
+     */
+    public Set<String> findProcessed(Collection<String> eventIds) {
+        Set<String> processed = new HashSet<>();
+        Set<String> unknown = new HashSet<>();
+        synchronized (recent) {
+            for (String eventId : eventIds) {
+                if (eventId == null) {
+                    continue;
+                }
+                if (recent.containsKey(eventId)) {
+                    processed.add(eventId);
+                } else {
+                    unknown.add(eventId);
+                }
+            }
+        }
+        count("cache_hit", processed.size());
+
+        if (!unknown.isEmpty()) {
+            List<String> stored = processedEventRepository.findExistingEventIds(unknown);
+            count("db_hit", stored.size());
+            count("miss", unknown.size() - stored.size());
+            remember(stored);
+            processed.addAll(stored);
+        }
+        return processed;
+    }
+
+    /**
+     * Records the given ids as applied. Must be called inside the transaction that applies the events.
+     */
+    public void markProcessed(Collection<String> eventIds) {
+        List<ProcessedEvent> rows = eventIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(eventId -> ProcessedEvent.builder().eventId(eventId).build())
+                .toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        processedEventRepository.saveAll(rows);
+
+        List<String> ids = rows.stream().map(ProcessedEvent::getEventId).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(ids);
+                }
+            });
+        } else {
+            remember(ids);
+        }
+    }
+
+    public void markProcessed(String eventId) {
+        if (eventId != null) {
+            markProcessed(List.of(eventId));
+        }
+    }
+
+    @Scheduled(cron = "${user-events.dedup.cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = processedEventRepository.deleteProcessedBefore(cutoff);
+        log.info("Purged {} processed event ids older than {}", deleted, cutoff);
+    }
+
+    private void remember(Collection<String> eventIds) {
+        synchronized (recent) {
+            eventIds.forEach(eventId -> recent.put(eventId, Boolean.TRUE));
+        }
+    }
+
+    private void count(String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("assessment.user_events.dedup", "result", result).increment(amount);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.talentradar.assessment_service.cache;
+
+import com.talentradar.assessment_service.model.UserRole;
+import com.talentradar.assessment_service.model.UserSnapshot;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of {@link UserSnapshot}s keyed by userId, used to enrich outgoing events.
+ * <p>
+ * Holds at most {@code assessment.user-snapshot-cache.max-size} users (least recently used are evicted
+ * first) and trusts each entry for {@code ttl}. Writers evict a user through {@link #evict(UUID)}, which
+ * takes effect once their transaction commits. Missing users are not cached, so a snapshot that arrives
+ * later is picked up on the next lookup. Callers get a fresh, detached {@link UserSnapshot} each time.
+ */
+@Component
+@Slf4j
+public class UserSnapshotCache {
+
+    private final UserSnapshotRepository userSnapshotRepository;
+    private final long ttlNanos;
+    private final Map<UUID, Entry> entries;
+
+    // Bumped on every eviction; a load that raced with one is not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserSnapshotCache(UserSnapshotRepository userSnapshotRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${assessment.user-snapshot-cache.max-size:10000}") int maxSize,
+                             @Value("${assessment.user-snapshot-cache.ttl:PT10M}") Duration ttl) {
+        this.userSnapshotRepository = userSnapshotRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder("assessment.user_snapshot.cache.lookups")
+                .tag("result", "hit")
+                .description("User snapshot lookups served from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("assessment.user_snapshot.cache.lookups")
+                .tag("result", "miss")
+                .description("User snapshot lookups that went to the database")
+                .register(meterRegistry);
+        Gauge.builder("assessment.user_snapshot.cache.size", this, UserSnapshotCache::size)
+                .description("Number of user snapshots currently cached")
+                .register(meterRegistry);
+    }
+
+    public Optional<UserSnapshot> find(UUID userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.loadedAt() < ttlNanos) {
+                hits.increment();
+                return Optional.of(entry.toSnapshot());
+            }
+        }
+
+        misses.increment();
+        long evictionsBeforeLoad = evictions.get();
+        Optional<UserSnapshot> loaded = userSnapshotRepository.findByUserId(userId);
+        loaded.ifPresent(snapshot -> {
+            Entry entry = Entry.from(snapshot, now);
+            synchronized (entries) {
+                if (evictions.get() == evictionsBeforeLoad) {
+                    entries.put(userId, entry);
+                }
+            }
+        });
+        return loaded.map(snapshot -> Entry.from(snapshot, now).toSnapshot());
+    }
+
+    /**
+     * Drops a user from the cache. Inside a transaction the eviction happens after completion, so a
+     * concurrent lookup cannot re-cache the pre-commit row.
+     */
+    public void evict(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(userId);
+                }
+            });
+        } else {
+            remove(userId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(UUID userId) {
+        synchronized (entries) {
+            evictions.incrementAndGet();
+            entries.remove(userId);
+        }
+        log.debug("Evicted user snapshot for userId: {}", userId);
+    }
+
+    private record Entry(UUID id, UUID userId, UUID managerId, String fullName, String username, String email,
+                         UserRole role, long loadedAt) {
+
+        static Entry from(UserSnapshot snapshot, long loadedAt) {
+            return new Entry(snapshot.getId(), snapshot.getUserId(), snapshot.getManagerId(), snapshot.getFullName(),
+                    snapshot.getUsername(), snapshot.getEmail(), snapshot.getRole(), loadedAt);
+        }
+
+        UserSnapshot toSnapshot() {
+            return UserSnapshot.builder()
+                    .id(id)
+                    .userId(userId)
+                    .managerId(managerId)
+                    .fullName(fullName)
+                    .username(username)
+                    .email(email)
+                    .role(role)
+                    .build();
+        }
+    }
+}
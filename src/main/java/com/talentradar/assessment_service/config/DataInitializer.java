@@ -5,6 +5,7 @@ import com.talentradar.assessment_service.model.DimensionDefinition;
 import com.talentradar.assessment_service.model.GradingCriteria;
 import com.talentradar.assessment_service.repository.CommentRepository;
 import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
+import com.talentradar.assessment_service.util.AnalysisKeyUtil;
 import com.talentradar.assessment_service.repository.GradingCriteriaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -150,6 +151,7 @@ public class DataInitializer implements CommandLineRunner {
     private void createDimensionDefinition(String name, String description, BigDecimal weight, Set<GradingCriteria> criteria) {
         DimensionDefinition dimension = DimensionDefinition.builder()
                 .dimensionName(name)
+                .analysisKey(AnalysisKeyUtil.toAnalysisKey(name))
                 .description(description)
                 .weight(weight)
                 .gradingCriteriaSet(criteria)
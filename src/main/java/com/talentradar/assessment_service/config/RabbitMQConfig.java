@@ -8,8 +8,10 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 @Configuration
 @Slf4j
@@ -21,6 +23,7 @@ public class RabbitMQConfig {
     public static final String FEEDBACK_EVENTS_EXCHANGE = "feedback.events.exchange";
     public static final String NOTIFICATION_EVENTS_EXCHANGE = "notification.events.exchange";
     public static final String ANALYSIS_EVENTS_EXCHANGE = "analysis.events.exchange";
+    public static final String USER_EVENTS_DLX = "user.events.dlx";
 
     // Queue names
     public static final String USER_EVENTS_QUEUE = "user.events.queue";
@@ -29,6 +32,7 @@ public class RabbitMQConfig {
     public static final String FEEDBACK_SUBMITTED_QUEUE = "feedback.submitted.queue";
     public static final String ASSESSMENT_SUBMITTED_QUEUE = "assessment.submitted.queue";
     public static final String ANALYSIS_QUEUE = "analysis.queue";
+    public static final String USER_EVENTS_DLQ = "user.events.dlq";
 
     // Routing keys
     public static final String USER_CREATED_KEY = "user-created";
@@ -38,8 +42,13 @@ public class RabbitMQConfig {
     public static final String FEEDBACK_CREATED_KEY = "feedback.created";
     public static final String FEEDBACK_UPDATED_KEY = "feedback.updated";
     public static final String FEEDBACK_DELETED_KEY = "feedback.deleted";
+    public static final String FEEDBACK_VERSION_CREATED_KEY = "feedback.version.created";
     public static final String FEEDBACK_SUBMITTED_KEY = "feedback.submitted";
 
+    // Opt-in virtual threads for listener consumers, shared with Tomcat and scheduling
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     // Message converter
     @Bean
     public MessageConverter messageConverter() {
@@ -51,17 +60,17 @@ public class RabbitMQConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
-        // Enable publisher confirms
+        // Enable publisher confirms; retries and metrics are handled per message by ConfirmingPublisher
         template.setMandatory(true);
         template.setConfirmCallback((correlationData, ack, cause) -> {
             if (ack) {
                 log.debug("Message sent successfully with correlation: {}", correlationData);
             } else {
-                log.error("Message failed to send with correlation: {}, cause: {}", correlationData, cause);
+                log.debug("Message nacked with correlation: {}, cause: {}", correlationData, cause);
             }
         });
         template.setReturnsCallback((returned) -> {
-            log.error("Message returned: {}", returned.getMessage());
+            log.debug("Message returned: {}", returned.getMessage());
         });
         return template;
     }
@@ -75,9 +84,61 @@ public class RabbitMQConfig {
         factory.setMessageConverter(messageConverter());
         factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
         factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+        applyVirtualThreads(factory, "rabbit-listener-");
         return factory;
     }
 
+    // User events are fanned out to per-user lanes by UserEventConsumer, so each queue needs only one
+    // consumer; a second consumer on the same queue would break per-user ordering. Throughput comes from
+    // the lanes, kept busy by a prefetch window that is acked in batches.
+    @Bean
+    public SimpleRabbitListenerContainerFactory userEventListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${user-events.listener.prefetch:100}") int prefetch) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(prefetch);
+        applyVirtualThreads(factory, "user-event-listener-");
+        return factory;
+    }
+
+    // Used when user-events.listener.mode=batch: deliveries are grouped into lists for one transaction
+    @Bean
+    public SimpleRabbitListenerContainerFactory userEventBatchListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${user-events.listener.prefetch:100}") int prefetch,
+            @Value("${user-events.listener.batch-size:100}") int batchSize,
+            @Value("${user-events.listener.batch-receive-timeout-ms:500}") long batchReceiveTimeout) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setErrorHandler(new ConditionalRejectingErrorHandler());
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(batchReceiveTimeout);
+        // A batch can only fill up if the broker is allowed to push at least that many unacked messages
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        applyVirtualThreads(factory, "user-event-batch-listener-");
+        return factory;
+    }
+
+    // Spring Boot only switches its own auto-configured listener factory to virtual threads, so the
+    // factories declared here follow spring.threads.virtual.enabled explicitly
+    private void applyVirtualThreads(SimpleRabbitListenerContainerFactory factory, String threadNamePrefix) {
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor(threadNamePrefix));
+        }
+    }
+
     // ============= EXCHANGES =============
 
     @Bean
@@ -115,6 +176,14 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    // User events that keep failing are republished here by PoisonMessageHandler
+    @Bean
+    public DirectExchange userEventsDeadLetterExchange() {
+        return ExchangeBuilder.directExchange(USER_EVENTS_DLX)
+                .durable(true)
+                .build();
+    }
+
     // ============= QUEUES =============
 
     @Bean
@@ -153,6 +222,12 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    @Bean
+    public Queue userEventsDeadLetterQueue() {
+        return QueueBuilder.durable(USER_EVENTS_DLQ)
+                .build();
+    }
+
     // ============= BINDINGS =============
 
     @Bean
@@ -173,7 +248,8 @@ public class RabbitMQConfig {
     public Binding feedbackEventsBinding() {
         return BindingBuilder.bind(feedbackEventsQueue())
                 .to(feedbackEventsExchange())
-                .with("feedback.*");
+                // "#" rather than "*": feedback.version.created has three words and "*" matches exactly one
+                .with("feedback.#");
     }
 
     @Bean
@@ -197,6 +273,13 @@ public class RabbitMQConfig {
                 .with(FEEDBACK_SUBMITTED_KEY);
     }
 
+    @Bean
+    public Binding userEventsDeadLetterBinding() {
+        return BindingBuilder.bind(userEventsDeadLetterQueue())
+                .to(userEventsDeadLetterExchange())
+                .with(USER_EVENTS_DLQ);
+    }
+
     @Bean
     public Queue userCreatedQueue() {
         return new Queue(RabbitMQConfig.USER_CREATED_KEY, true);
@@ -4,17 +4,22 @@ import com.talentradar.assessment_service.dto.assessment.request.AssessmentReque
 import com.talentradar.assessment_service.dto.assessment.response.AssessmentResponseDTO;
 import com.talentradar.assessment_service.dto.api.ApiResponse;
 import com.talentradar.assessment_service.dto.assessment.response.PaginatedResponseDTO;
+import com.talentradar.assessment_service.dto.assessmentImport.response.AssessmentImportResultDto;
+import com.talentradar.assessment_service.service.AssessmentImportService;
 import com.talentradar.assessment_service.service.AssessmentService;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @RestController
@@ -23,6 +28,7 @@ import java.util.UUID;
 public class AssessmentController {
 
     private final AssessmentService assessmentService;
+    private final AssessmentImportService assessmentImportService;
 
     @PostMapping
     @PreAuthorize("hasRole('DEVELOPER')")
@@ -40,9 +46,14 @@ public class AssessmentController {
     @PreAuthorize("hasRole('DEVELOPER') or hasRole('MANAGER')")
     public ResponseEntity<ApiResponse<PaginatedResponseDTO<AssessmentResponseDTO>>> getUserAssessments(
             @RequestHeader("X-User-Id") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @ParameterObject Pageable pageable) {
 
-        PaginatedResponseDTO<AssessmentResponseDTO> pagedAssessments = assessmentService.getAllAssessmentsByUser(userId, pageable);
+        // A cursor, or opting out of the total, switches to keyset pages that cost the same at any depth
+        PaginatedResponseDTO<AssessmentResponseDTO> pagedAssessments = cursor != null || !includeTotal
+                ? assessmentService.getAssessmentsByUser(userId, cursor, pageable.getPageSize(), includeTotal)
+                : assessmentService.getAllAssessmentsByUser(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(pagedAssessments));
     }
 
@@ -57,4 +68,20 @@ public class AssessmentController {
         AssessmentResponseDTO response = assessmentService.updateAssessment(assessmentId, requestDto, userId);
         return ResponseEntity.ok(ApiResponse.success(response, "Assessment updated successfully"));
     }
+
+    /**
+     * Bulk-imports historical self-assessments from an NDJSON or CSV body. The body is streamed, and invalid
+     * records are reported by line number without stopping the import.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<AssessmentImportResultDto>> importAssessments(HttpServletRequest request)
+            throws IOException {
+        AssessmentImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? AssessmentImportService.Format.NDJSON
+                : AssessmentImportService.Format.CSV;
+        AssessmentImportResultDto result = assessmentImportService.importAssessments(request.getInputStream(), format);
+        return ResponseEntity.ok(ApiResponse.success(result, "Assessment import completed"));
+    }
 }
@@ -4,6 +4,7 @@ import com.talentradar.assessment_service.dto.api.ApiResponse;
 import com.talentradar.assessment_service.dto.assessment.response.PaginatedResponseDTO;
 import com.talentradar.assessment_service.dto.comment.request.CreateCommentDto;
 import com.talentradar.assessment_service.dto.comment.response.CommentDto;
+import com.talentradar.assessment_service.dto.feedback.request.BulkCreateFeedbackDto;
 import com.talentradar.assessment_service.dto.feedback.request.CreateCompleteFeedbackDto;
 import com.talentradar.assessment_service.dto.feedback.request.FeedbackSearchCriteria;
 import com.talentradar.assessment_service.dto.feedback.response.FeedbackDto;
@@ -14,9 +15,11 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,6 +29,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FeedbackController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final FeedbackService feedbackService;
     private final CommentService commentService;
 
@@ -36,6 +41,20 @@ public class FeedbackController {
         List<FeedbackDto> feedback = feedbackService.getAllFeedback();
         return ResponseEntity.ok(ApiResponse.success(feedback, "Feedbacks and retrieved successfully"));
     }
+
+    /**
+     * Streams matching feedback as newline-delimited JSON, one {@link FeedbackDto} per line, oldest first.
+     * Unlike {@link #getAllFeedback()} nothing is collected in memory, so it is safe for the full dataset.
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportFeedbacks(@ParameterObject FeedbackSearchCriteria criteria) {
+        StreamingResponseBody body = out -> feedbackService.exportFeedbacks(criteria, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
     @PreAuthorize("hasRole('MANAGER') OR hasRole('DEVELOPER')")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<FeedbackDto>> getFeedbackById(@PathVariable UUID id) {
@@ -87,6 +106,15 @@ public class FeedbackController {
                 .body(ApiResponse.success(createdFeedback, "Complete feedback created successfully"));
     }
 
+    @PreAuthorize("hasRole('MANAGER')")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<FeedbackDto>>> createCompleteFeedbacks(
+            @Valid @RequestBody BulkCreateFeedbackDto bulkDto) {
+        List<FeedbackDto> createdFeedbacks = feedbackService.createCompleteFeedbacks(bulkDto.getFeedbacks());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(createdFeedbacks, "Complete feedbacks created successfully"));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<FeedbackDto>> updateCompleteFeedback(
             @PathVariable UUID id,
@@ -162,8 +190,13 @@ public class FeedbackController {
     @PreAuthorize("hasRole('MANAGER') or hasRole('DEVELOPER')")
     public ResponseEntity<ApiResponse<PaginatedResponseDTO<FeedbackDto>>> searchFeedbacks(
             @ParameterObject FeedbackSearchCriteria criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @ParameterObject Pageable pageable) {
-        PaginatedResponseDTO<FeedbackDto> feedbacks = feedbackService.searchFeedbacks(criteria, pageable);
+        // A cursor, or opting out of the total, switches to keyset pages that cost the same at any depth
+        PaginatedResponseDTO<FeedbackDto> feedbacks = cursor != null || !includeTotal
+                ? feedbackService.searchFeedbacks(criteria, cursor, pageable.getPageSize(), includeTotal)
+                : feedbackService.searchFeedbacks(criteria, pageable);
         return ResponseEntity.ok(ApiResponse.success(feedbacks, "Feedbacks retrieved successfully"));
     }
 }
\ No newline at end of file
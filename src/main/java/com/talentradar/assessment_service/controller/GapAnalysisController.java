@@ -0,0 +1,41 @@
+package com.talentradar.assessment_service.controller;
+
+import com.talentradar.assessment_service.dto.api.ApiResponse;
+import com.talentradar.assessment_service.dto.gapAnalysis.response.GapDistributionDto;
+import com.talentradar.assessment_service.service.TeamDashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/gap-analysis")
+@RequiredArgsConstructor
+public class GapAnalysisController {
+
+    private final TeamDashboardService teamDashboardService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<GapDistributionDto>> getOrganizationGapDistribution() {
+        GapDistributionDto distribution = teamDashboardService.getOrganizationGapDistribution();
+        return ResponseEntity.ok(
+            ApiResponse.success(distribution, "Gap distribution retrieved successfully")
+        );
+    }
+
+    @GetMapping("/team")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<GapDistributionDto>> getTeamGapDistribution(
+            @RequestHeader("X-User-Id") UUID managerId) {
+        GapDistributionDto distribution = teamDashboardService.getTeamGapDistribution(managerId);
+        return ResponseEntity.ok(
+            ApiResponse.success(distribution, "Team gap distribution retrieved successfully")
+        );
+    }
+}
@@ -1,8 +1,10 @@
 package com.talentradar.assessment_service.controller;
 
 import com.talentradar.assessment_service.dto.api.ApiResponse;
+import com.talentradar.assessment_service.dto.teamDashboard.response.TeamDashboardDto;
 import com.talentradar.assessment_service.dto.userSnapshot.request.AssignDeveloperToManagerDto;
 import com.talentradar.assessment_service.dto.userSnapshot.response.UserSnapshotDto;
+import com.talentradar.assessment_service.service.TeamDashboardService;
 import com.talentradar.assessment_service.service.UserSnapshotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import java.util.UUID;
 public class UserSnapshotController {
 
     private final UserSnapshotService userSnapshotService;
+    private final TeamDashboardService teamDashboardService;
 
     @GetMapping("/developers")
     @PreAuthorize("hasRole('MANAGER')")
@@ -30,6 +33,16 @@ public class UserSnapshotController {
         );
     }
 
+    @GetMapping("/developers/dashboard")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<TeamDashboardDto>> getTeamDashboard(
+            @RequestHeader("X-User-Id") UUID managerId) {
+        TeamDashboardDto dashboard = teamDashboardService.getTeamDashboard(managerId);
+        return ResponseEntity.ok(
+            ApiResponse.success(dashboard, "Team dashboard retrieved successfully")
+        );
+    }
+
     @PatchMapping("/developers/{developerId}/assign")
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<UserSnapshotDto>> assignDeveloperToManager(
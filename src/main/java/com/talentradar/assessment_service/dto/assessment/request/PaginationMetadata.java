@@ -10,11 +10,15 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 public class PaginationMetadata {
-    private int page;
+    // Null for cursor pages, which have no page number
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    // Null when the caller opted out of counting
+    private Long totalElements;
+    private Integer totalPages;
     private boolean hasNext;
     private boolean hasPrevious;
+    // Token for the next cursor page, null on the last page
+    private String nextCursor;
 }
 
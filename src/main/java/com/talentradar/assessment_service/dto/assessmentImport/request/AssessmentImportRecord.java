@@ -0,0 +1,28 @@
+package com.talentradar.assessment_service.dto.assessmentImport.request;
+
+import com.talentradar.assessment_service.dto.assessment.request.DimensionRatingDTO;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One historical self-assessment in a bulk import, as one NDJSON line or one CSV row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssessmentImportRecord {
+    private UUID userId;
+    private String reflection;
+    private SubmissionStatus status;
+    // Original submission time; defaults to the import time when absent
+    private LocalDateTime createdAt;
+    private List<DimensionRatingDTO> dimensions;
+}
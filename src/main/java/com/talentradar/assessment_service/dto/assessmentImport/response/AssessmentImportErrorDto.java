@@ -0,0 +1,16 @@
+package com.talentradar.assessment_service.dto.assessmentImport.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssessmentImportErrorDto {
+    // 1-based line number in the uploaded file
+    private long line;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.talentradar.assessment_service.dto.assessmentImport.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssessmentImportResultDto {
+    private long received;
+    private long imported;
+    private long failed;
+    private List<AssessmentImportErrorDto> errors;
+    // True when more records failed than are listed in errors
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,24 @@
+package com.talentradar.assessment_service.dto.feedback.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateFeedbackDto {
+
+    // All feedbacks are created in one transaction, so the batch is bounded
+    @NotEmpty(message = "Feedbacks are required")
+    @Size(max = 200, message = "At most 200 feedbacks can be submitted at once")
+    @Valid
+    private List<CreateCompleteFeedbackDto> feedbacks;
+}
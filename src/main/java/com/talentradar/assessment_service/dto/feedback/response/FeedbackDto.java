@@ -19,6 +19,7 @@ public class FeedbackDto {
     private UUID managerId;
     private UUID developerId;
     private int feedbackVersion;
+    private Integer averageScore;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<FeedbackDimensionDto> dimensions;
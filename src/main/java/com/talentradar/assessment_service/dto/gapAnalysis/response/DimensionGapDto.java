@@ -0,0 +1,22 @@
+package com.talentradar.assessment_service.dto.gapAnalysis.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DimensionGapDto {
+    private UUID dimensionDefinitionId;
+    private String dimensionName;
+    private long developers;
+    private BigDecimal averageGap;
+    private List<GapBucketDto> buckets; // ordered by gap, most underrated by the manager first
+}
@@ -0,0 +1,15 @@
+package com.talentradar.assessment_service.dto.gapAnalysis.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GapBucketDto {
+    private int gap; // manager rating - self rating
+    private long developers;
+}
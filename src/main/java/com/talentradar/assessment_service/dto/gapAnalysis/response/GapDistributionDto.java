@@ -0,0 +1,18 @@
+package com.talentradar.assessment_service.dto.gapAnalysis.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GapDistributionDto {
+    private UUID managerId; // null for the organisation-wide distribution
+    private List<DimensionGapDto> dimensions;
+}
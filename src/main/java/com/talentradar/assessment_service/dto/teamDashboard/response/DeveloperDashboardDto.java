@@ -0,0 +1,25 @@
+package com.talentradar.assessment_service.dto.teamDashboard.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeveloperDashboardDto {
+    private UUID developerId;
+    private String fullName;
+    private String username;
+    private Integer latestAverageScore;
+    private LocalDateTime latestAssessmentAt;
+    private Integer latestFeedbackVersion;
+    private LocalDateTime latestFeedbackAt;
+    private List<DimensionDeltaDto> dimensions;
+}
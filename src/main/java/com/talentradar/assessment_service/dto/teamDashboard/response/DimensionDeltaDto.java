@@ -0,0 +1,21 @@
+package com.talentradar.assessment_service.dto.teamDashboard.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DimensionDeltaDto {
+    private UUID dimensionDefinitionId;
+    private String dimensionName;
+    private Integer selfRating;
+    private Integer managerRating;
+    // managerRating - selfRating; null until both ratings exist
+    private Integer delta;
+}
@@ -0,0 +1,18 @@
+package com.talentradar.assessment_service.dto.teamDashboard.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamDashboardDto {
+    private UUID managerId;
+    private List<DeveloperDashboardDto> developers;
+}
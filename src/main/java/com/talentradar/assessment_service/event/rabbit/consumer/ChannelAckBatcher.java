@@ -0,0 +1,130 @@
+package com.talentradar.assessment_service.event.rabbit.consumer;
+
+import com.rabbitmq.client.Channel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Batches acknowledgements for one channel into {@code basicAck(tag, multiple = true)} calls.
+ * <p>
+ * Deliveries complete out of order when they are spread across lanes, so a multiple-ack may only cover
+ * the contiguous run of settled delivery tags starting at the oldest outstanding one. Failed deliveries
+ * are nacked individually and straight away. A nacked tag no longer counts as unacked at the broker, so a
+ * later multiple-ack may span it, but must never name it. All channel calls are serialised on one lock.
+ */
+@Slf4j
+class ChannelAckBatcher {
+
+    private final Channel channel;
+    private final int batchSize;
+    // A lock rather than synchronized: acks and nacks are network writes made from the lane threads, and
+    // blocking inside a monitor would pin a virtual thread to its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Deque<Long> outstanding = new ArrayDeque<>();
+    private final Set<Long> acked = new HashSet<>();
+    private final Set<Long> nacked = new HashSet<>();
+    private long ackableUpTo = -1;
+    private long lastAcked = -1;
+    private int pendingAcks;
+
+    ChannelAckBatcher(Channel channel, int batchSize) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Records a delivery in the order the broker handed it out. Must be called from the listener thread
+     * before the delivery is handed to a lane.
+     */
+    void register(long deliveryTag) {
+        lock.lock();
+        try {
+            outstanding.addLast(deliveryTag);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void complete(long deliveryTag) {
+        lock.lock();
+        try {
+            acked.add(deliveryTag);
+            pendingAcks++;
+            advance();
+            if (pendingAcks >= batchSize) {
+                flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void fail(long deliveryTag) {
+        lock.lock();
+        try {
+            try {
+                // Reject and requeue the message
+                channel.basicNack(deliveryTag, false, true);
+            } catch (Exception e) {
+                log.error("Failed to nack message: {}", e.getMessage());
+            }
+            nacked.add(deliveryTag);
+            advance();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acks everything up to the highest contiguous settled delivery tag.
+     */
+    void flush() {
+        lock.lock();
+        try {
+            if (ackableUpTo <= lastAcked) {
+                return;
+            }
+            try {
+                channel.basicAck(ackableUpTo, true);
+                lastAcked = ackableUpTo;
+                pendingAcks = 0;
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to ack messages up to delivery tag {}: {}", ackableUpTo, e.getMessage());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    int outstanding() {
+        lock.lock();
+        try {
+            return outstanding.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void advance() {
+        while (!outstanding.isEmpty()) {
+            long oldest = outstanding.peekFirst();
+            if (acked.remove(oldest)) {
+                ackableUpTo = oldest;
+            } else if (!nacked.remove(oldest)) {
+                return;
+            }
+            outstanding.pollFirst();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.talentradar.assessment_service.event.rabbit.consumer;
+
+import com.talentradar.assessment_service.config.RabbitMQConfig;
+import com.talentradar.assessment_service.event.UserEvent;
+import com.talentradar.assessment_service.event.rabbit.publisher.ConfirmingPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides what happens to a user event that failed to apply.
+ * <p>
+ * Failed attempts are counted per event (by eventId, falling back to the message id or body). Until
+ * {@code user-events.dead-letter.max-attempts} is reached the caller should nack and requeue; after that
+ * the message is republished to {@link RabbitMQConfig#USER_EVENTS_DLQ} with the failure recorded in its
+ * headers, and the caller can ack the original. The counts live in a bounded in-memory window, so a
+ * restart gives every message a fresh set of attempts.
+ */
+@Component
+@Slf4j
+public class PoisonMessageHandler {
+
+    static final String ATTEMPTS_HEADER = "x-attempts";
+    static final String EXCEPTION_HEADER = "x-exception-message";
+    static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+    static final String ORIGINAL_ROUTING_KEY_HEADER = "x-original-routing-key";
+
+    private static final int MAX_TRACKED_MESSAGES = 10_000;
+
+    private final ConfirmingPublisher confirmingPublisher;
+    private final int maxAttempts;
+    private final Duration publishTimeout;
+    private final Counter deadLettered;
+    private final Map<String, Integer> attempts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_TRACKED_MESSAGES;
+        }
+    };
+
+    public PoisonMessageHandler(ConfirmingPublisher confirmingPublisher,
+                                MeterRegistry meterRegistry,
+                                @Value("${user-events.dead-letter.max-attempts:5}") int maxAttempts,
+                                @Value("${user-events.dead-letter.publish-timeout:PT10S}") Duration publishTimeout) {
+        this.confirmingPublisher = confirmingPublisher;
+        this.maxAttempts = maxAttempts;
+        this.publishTimeout = publishTimeout;
+        this.deadLettered = Counter.builder("assessment.user_events.dead_lettered")
+                .description("User events moved to the dead-letter queue after exhausting their attempts")
+                .register(meterRegistry);
+    }
+
+    public static String keyOf(UserEvent userEvent, Message message) {
+        if (userEvent != null && userEvent.getEventId() != null) {
+            return userEvent.getEventId();
+        }
+        String messageId = message.getMessageProperties().getMessageId();
+        return messageId != null ? messageId : "body:" + Arrays.hashCode(message.getBody());
+    }
+
+    /**
+     * Records a failed attempt.
+     *
+     * @return {@code true} if the message has been moved to the dead-letter queue and the original can be
+     * acked; {@code false} if it should be requeued
+     */
+    public boolean handleFailure(String key, Message message, Exception error) {
+        int attempt;
+        synchronized (attempts) {
+            attempt = attempts.merge(key, 1, Integer::sum);
+        }
+        if (attempt < maxAttempts) {
+            log.warn("User event {} failed on attempt {}/{}, requeueing", key, attempt, maxAttempts);
+            return false;
+        }
+
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(ATTEMPTS_HEADER, attempt);
+        properties.setHeader(EXCEPTION_HEADER, String.valueOf(error.getMessage()));
+        properties.setHeader(ORIGINAL_QUEUE_HEADER, properties.getConsumerQueue());
+        properties.setHeader(ORIGINAL_ROUTING_KEY_HEADER, properties.getReceivedRoutingKey());
+        try {
+            confirmingPublisher.publish(RabbitMQConfig.USER_EVENTS_DLX, RabbitMQConfig.USER_EVENTS_DLQ, message)
+                    .get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Failed to dead-letter user event {}, requeueing instead: {}", key, e.getMessage());
+            return false;
+        }
+
+        clear(key);
+        deadLettered.increment();
+        log.error("Moved user event {} to {} after {} failed attempts: {}",
+                key, RabbitMQConfig.USER_EVENTS_DLQ, attempt, error.getMessage());
+        return true;
+    }
+
+    public void clear(String key) {
+        synchronized (attempts) {
+            attempts.remove(key);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.talentradar.assessment_service.event.rabbit.consumer;
+
+import com.rabbitmq.client.Channel;
+import com.talentradar.assessment_service.config.RabbitMQConfig;
+import com.talentradar.assessment_service.event.UserEvent;
+import com.talentradar.assessment_service.service.UserSnapshotSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch alternative to {@link UserEventConsumer}, enabled with {@code user-events.listener.mode=batch}.
+ * <p>
+ * The container hands over up to {@code user-events.listener.batch-size} deliveries, or whatever arrived
+ * within {@code batch-receive-timeout-ms}. The whole batch is applied in one transaction and then acked
+ * with a single {@code multiple = true} call. If the batch fails, its events are retried one at a time so
+ * that a single poison message is requeued or dead-lettered on its own instead of holding back the rest.
+ */
+@Component
+@ConditionalOnProperty(name = "user-events.listener.mode", havingValue = "batch")
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventBatchConsumer {
+
+    private final UserSnapshotSyncService userSnapshotSyncService;
+    private final PoisonMessageHandler poisonMessageHandler;
+    private final MessageConverter messageConverter;
+
+    @RabbitListener(queues = RabbitMQConfig.USER_UPDATED_KEY, containerFactory = "userEventBatchListenerContainerFactory")
+    @RabbitListener(queues = RabbitMQConfig.USER_CREATED_KEY, containerFactory = "userEventBatchListenerContainerFactory")
+    public void handleUserEvents(List<Message<UserEvent>> messages, Channel channel) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<UserEvent> userEvents = messages.stream().map(Message::getPayload).toList();
+
+        log.info("👍 Received batch of {} user events", userEvents.size());
+        try {
+            userSnapshotSyncService.applyBatch(userEvents);
+        } catch (Exception e) {
+            log.error("Error processing user event batch of {}, retrying events individually: {}",
+                    userEvents.size(), e.getMessage(), e);
+            applyIndividually(messages, channel);
+            return;
+        }
+
+        long lastDeliveryTag = messages.stream().mapToLong(UserEventBatchConsumer::deliveryTag).max().getAsLong();
+        try {
+            channel.basicAck(lastDeliveryTag, true);
+        } catch (Exception ackError) {
+            log.error("Failed to ack message batch up to delivery tag {}: {}", lastDeliveryTag, ackError.getMessage());
+        }
+    }
+
+    private void applyIndividually(List<Message<UserEvent>> messages, Channel channel) {
+        ChannelAckBatcher acks = new ChannelAckBatcher(channel, Integer.MAX_VALUE);
+        messages.forEach(message -> acks.register(deliveryTag(message)));
+
+        for (Message<UserEvent> message : messages) {
+            UserEvent userEvent = message.getPayload();
+            org.springframework.amqp.core.Message amqpMessage = toAmqpMessage(message);
+            String key = PoisonMessageHandler.keyOf(userEvent, amqpMessage);
+            try {
+                userSnapshotSyncService.apply(userEvent);
+                poisonMessageHandler.clear(key);
+                acks.complete(deliveryTag(message));
+            } catch (Exception e) {
+                log.error("Error processing user event: {}", e.getMessage(), e);
+                if (poisonMessageHandler.handleFailure(key, amqpMessage, e)) {
+                    acks.complete(deliveryTag(message));
+                } else {
+                    acks.fail(deliveryTag(message));
+                }
+            }
+        }
+        acks.flush();
+    }
+
+    private org.springframework.amqp.core.Message toAmqpMessage(Message<UserEvent> message) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(message.getHeaders().get(AmqpHeaders.CONSUMER_QUEUE, String.class));
+        properties.setReceivedRoutingKey(message.getHeaders().get(AmqpHeaders.RECEIVED_ROUTING_KEY, String.class));
+        properties.setMessageId(message.getHeaders().get(AmqpHeaders.MESSAGE_ID, String.class));
+        return messageConverter.toMessage(message.getPayload(), properties);
+    }
+
+    private static long deliveryTag(Message<UserEvent> message) {
+        return message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+    }
+}
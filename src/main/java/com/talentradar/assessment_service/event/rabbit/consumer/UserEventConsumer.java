@@ -3,118 +3,95 @@ package com.talentradar.assessment_service.event.rabbit.consumer;
 import com.rabbitmq.client.Channel;
 import com.talentradar.assessment_service.config.RabbitMQConfig;
 import com.talentradar.assessment_service.event.UserEvent;
-import com.talentradar.assessment_service.model.UserRole;
-import com.talentradar.assessment_service.model.UserSnapshot;
-import com.talentradar.assessment_service.repository.UserSnapshotRepository;
-import lombok.RequiredArgsConstructor;
+import com.talentradar.assessment_service.service.UserSnapshotSyncService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.Optional;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Keeps user snapshots in sync with the user service.
+ * <p>
+ * The listener thread only records the delivery and hands it to {@link UserEventLanes}; the snapshot
+ * update runs on the lane that owns the event's userId, so per-user ordering holds while different users
+ * are processed in parallel. Acks are sent in batches with {@code multiple = true}, either once
+ * {@code user-events.listener.ack-batch-size} deliveries have completed or on the periodic flush.
+ * Failed events are requeued until {@link PoisonMessageHandler} moves them to the dead-letter queue.
+ */
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-events.listener.mode", havingValue = "lanes", matchIfMissing = true)
 @Slf4j
 public class UserEventConsumer {
 
+    private final UserSnapshotSyncService userSnapshotSyncService;
+    private final UserEventLanes lanes;
+    private final PoisonMessageHandler poisonMessageHandler;
+    private final int ackBatchSize;
+
+    private final Map<Channel, ChannelAckBatcher> ackBatchers = new ConcurrentHashMap<>();
+
+    public UserEventConsumer(UserSnapshotSyncService userSnapshotSyncService,
+                             UserEventLanes lanes,
+                             PoisonMessageHandler poisonMessageHandler,
+                             @Value("${user-events.listener.ack-batch-size:20}") int ackBatchSize) {
+        this.userSnapshotSyncService = userSnapshotSyncService;
+        this.lanes = lanes;
+        this.poisonMessageHandler = poisonMessageHandler;
+        this.ackBatchSize = ackBatchSize;
+    }
 
-    private final UserSnapshotRepository userSnapshotRepository;
-
-    // Single listener method for the queue - handles all user events
-    @RabbitListener(queues = RabbitMQConfig.USER_UPDATED_KEY)
-    @RabbitListener(queues = RabbitMQConfig.USER_CREATED_KEY)
-    @Transactional
+    // Single listener method for the queues - handles all user events
+    @RabbitListener(queues = RabbitMQConfig.USER_UPDATED_KEY, containerFactory = "userEventListenerContainerFactory")
+    @RabbitListener(queues = RabbitMQConfig.USER_CREATED_KEY, containerFactory = "userEventListenerContainerFactory")
     public void handleUserEvent(UserEvent userEvent, Message message, Channel channel) {
-        try {
-            log.info("👍 Received user event: {} for user: {}", userEvent.getEventType(), userEvent.getUserId());
-            log.debug("Event data: {}", userEvent);
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        ChannelAckBatcher acks = ackBatchers.computeIfAbsent(channel, c -> new ChannelAckBatcher(c, ackBatchSize));
+        acks.register(deliveryTag);
 
-            // Handle different event types
-            switch (userEvent.getEventType().name()) {
-                case "USER_CREATED":
-                case "USER_UPDATED":
-                    handleUserCreatedOrUpdated(userEvent);
-                    break;
-                case "USER_DELETED":
-                    handleUserDeleted(userEvent);
-                    break;
-                default:
-                    log.warn("Unknown event type: {}", userEvent.getEventType());
-            }
-
-            // Acknowledge the message
-            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
-            log.info("Successfully processed user event: {} for user: {}",
-                    userEvent.getEventType(), userEvent.getUserId());
+        log.info("👍 Received user event: {} for user: {}", userEvent.getEventType(), userEvent.getUserId());
+        log.debug("Event data: {}", userEvent);
 
-        } catch (Exception e) {
-            log.error("Error processing user event: {}", e.getMessage(), e);
-            try {
-                // Reject and requeue the message
-                channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, true);
-            } catch (Exception nackError) {
-                log.error("Failed to nack message: {}", nackError.getMessage());
-            }
+        try {
+            lanes.submit(userEvent.getUserId(), () -> process(userEvent, message, acks));
+        } catch (RejectedExecutionException e) {
+            log.warn("User event lanes are shutting down, requeueing event for user: {}", userEvent.getUserId());
+            acks.fail(deliveryTag);
         }
     }
 
-    private void handleUserCreatedOrUpdated(UserEvent userEvent) {
-        try {
-            log.info("Processing user created/updated event for userId: {}", userEvent.getUserId());
-
-            Optional<UserSnapshot> existingSnapshot = userSnapshotRepository.findByUserId(userEvent.getUserId());
-
-            if (existingSnapshot.isPresent()) {
-                // Update existing snapshot
-                UserSnapshot snapshot = existingSnapshot.get();
-                snapshot.setManagerId(existingSnapshot.get().getManagerId());
-                snapshot.setFullName(userEvent.getFullName());
-                snapshot.setUsername(userEvent.getUsername());
-                snapshot.setRole(UserRole.valueOf(existingSnapshot.get().getRole().name()));
-                snapshot.setId(existingSnapshot.get().getId());
-                snapshot.setUserId(existingSnapshot.get().getUserId());
-                snapshot.setEmail(existingSnapshot.get().getEmail());
-
-                userSnapshotRepository.save(snapshot);
-                log.info("Updated user snapshot for userId: {}", userEvent.getUserId());
-            } else {
-                // Create new snapshot
-                UserSnapshot snapshot = UserSnapshot.builder()
-                        .userId(userEvent.getUserId())
-                        .managerId(userEvent.getManagerId())
-                        .fullName(userEvent.getFullName())
-                        .username(userEvent.getUsername())
-                        .email(userEvent.getEmail())
-                        .role(UserRole.valueOf(userEvent.getRole().name()))
-                        .build();
-
-                userSnapshotRepository.save(snapshot);
-                log.info("Created new user snapshot for userId: {}", userEvent.getUserId());
-            }
-        } catch (Exception e) {
-            log.error("Error handling user created/updated: {}", e.getMessage(), e);
-            throw e; // Re-throw to trigger message requeue
-        }
+    /**
+     * Sends any acks still held back by a partially filled batch and forgets channels that have closed;
+     * the broker redelivers whatever was unacked on them.
+     */
+    @Scheduled(fixedDelayString = "${user-events.listener.ack-flush-interval-ms:200}")
+    public void flushAcks() {
+        ackBatchers.entrySet().removeIf(entry -> !entry.getValue().isOpen());
+        ackBatchers.values().forEach(ChannelAckBatcher::flush);
     }
 
-    private void handleUserDeleted(UserEvent userEvent) {
+    private void process(UserEvent userEvent, Message message, ChannelAckBatcher acks) {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        String key = PoisonMessageHandler.keyOf(userEvent, message);
         try {
-            log.info("Processing user deleted event for userId: {}", userEvent.getUserId());
-
-            Optional<UserSnapshot> existingSnapshot = userSnapshotRepository.findByUserId(userEvent.getUserId());
-
-            if (existingSnapshot.isPresent()) {
-                userSnapshotRepository.delete(existingSnapshot.get());
-                log.info("Deleted user snapshot for userId: {}", userEvent.getUserId());
+            userSnapshotSyncService.apply(userEvent);
+            poisonMessageHandler.clear(key);
+            acks.complete(deliveryTag);
+            log.info("Successfully processed user event: {} for user: {}",
+                    userEvent.getEventType(), userEvent.getUserId());
+        } catch (Exception e) {
+            log.error("Error processing user event: {}", e.getMessage(), e);
+            if (poisonMessageHandler.handleFailure(key, message, e)) {
+                acks.complete(deliveryTag);
             } else {
-                log.warn("Attempted to delete non-existent user snapshot for userId: {}", userEvent.getUserId());
+                acks.fail(deliveryTag);
             }
-        } catch (Exception e) {
-            log.error("Error handling user deleted: {}", e.getMessage(), e);
-            throw e; // Re-throw to trigger message requeue
         }
     }
-}
\ No newline at end of file
+}
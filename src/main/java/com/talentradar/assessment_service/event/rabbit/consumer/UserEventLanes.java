@@ -0,0 +1,81 @@
+package com.talentradar.assessment_service.event.rabbit.consumer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed set of single-threaded processing lanes for user events.
+ * <p>
+ * Each event is routed to a lane by hashing its userId, so events for the same user are processed one at
+ * a time and in the order they were submitted, while events for different users run in parallel across
+ * {@code user-events.listener.lanes} threads.
+ */
+@Component
+@ConditionalOnProperty(name = "user-events.listener.mode", havingValue = "lanes", matchIfMissing = true)
+@Slf4j
+public class UserEventLanes {
+
+    private final List<ExecutorService> lanes;
+
+    public UserEventLanes(@Value("${user-events.listener.lanes:8}") int laneCount,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("user-events.listener.lanes must be at least 1");
+        }
+        List<ExecutorService> executors = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            String name = "user-event-lane-" + i;
+            // Still one thread per lane, so per-user ordering is unchanged
+            ThreadFactory threadFactory = virtualThreads
+                    ? Thread.ofVirtual().name(name).factory()
+                    : runnable -> new Thread(runnable, name);
+            executors.add(Executors.newSingleThreadExecutor(threadFactory));
+        }
+        this.lanes = List.copyOf(executors);
+    }
+
+    /**
+     * Queues a task on the lane owned by the given user.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the lanes are shutting down
+     */
+    public void submit(UUID userId, Runnable task) {
+        lanes.get(laneOf(userId)).execute(task);
+    }
+
+    public int size() {
+        return lanes.size();
+    }
+
+    int laneOf(UUID userId) {
+        return Math.floorMod(Objects.hashCode(userId), lanes.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(ExecutorService::shutdown);
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("User event lane did not drain before shutdown, unacked messages will be redelivered");
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lanes.forEach(ExecutorService::shutdownNow);
+        }
+    }
+}
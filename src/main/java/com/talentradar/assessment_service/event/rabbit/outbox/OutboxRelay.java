@@ -0,0 +1,226 @@
+package com.talentradar.assessment_service.event.rabbit.outbox;
+
+import com.talentradar.assessment_service.event.rabbit.publisher.ConfirmingPublisher;
+import com.talentradar.assessment_service.event.rabbit.publisher.UnroutableMessageException;
+import com.talentradar.assessment_service.model.OutboxEvent;
+import com.talentradar.assessment_service.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes pending outbox rows to RabbitMQ in batches.
+ * <p>
+ * Each run claims up to {@code outbox.relay.batch-size} unpublished rows in a short transaction: they are
+ * selected {@code FOR UPDATE SKIP LOCKED} and leased by pushing {@code next_attempt_at} past the confirm wait,
+ * so other instances skip them without the row locks or a connection being held while the broker answers.
+ * The batch is then handed to the {@link ConfirmingPublisher}, its confirms are awaited, and the outcome is
+ * recorded in a second short transaction. Only confirmed rows are marked as published; rows the publisher gave
+ * up on stay pending and are picked up again on a later run, as are the rows of a relay that died mid-batch
+ * once their lease runs out. Delivery is therefore at-least-once and consumers dedupe on the event id.
+ * <p>
+ * A failed row is held back with exponential backoff ({@code outbox.relay.initial-backoff} doubling up to
+ * {@code max-backoff}) so it cannot block newer events at the head of every batch. After
+ * {@code outbox.relay.max-attempts} failures it is parked: it is never selected again and is counted in
+ * {@code assessment.outbox.parked}. Clearing {@code parked_at} puts it back in the queue. A row the broker
+ * returned as unroutable is parked straight away, since no retry can route it.
+ * <p>
+ * A batch is awaited for at least the publisher's whole retry budget, so a row is not marked failed while the
+ * publisher may still deliver it. Anything unresolved at the deadline is cancelled before it is marked failed.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    // Time past the confirm wait for the outcome to be recorded before another run may claim the rows again
+    private static final Duration CLAIM_MARGIN = Duration.ofMinutes(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ConfirmingPublisher confirmingPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration batchWait;
+    private final Duration claimLease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final Counter parked;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ConfirmingPublisher confirmingPublisher,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.confirm-timeout:PT30S}") Duration confirmTimeout,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.initial-backoff:PT5S}") Duration initialBackoff,
+                       @Value("${outbox.relay.max-backoff:PT15M}") Duration maxBackoff,
+                       @Value("${outbox.retention:P7D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.confirmingPublisher = confirmingPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        // A shorter wait would mark rows failed that the publisher is still retrying, duplicating them later
+        Duration publisherBudget = confirmingPublisher.maxConfirmTime();
+        this.batchWait = confirmTimeout.compareTo(publisherBudget) >= 0 ? confirmTimeout : publisherBudget;
+        this.claimLease = batchWait.plus(CLAIM_MARGIN);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.parked = Counter.builder("assessment.outbox.parked")
+                .description("Outbox events parked after exhausting their relay attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relayPending() {
+        // Keep draining while full batches are being confirmed; anything left over waits for the next run
+        int confirmed;
+        do {
+            confirmed = relayBatch();
+        } while (confirmed == batchSize);
+    }
+
+    @Scheduled(cron = "${outbox.cleanup-cron:0 0 3 * * *}")
+    public void purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+        log.info("Purged {} published outbox events older than {}", deleted, cutoff);
+    }
+
+    /**
+     * Claims one batch, sends it and records the outcome. Must not run inside a transaction: the claim and the
+     * outcome each commit on their own, and nothing is held open while the confirms are awaited.
+     *
+     * @return number of rows confirmed by the broker in this batch
+     */
+    int relayBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<InFlight> inFlight = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            inFlight.add(new InFlight(event,
+                    confirmingPublisher.publish(event.getExchange(), event.getRoutingKey(), toMessage(event))));
+        }
+
+        // Confirms (and any retries) proceed concurrently; wait for the whole batch against one deadline
+        List<UUID> confirmed = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        List<UUID> unroutable = new ArrayList<>();
+        long deadline = System.nanoTime() + batchWait.toNanos();
+        for (InFlight entry : inFlight) {
+            UUID id = entry.event().getId();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                entry.result().get(remaining, TimeUnit.NANOSECONDS);
+                confirmed.add(id);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UnroutableMessageException) {
+                    log.error("Parking outbox event {} to exchange={} routingKey={}: {}", id,
+                            entry.event().getExchange(), entry.event().getRoutingKey(), e.getCause().getMessage());
+                    unroutable.add(id);
+                } else {
+                    log.warn("Outbox event {} was not confirmed: {}", id, e.getCause().getMessage());
+                    failed.add(entry.event());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entry.result().cancel(false);
+                failed.add(entry.event());
+            } catch (Exception e) {
+                // Stop the publisher's retries so the row is only sent again by a later run
+                entry.result().cancel(false);
+                log.warn("Outbox event {} was not confirmed: {}", id, e.getMessage());
+                failed.add(entry.event());
+            }
+        }
+
+        transactionTemplate.execute(status -> {
+            recordOutcome(confirmed, failed, unroutable);
+            return null;
+        });
+        return confirmed.size();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize, now);
+        if (!batch.isEmpty()) {
+            outboxEventRepository.claim(batch.stream().map(OutboxEvent::getId).toList(), now.plus(claimLease));
+        }
+        return batch;
+    }
+
+    private void recordOutcome(List<UUID> confirmed, List<OutboxEvent> failed, List<UUID> unroutable) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!confirmed.isEmpty()) {
+            outboxEventRepository.markPublished(confirmed, now);
+        }
+        List<UUID> retry = new ArrayList<>();
+        List<UUID> exhausted = new ArrayList<>();
+        for (OutboxEvent event : failed) {
+            if (event.getAttempts() + 1 >= maxAttempts) {
+                log.error("Parking outbox event {} to exchange={} routingKey={} after {} failed attempts",
+                        event.getId(), event.getExchange(), event.getRoutingKey(), event.getAttempts() + 1);
+                exhausted.add(event.getId());
+            } else {
+                retry.add(event.getId());
+            }
+        }
+        if (!retry.isEmpty()) {
+            outboxEventRepository.markFailed(retry, "Publish not confirmed by broker", now,
+                    initialBackoff.toMillis(), maxBackoff.toMillis());
+        }
+        if (!exhausted.isEmpty()) {
+            outboxEventRepository.markParked(exhausted, "Publish not confirmed by broker", now);
+            parked.increment(exhausted.size());
+        }
+        if (!unroutable.isEmpty()) {
+            outboxEventRepository.markParked(unroutable, "Returned by broker as unroutable", now);
+            parked.increment(unroutable.size());
+        }
+
+        log.debug("Relayed outbox batch: {} confirmed, {} pending retry, {} parked",
+                confirmed.size(), retry.size(), exhausted.size() + unroutable.size());
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(event.getId().toString());
+        if (event.getPayloadType() != null) {
+            properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getPayloadType());
+        }
+        byte[] body = event.getPayload().getBytes(StandardCharsets.UTF_8);
+        properties.setContentLength(body.length);
+        return new Message(body, properties);
+    }
+
+    private record InFlight(OutboxEvent event, CompletableFuture<Void> result) {
+    }
+}
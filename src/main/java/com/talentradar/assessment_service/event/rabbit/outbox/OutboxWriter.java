@@ -0,0 +1,50 @@
+package com.talentradar.assessment_service.event.rabbit.outbox;
+
+import com.talentradar.assessment_service.model.OutboxEvent;
+import com.talentradar.assessment_service.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records outgoing events in the outbox table as part of the caller's transaction.
+ * <p>
+ * Payloads are serialised with the same {@link MessageConverter} the {@code RabbitTemplate} uses, so the
+ * bytes and the {@code __TypeId__} header that {@link OutboxRelay} eventually publishes are identical to
+ * what a direct {@code convertAndSend} would have produced.
+ * <p>
+ * The row must commit or roll back with the change it describes, so a caller without a transaction is refused
+ * and a failed insert is never swallowed: it fails the caller's write.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessageConverter messageConverter;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String exchange, String routingKey, Object payload) {
+        Message message = messageConverter.toMessage(payload, new MessageProperties());
+        Object typeId = message.getMessageProperties().getHeaders().get(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .payloadType(typeId != null ? typeId.toString() : null)
+                .build();
+
+        outboxEventRepository.save(outboxEvent);
+        log.debug("Queued outbox event exchange={} routingKey={} type={}", exchange, routingKey, outboxEvent.getPayloadType());
+    }
+}
@@ -1,117 +1,115 @@
 package com.talentradar.assessment_service.event.rabbit.producer;
 
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
 import com.talentradar.assessment_service.config.RabbitMQConfig;
 import com.talentradar.assessment_service.event.AssessmentEvent;
 import com.talentradar.assessment_service.event.AssessmentEventType;
 import com.talentradar.assessment_service.event.UserContext;
+import com.talentradar.assessment_service.event.rabbit.outbox.OutboxWriter;
 import com.talentradar.assessment_service.model.Assessment;
 import com.talentradar.assessment_service.model.UserSnapshot;
-import com.talentradar.assessment_service.repository.UserSnapshotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AssessmentEventProducer {
-    private final RabbitTemplate rabbitTemplate;
-    private final UserSnapshotRepository userSnapshotRepository;
+    private final OutboxWriter outboxWriter;
+    private final UserSnapshotCache userSnapshotCache;
 
     public void publishAssessmentSubmitted(Assessment assessment) {
-        try {
-            UserSnapshot userSnapshot = userSnapshotRepository.findByUserId(assessment.getUserId())
-                    .orElseThrow(() -> new RuntimeException("User snapshot not found for userId: " + assessment.getUserId()));
-
-            UserContext userContext = UserContext.builder()
-                    .userId(userSnapshot.getUserId())
-                    .fullName(userSnapshot.getFullName())
-                    .username(userSnapshot.getUsername())
-                    .email(userSnapshot.getEmail())
-                    .role(userSnapshot.getRole().name())
-                    .managerId(userSnapshot.getManagerId())
-                    .build();
-
-            AssessmentEvent assessmentEvent = AssessmentEvent.builder()
-                    .eventType(AssessmentEventType.ASSESSMENT_SUBMITTED)
-                    .assessmentId(assessment.getId())
-                    .userId(assessment.getUserId())
-                    .reflection(assessment.getReflection())
-                    .averageScore(assessment.getAverageScore())
-                    .submissionStatus(assessment.getSubmissionStatus().name())
-                    .timestamp(LocalDateTime.now())
-                    .eventId(UUID.randomUUID().toString())
-                    .source("assessment-service")
-                    .userContext(userContext)
-                    .build();
-
-            // Send to assessment events exchange
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE,
+        Optional<UserContext> found = userContext(assessment);
+        if (found.isEmpty()) {
+            return;
+        }
+        UserContext userContext = found.get();
+
+        AssessmentEvent assessmentEvent = AssessmentEvent.builder()
+                .eventType(AssessmentEventType.ASSESSMENT_SUBMITTED)
+                .assessmentId(assessment.getId())
+                .userId(assessment.getUserId())
+                .reflection(assessment.getReflection())
+                .averageScore(assessment.getAverageScore())
+                .submissionStatus(assessment.getSubmissionStatus().name())
+                .timestamp(LocalDateTime.now())
+                .eventId(UUID.randomUUID().toString())
+                .source("assessment-service")
+                .userContext(userContext)
+                .build();
+
+        // Queue for the assessment events exchange; the outbox relay publishes after commit. A failed insert
+        // propagates and rolls back the submission with it.
+        outboxWriter.enqueue(
+                RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE,
+                RabbitMQConfig.ASSESSMENT_SUBMITTED_KEY,
+                assessmentEvent
+        );
+
+        // Also send to notification service for the manager
+        if (userContext.getManagerId() != null) {
+            outboxWriter.enqueue(
+                    RabbitMQConfig.NOTIFICATION_EVENTS_EXCHANGE,
                     RabbitMQConfig.ASSESSMENT_SUBMITTED_KEY,
-                    assessmentEvent
+                    createNotificationEvent(assessmentEvent, userContext)
             );
-
-            // Also send to notification service for the manager
-            if (userContext.getManagerId() != null) {
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConfig.NOTIFICATION_EVENTS_EXCHANGE,
-                        RabbitMQConfig.ASSESSMENT_SUBMITTED_KEY,
-                        createNotificationEvent(assessmentEvent, userContext)
-                );
-            }
-
-            log.info("Successfully published assessment event for assessmentId: {}", assessment.getId());
-
-        } catch (Exception e) {
-            log.error("Error publishing assessment event for assessmentId: {}: {}",
-                    assessment.getId(), e.getMessage(), e);
         }
+
+        log.info("Successfully published assessment event for assessmentId: {}", assessment.getId());
     }
 
     public void publishAssessmentUpdated(Assessment assessment) {
-        try {
-            UserSnapshot userSnapshot = userSnapshotRepository.findByUserId(assessment.getUserId())
-                    .orElseThrow(() -> new RuntimeException("User snapshot not found for userId: " + assessment.getUserId()));
-
-            UserContext userContext = UserContext.builder()
-                    .userId(userSnapshot.getUserId())
-                    .fullName(userSnapshot.getFullName())
-                    .username(userSnapshot.getUsername())
-                    .email(userSnapshot.getEmail())
-                    .role(userSnapshot.getRole().name())
-                    .managerId(userSnapshot.getManagerId())
-                    .build();
-
-            AssessmentEvent assessmentEvent = AssessmentEvent.builder()
-                    .eventType(AssessmentEventType.ASSESSMENT_UPDATED)
-                    .assessmentId(assessment.getId())
-                    .userId(assessment.getUserId())
-                    .reflection(assessment.getReflection())
-                    .averageScore(assessment.getAverageScore())
-                    .submissionStatus(assessment.getSubmissionStatus().name())
-                    .timestamp(LocalDateTime.now())
-                    .eventId(UUID.randomUUID().toString())
-                    .source("assessment-service")
-                    .userContext(userContext)
-                    .build();
-
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE,
-                    "assessment.updated",
-                    assessmentEvent
-            );
+        Optional<UserContext> found = userContext(assessment);
+        if (found.isEmpty()) {
+            return;
+        }
 
-            log.info("Successfully published assessment updated event for assessmentId: {}", assessment.getId());
+        AssessmentEvent assessmentEvent = AssessmentEvent.builder()
+                .eventType(AssessmentEventType.ASSESSMENT_UPDATED)
+                .assessmentId(assessment.getId())
+                .userId(assessment.getUserId())
+                .reflection(assessment.getReflection())
+                .averageScore(assessment.getAverageScore())
+                .submissionStatus(assessment.getSubmissionStatus().name())
+                .timestamp(LocalDateTime.now())
+                .eventId(UUID.randomUUID().toString())
+                .source("assessment-service")
+                .userContext(found.get())
+                .build();
+
+        outboxWriter.enqueue(
+                RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE,
+                "assessment.updated",
+                assessmentEvent
+        );
+
+        log.info("Successfully published assessment updated event for assessmentId: {}", assessment.getId());
+    }
 
-        } catch (Exception e) {
-            log.error("Error publishing assessment updated event for assessmentId: {}: {}",
-                    assessment.getId(), e.getMessage(), e);
+    /**
+     * Events carry the user's context, so without a synced snapshot the event is skipped rather than failing
+     * the user's write.
+     */
+    private Optional<UserContext> userContext(Assessment assessment) {
+        Optional<UserSnapshot> userSnapshot = userSnapshotCache.find(assessment.getUserId());
+        if (userSnapshot.isEmpty()) {
+            log.error("Skipping assessment event for assessmentId: {}: user snapshot not found for userId: {}",
+                    assessment.getId(), assessment.getUserId());
+            return Optional.empty();
         }
+        return userSnapshot.map(snapshot -> UserContext.builder()
+                .userId(snapshot.getUserId())
+                .fullName(snapshot.getFullName())
+                .username(snapshot.getUsername())
+                .email(snapshot.getEmail())
+                .role(snapshot.getRole().name())
+                .managerId(snapshot.getManagerId())
+                .build());
     }
 
     private Object createNotificationEvent(AssessmentEvent assessmentEvent, UserContext userContext) {
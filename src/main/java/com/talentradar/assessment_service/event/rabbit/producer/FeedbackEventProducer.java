@@ -1,17 +1,17 @@
 package com.talentradar.assessment_service.event.rabbit.producer;
 
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
 import com.talentradar.assessment_service.config.RabbitMQConfig;
 import com.talentradar.assessment_service.dto.analysis.FeedbackAnalysisDto;
 import com.talentradar.assessment_service.event.FeedbackEvent;
 import com.talentradar.assessment_service.event.FeedbackEventType;
 import com.talentradar.assessment_service.event.UserContext;
+import com.talentradar.assessment_service.event.rabbit.outbox.OutboxWriter;
 import com.talentradar.assessment_service.model.Feedback;
 import com.talentradar.assessment_service.model.UserSnapshot;
-import com.talentradar.assessment_service.repository.UserSnapshotRepository;
 import com.talentradar.assessment_service.service.impl.FeedbackAnalysisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -21,8 +21,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 public class FeedbackEventProducer {
-    private final RabbitTemplate rabbitTemplate;
-    private final UserSnapshotRepository userSnapshotRepository;
+    private final OutboxWriter outboxWriter;
+    private final UserSnapshotCache userSnapshotCache;
     private final FeedbackAnalysisService feedbackAnalysisService;
 
     public void publishFeedbackCreated(Feedback feedback) {
@@ -48,83 +48,74 @@ public class FeedbackEventProducer {
      * Publishes a feedback.submitted event with combined assessment and feedback data for AI analysis
      */
     private void publishFeedbackSubmittedForAnalysis(Feedback feedback) {
-        try {
-            log.info("Publishing feedback.submitted event for analysis - feedbackId: {}", feedback.getId());
+        log.info("Publishing feedback.submitted event for analysis - feedbackId: {}", feedback.getId());
 
-            // Create the combined analysis DTO
-            FeedbackAnalysisDto analysisDto = feedbackAnalysisService.createAnalysisDto(feedback);
+        // Create the combined analysis DTO
+        FeedbackAnalysisDto analysisDto = feedbackAnalysisService.createAnalysisDto(feedback);
 
-            // Send to analysis queue using the feedback.submitted routing key
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.ANALYSIS_EVENTS_EXCHANGE,
-                    RabbitMQConfig.FEEDBACK_SUBMITTED_KEY,
-                    analysisDto
-            );
-
-            log.info("Successfully published feedback.submitted event for analysis - userId: {}, feedbackId: {}",
-                    analysisDto.getUserId(), feedback.getId());
+        // Send to analysis queue using the feedback.submitted routing key
+        outboxWriter.enqueue(
+                RabbitMQConfig.ANALYSIS_EVENTS_EXCHANGE,
+                RabbitMQConfig.FEEDBACK_SUBMITTED_KEY,
+                analysisDto
+        );
 
-        } catch (Exception e) {
-            log.error("Error publishing feedback.submitted event for analysis - feedbackId: {}: {}",
-                    feedback.getId(), e.getMessage(), e);
-            // Don't throw exception to avoid breaking the main feedback creation flow
-        }
+        log.info("Successfully published feedback.submitted event for analysis - userId: {}, feedbackId: {}",
+                analysisDto.getUserId(), feedback.getId());
     }
 
+    /**
+     * Queues the event in the caller's transaction. Nothing here is caught: a failed outbox insert has already
+     * marked the transaction for rollback, so the feedback write must fail with it.
+     */
     private void publishFeedbackEvent(Feedback feedback, FeedbackEventType eventType) {
-        try {
-            UserContext managerContext = getUserContext(feedback.getManagerId());
-            UserContext developerContext = getUserContext(feedback.getDeveloperId());
-
-            FeedbackEvent feedbackEvent = FeedbackEvent.builder()
-                    .eventType(eventType)
-                    .feedbackId(feedback.getId())
-                    .managerId(feedback.getManagerId())
-                    .developerId(feedback.getDeveloperId())
-                    .feedbackVersion(feedback.getFeedbackVersion())
-                    .timestamp(LocalDateTime.now())
-                    .eventId(UUID.randomUUID().toString())
-                    .source("assessment-service")
-                    .managerContext(managerContext)
-                    .developerContext(developerContext)
-                    .build();
-
-            // Send to feedback events exchange
-            rabbitTemplate.convertAndSend(
-                    RabbitMQConfig.FEEDBACK_EVENTS_EXCHANGE,
-                    getRoutingKey(eventType),
-                    feedbackEvent
+        UserContext managerContext = getUserContext(feedback.getManagerId());
+        UserContext developerContext = getUserContext(feedback.getDeveloperId());
+
+        FeedbackEvent feedbackEvent = FeedbackEvent.builder()
+                .eventType(eventType)
+                .feedbackId(feedback.getId())
+                .managerId(feedback.getManagerId())
+                .developerId(feedback.getDeveloperId())
+                .feedbackVersion(feedback.getFeedbackVersion())
+                .timestamp(LocalDateTime.now())
+                .eventId(UUID.randomUUID().toString())
+                .source("assessment-service")
+                .managerContext(managerContext)
+                .developerContext(developerContext)
+                .build();
+
+        // Queue for the feedback events exchange; the outbox relay publishes after commit
+        outboxWriter.enqueue(
+                RabbitMQConfig.FEEDBACK_EVENTS_EXCHANGE,
+                getRoutingKey(eventType),
+                feedbackEvent
+        );
+
+        // Also send to notification service if it's a creation event
+        if (eventType == FeedbackEventType.FEEDBACK_CREATED) {
+            outboxWriter.enqueue(
+                    RabbitMQConfig.NOTIFICATION_EVENTS_EXCHANGE,
+                    RabbitMQConfig.FEEDBACK_CREATED_KEY,
+                    createNotificationEvent(feedbackEvent, developerContext)
             );
-
-            // Also send to notification service if it's a creation event
-            if (eventType == FeedbackEventType.FEEDBACK_CREATED) {
-                rabbitTemplate.convertAndSend(
-                        RabbitMQConfig.NOTIFICATION_EVENTS_EXCHANGE,
-                        RabbitMQConfig.FEEDBACK_CREATED_KEY,
-                        createNotificationEvent(feedbackEvent, developerContext)
-                );
-            }
-
-            log.info("Successfully published feedback event: {} for feedbackId: {}",
-                    eventType, feedback.getId());
-
-        } catch (Exception e) {
-            log.error("Error publishing feedback event {} for feedbackId: {}: {}",
-                    eventType, feedback.getId(), e.getMessage(), e);
         }
+
+        log.info("Successfully published feedback event: {} for feedbackId: {}",
+                eventType, feedback.getId());
     }
 
     private String getRoutingKey(FeedbackEventType eventType) {
         return switch (eventType) {
-            case FEEDBACK_CREATED -> "feedback.created";
-            case FEEDBACK_UPDATED -> "feedback.updated";
-            case FEEDBACK_DELETED -> "feedback.deleted";
-            case FEEDBACK_VERSION_CREATED -> "feedback.version.created";
+            case FEEDBACK_CREATED -> RabbitMQConfig.FEEDBACK_CREATED_KEY;
+            case FEEDBACK_UPDATED -> RabbitMQConfig.FEEDBACK_UPDATED_KEY;
+            case FEEDBACK_DELETED -> RabbitMQConfig.FEEDBACK_DELETED_KEY;
+            case FEEDBACK_VERSION_CREATED -> RabbitMQConfig.FEEDBACK_VERSION_CREATED_KEY;
         };
     }
 
     private UserContext getUserContext(UUID userId) {
-        return userSnapshotRepository.findByUserId(userId)
+        return userSnapshotCache.find(userId)
                 .map(userSnapshot -> UserContext.builder()
                         .userId(userSnapshot.getUserId())
                         .fullName(userSnapshot.getFullName())
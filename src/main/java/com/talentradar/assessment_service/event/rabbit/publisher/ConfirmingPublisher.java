@@ -0,0 +1,259 @@
+package com.talentradar.assessment_service.event.rabbit.publisher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes messages with correlated publisher confirms without blocking on each confirm.
+ * <p>
+ * At most {@code rabbitmq.publisher.max-in-flight} messages may be awaiting a confirm at any time;
+ * callers block (up to {@code acquire-timeout}) once the window is full. Every publish is tracked by
+ * correlation id until it is acked. Nacks and missing confirms are retried with exponential backoff up to
+ * {@code max-attempts}, after which the returned future fails. Unroutable returns fail at once with
+ * {@link UnroutableMessageException}, since resending cannot route them.
+ * <p>
+ * The returned future completes within {@link #maxConfirmTime()}. A caller that stops waiting earlier should
+ * cancel it: no further retries are sent, although an attempt already on the wire may still be delivered.
+ */
+@Component
+@Slf4j
+public class ConfirmingPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Semaphore window;
+    private final Duration acquireTimeout;
+    private final Duration confirmTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final double backoffMultiplier;
+
+    private final Map<String, PendingPublish> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Timer publishLatency;
+    private final Timer confirmLag;
+    private final Counter retries;
+    private final MeterRegistry meterRegistry;
+
+    public ConfirmingPublisher(RabbitTemplate rabbitTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${rabbitmq.publisher.max-in-flight:256}") int maxInFlight,
+                               @Value("${rabbitmq.publisher.acquire-timeout:PT5S}") Duration acquireTimeout,
+                               @Value("${rabbitmq.publisher.confirm-timeout:PT5S}") Duration confirmTimeout,
+                               @Value("${rabbitmq.publisher.max-attempts:5}") int maxAttempts,
+                               @Value("${rabbitmq.publisher.initial-backoff:PT0.2S}") Duration initialBackoff,
+                               @Value("${rabbitmq.publisher.backoff-multiplier:2.0}") double backoffMultiplier,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.window = new Semaphore(maxInFlight);
+        this.acquireTimeout = acquireTimeout;
+        this.confirmTimeout = confirmTimeout;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.backoffMultiplier = backoffMultiplier;
+        this.meterRegistry = meterRegistry;
+        // Retries resend on this thread, so it follows spring.threads.virtual.enabled like the relay that calls us
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(virtualThreads
+                ? Thread.ofVirtual().name("rabbit-publish-retry").factory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "rabbit-publish-retry");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.publishLatency = Timer.builder("assessment.rabbit.publish.latency")
+                .description("Time spent handing a message to the broker connection")
+                .register(meterRegistry);
+        this.confirmLag = Timer.builder("assessment.rabbit.confirm.lag")
+                .description("Time between sending a message and receiving its publisher confirm")
+                .register(meterRegistry);
+        this.retries = Counter.builder("assessment.rabbit.publish.retries")
+                .description("Publishes retried after a nack, return or missing confirm")
+                .register(meterRegistry);
+        Gauge.builder("assessment.rabbit.publish.in_flight", pending, Map::size)
+                .description("Messages currently awaiting a publisher confirm")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends a message and returns a future that completes once the broker has confirmed it, or fails once
+     * all attempts are exhausted.
+     */
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Message message) {
+        try {
+            if (!window.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                outcome("window_full");
+                return CompletableFuture.failedFuture(
+                        new AmqpException("Publisher in-flight window is full, message not sent"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new AmqpException("Interrupted while waiting to publish", e));
+        }
+
+        PendingPublish publish = new PendingPublish(UUID.randomUUID().toString(), exchange, routingKey, message);
+        pending.put(publish.correlationId, publish);
+        // A cancelled publish frees its permit now; scheduled retries see the completed future and stop
+        publish.result.whenComplete((ignored, error) -> {
+            if (publish.result.isCancelled()) {
+                outcome("cancelled");
+                finish(publish, null);
+            }
+        });
+        send(publish);
+        return publish.result;
+    }
+
+    public int inFlight() {
+        return pending.size();
+    }
+
+    /**
+     * Upper bound on how long a publish can stay unresolved: every attempt waiting out its confirm timeout,
+     * plus the backoff between attempts.
+     */
+    public Duration maxConfirmTime() {
+        Duration total = confirmTimeout.multipliedBy(maxAttempts);
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            total = total.plusMillis(backoffMillis(attempt));
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        if (!pending.isEmpty()) {
+            log.warn("Shutting down with {} unconfirmed publishes", pending.size());
+        }
+    }
+
+    private void send(PendingPublish publish) {
+        if (publish.result.isDone()) {
+            return;
+        }
+        publish.attempts++;
+        CorrelationData correlation = new CorrelationData(publish.correlationId);
+
+        long start = System.nanoTime();
+        try {
+            rabbitTemplate.send(publish.exchange, publish.routingKey, publish.message, correlation);
+        } catch (RuntimeException e) {
+            publishLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            outcome("send_failed");
+            retryOrFail(publish, "send failed: " + e.getMessage());
+            return;
+        }
+        long sentAt = System.nanoTime();
+        publishLatency.record(sentAt - start, TimeUnit.NANOSECONDS);
+
+        correlation.getFuture()
+                .orTimeout(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    confirmLag.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                    if (error != null) {
+                        outcome("timeout");
+                        retryOrFail(publish, "no confirm within " + confirmTimeout);
+                    } else if (!confirm.isAck()) {
+                        outcome("nack");
+                        retryOrFail(publish, "nacked: " + confirm.getReason());
+                    } else if (correlation.getReturned() != null) {
+                        ReturnedMessage returned = correlation.getReturned();
+                        outcome("returned");
+                        log.error("Message {} to exchange={} routingKey={} is unroutable: {} {}",
+                                publish.messageId(), publish.exchange, publish.routingKey,
+                                returned.getReplyCode(), returned.getReplyText());
+                        finish(publish, new UnroutableMessageException(
+                                "Returned as unroutable: " + returned.getReplyCode() + " " + returned.getReplyText()));
+                    } else {
+                        outcome("ack");
+                        finish(publish, null);
+                    }
+                });
+    }
+
+    private void retryOrFail(PendingPublish publish, String reason) {
+        if (publish.result.isDone()) {
+            return;
+        }
+        if (publish.attempts >= maxAttempts) {
+            log.error("Giving up on message {} to exchange={} routingKey={} after {} attempts: {}",
+                    publish.messageId(), publish.exchange, publish.routingKey, publish.attempts, reason);
+            outcome("exhausted");
+            finish(publish, new AmqpException("Publish not confirmed after " + publish.attempts + " attempts: " + reason));
+            return;
+        }
+
+        long delayMillis = backoffMillis(publish.attempts);
+        log.warn("Retrying message {} in {} ms (attempt {}/{}): {}",
+                publish.messageId(), delayMillis, publish.attempts + 1, maxAttempts, reason);
+        retries.increment();
+        try {
+            retryScheduler.schedule(() -> send(publish), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            finish(publish, new AmqpException("Retry could not be scheduled: " + reason, e));
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        return (long) (initialBackoff.toMillis() * Math.pow(backoffMultiplier, attempt - 1));
+    }
+
+    private void finish(PendingPublish publish, AmqpException failure) {
+        if (pending.remove(publish.correlationId) == null) {
+            return;
+        }
+        window.release();
+        if (failure == null) {
+            publish.result.complete(null);
+        } else {
+            publish.result.completeExceptionally(failure);
+        }
+    }
+
+    private void outcome(String result) {
+        meterRegistry.counter("assessment.rabbit.publish.outcomes", "result", result).increment();
+    }
+
+    private static final class PendingPublish {
+        private final String correlationId;
+        private final String exchange;
+        private final String routingKey;
+        private final Message message;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private volatile int attempts;
+
+        private PendingPublish(String correlationId, String exchange, String routingKey, Message message) {
+            this.correlationId = correlationId;
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.message = message;
+        }
+
+        private String messageId() {
+            String messageId = message.getMessageProperties().getMessageId();
+            return messageId != null ? messageId : correlationId;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.talentradar.assessment_service.event.rabbit.publisher;
+
+import org.springframework.amqp.AmqpException;
+
+/**
+ * The broker returned a mandatory message because no queue is bound for its routing key. Resending it
+ * cannot succeed until the topology changes, so {@link ConfirmingPublisher} fails it without retrying.
+ */
+public class UnroutableMessageException extends AmqpException {
+    public UnroutableMessageException(String message) {
+        super(message);
+    }
+}
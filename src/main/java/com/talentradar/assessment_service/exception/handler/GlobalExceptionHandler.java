@@ -2,8 +2,11 @@ package com.talentradar.assessment_service.exception.handler;
 
 import com.talentradar.assessment_service.dto.api.ApiResponse;
 import com.talentradar.assessment_service.exception.*;
+import com.talentradar.assessment_service.model.Feedback;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -83,6 +86,19 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "Resource not found"));
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        // Only a taken feedback version is the client's conflict; any other violation is still a server error
+        if (!Feedback.VERSION_CONSTRAINT.equalsIgnoreCase(constraintName(ex))) {
+            return handleGenericException(ex);
+        }
+        log.error("Feedback version conflict: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("This feedback version already exists for the manager and developer",
+                        "Conflict"));
+    }
+
     @ExceptionHandler(DuplicateSubmissionException.class)
     public ResponseEntity<ApiResponse<Void>> handleDuplicateSubmission(DuplicateSubmissionException ex) {
         log.error("Duplicate Submission: {}", ex.getMessage());
@@ -91,4 +107,12 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "Duplicate submission"));
     }
 
-}
\ No newline at end of file
+    private static String constraintName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+}
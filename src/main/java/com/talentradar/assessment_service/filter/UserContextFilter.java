@@ -1,10 +1,13 @@
 package com.talentradar.assessment_service.filter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,15 +15,47 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authenticates requests from the user headers set by the gateway.
+ * <p>
+ * In lean mode (the default) the filter does not log on the request path, apart from a sampled DEBUG line
+ * ({@code assessment.user-context.debug-sample-rate}), and never logs header values. Parsed
+ * {@code X-User-Role} values are cached, since the same few role strings arrive on every request. Verbose
+ * mode ({@code assessment.user-context.lean=false}) restores the INFO logging of every header for
+ * troubleshooting. The time spent in the filter itself, excluding the rest of the chain, is recorded as
+ * {@code assessment.user_context.duration}.
+ */
 @Slf4j
 @Component
 public class UserContextFilter extends OncePerRequestFilter {
 
+    private final boolean lean;
+    private final double debugSampleRate;
+    private final int roleCacheSize;
+    private final Map<String, List<SimpleGrantedAuthority>> parsedRoles = new ConcurrentHashMap<>();
+    private final Timer filterTimer;
+
+    public UserContextFilter(MeterRegistry meterRegistry,
+                             @Value("${assessment.user-context.lean:true}") boolean lean,
+                             @Value("${assessment.user-context.debug-sample-rate:0.01}") double debugSampleRate,
+                             @Value("${assessment.user-context.role-cache-size:256}") int roleCacheSize) {
+        this.lean = lean;
+        this.debugSampleRate = debugSampleRate;
+        this.roleCacheSize = roleCacheSize;
+        this.filterTimer = Timer.builder("assessment.user_context.duration")
+                .description("Time spent resolving the user context from request headers, excluding the rest of the chain")
+                .tag("mode", lean ? "lean" : "verbose")
+                .register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -28,6 +63,37 @@ public class UserContextFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        if (lean) {
+            authenticate(request);
+        } else {
+            authenticateVerbose(request);
+        }
+        filterTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        filterChain.doFilter(request, response);
+        if (!lean) {
+            log.info("UserContextFilter completed for path: {}", request.getRequestURI());
+        }
+    }
+
+    private void authenticate(HttpServletRequest request) {
+        String userId = request.getHeader("X-User-Id");
+        String userRoles = request.getHeader("X-User-Role");
+
+        boolean authenticated = false;
+        if (!isBlank(userId) && !isBlank(userRoles)) {
+            setAuthentication(userId, authorities(userRoles));
+            authenticated = true;
+        }
+
+        if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < debugSampleRate) {
+            log.debug("Sampled user context for path {}: userId={}, roles={}, authenticated={}",
+                    request.getRequestURI(), userId, userRoles, authenticated);
+        }
+    }
+
+    private void authenticateVerbose(HttpServletRequest request) {
         // Add this log to verify the filter is running
         log.info("UserContextFilter is executing for path: {}", request.getRequestURI());
 
@@ -49,25 +115,53 @@ public class UserContextFilter extends OncePerRequestFilter {
         log.info("Extracted headers - UserId: {}, UserEmail: {}, UserRoles: {}, UserName: {}, FullName: {}",
                 userId, userEmail, userRoles, userName, fullName);
 
-        if (userId != null && !userId.trim().isEmpty() &&
-                userRoles != null && !userRoles.trim().isEmpty()) {
-
-            List<SimpleGrantedAuthority> authorities = Arrays.stream(userRoles.split(","))
-                    .map(String::trim)
-                    .filter(role -> !role.isEmpty())
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userId, null, authorities);
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (!isBlank(userId) && !isBlank(userRoles)) {
+            List<SimpleGrantedAuthority> authorities = authorities(userRoles);
+            setAuthentication(userId, authorities);
             log.info("User authenticated successfully: {} with roles: {}", userId, authorities);
         } else {
             log.warn("Authentication failed - Missing or empty userId ({}) or userRoles ({})", userId, userRoles);
         }
+    }
 
-        filterChain.doFilter(request, response);
-        log.info("UserContextFilter completed for path: {}", request.getRequestURI());
+    private void setAuthentication(String userId, List<SimpleGrantedAuthority> authorities) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userId, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    /**
+     * Parsed authorities for a role header, cached per distinct header value. Once the cache is full new
+     * values are parsed on every request rather than evicting, so arbitrary headers cannot grow it.
+     */
+    private List<SimpleGrantedAuthority> authorities(String userRoles) {
+        List<SimpleGrantedAuthority> cached = parsedRoles.get(userRoles);
+        if (cached != null) {
+            return cached;
+        }
+        List<SimpleGrantedAuthority> parsed = parseRoles(userRoles);
+        if (parsedRoles.size() < roleCacheSize) {
+            parsedRoles.putIfAbsent(userRoles, parsed);
+        }
+        return parsed;
+    }
+
+    private static List<SimpleGrantedAuthority> parseRoles(String userRoles) {
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>(2);
+        int start = 0;
+        while (start <= userRoles.length()) {
+            int comma = userRoles.indexOf(',', start);
+            int end = comma < 0 ? userRoles.length() : comma;
+            String role = userRoles.substring(start, end).trim();
+            if (!role.isEmpty()) {
+                authorities.add(new SimpleGrantedAuthority(role));
+            }
+            start = end + 1;
+        }
+        return List.copyOf(authorities);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
-}
\ No newline at end of file
+}
@@ -13,7 +13,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "assessment")
+@Table(name = "assessment", indexes = {
+        @Index(name = "idx_assessment_user_status_created", columnList = "user_id, submission_status, created_at"),
+        @Index(name = "idx_assessment_user_created_id", columnList = "user_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -46,8 +49,13 @@ public class Assessment {
 
     @PrePersist
     protected void OnCreate() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        // Imported history arrives with its original timestamps
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+        if (this.updatedAt == null) {
+            this.updatedAt = LocalDateTime.now();
+        }
     }
 
     @PreUpdate
@@ -39,7 +39,9 @@ public class AssessmentDimension {
 
     @PrePersist
     protected void OnCreate() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 }
 
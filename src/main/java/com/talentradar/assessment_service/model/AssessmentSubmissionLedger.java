@@ -0,0 +1,30 @@
+package com.talentradar.assessment_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * When a user last submitted an assessment. The re-submission window is enforced by an atomic upsert on this
+ * row, see {@code AssessmentSubmissionLedgerRepository#claimSubmission}.
+ */
+@Entity
+@Table(name = "assessment_submission_ledger")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssessmentSubmissionLedger {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "last_submitted_at", nullable = false)
+    private LocalDateTime lastSubmittedAt;
+}
@@ -0,0 +1,51 @@
+package com.talentradar.assessment_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-developer summary served by the manager team dashboard. Rows are upserted by
+ * {@code TeamDashboardService} in the same transaction as the assessment or feedback write they reflect.
+ */
+@Entity
+@Table(name = "developer_rollup")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeveloperRollup {
+
+    @Id
+    @Column(name = "developer_id")
+    private UUID developerId;
+
+    @Column(name = "latest_assessment_id")
+    private UUID latestAssessmentId;
+
+    @Column(name = "latest_average_score")
+    private Integer latestAverageScore;
+
+    @Column(name = "latest_assessment_at")
+    private LocalDateTime latestAssessmentAt;
+
+    @Column(name = "latest_feedback_id")
+    private UUID latestFeedbackId;
+
+    @Column(name = "latest_feedback_manager_id")
+    private UUID latestFeedbackManagerId;
+
+    @Column(name = "latest_feedback_version")
+    private Integer latestFeedbackVersion;
+
+    @Column(name = "latest_feedback_at")
+    private LocalDateTime latestFeedbackAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
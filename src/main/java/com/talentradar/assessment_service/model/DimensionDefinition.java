@@ -30,6 +30,10 @@ public class DimensionDefinition {
     @Column(name = "dimension_name", nullable = false)
     private String dimensionName;
 
+    // Normalized dimensionName used as the score key in analysis payloads; see AnalysisKeyUtil
+    @Column(name = "analysis_key")
+    private String analysisKey;
+
     @Column(nullable = false)
     private String description;
 
@@ -0,0 +1,52 @@
+package com.talentradar.assessment_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A developer's latest self rating and latest manager rating for one dimension, and the gap between them.
+ */
+@Entity
+@Table(name = "dimension_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dimension_rollup_developer_dimension",
+                columnNames = {"developer_id", "dimension_definition_id"}),
+        indexes = @Index(name = "idx_dimension_rollup_dimension_gap", columnList = "dimension_definition_id, gap"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DimensionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "developer_id", nullable = false)
+    private UUID developerId;
+
+    @Column(name = "dimension_definition_id", nullable = false)
+    private UUID dimensionDefinitionId;
+
+    @Column(name = "self_rating")
+    private Integer selfRating;
+
+    @Column(name = "manager_rating")
+    private Integer managerRating;
+
+    // Feedback the manager rating came from, so deleting that feedback can clear it
+    @Column(name = "manager_feedback_id")
+    private UUID managerFeedbackId;
+
+    // managerRating - selfRating, stored so gap distributions are a grouped index scan; null until both exist
+    @Column(name = "gap")
+    private Integer gap;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
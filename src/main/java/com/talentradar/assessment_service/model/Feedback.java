@@ -9,13 +9,23 @@ import java.time.*;
 import java.util.*;
 
 @Entity
-@Table(name = "feedback")
+@Table(name = "feedback", uniqueConstraints = {
+        // Also serves the latest-version lookups that idx_feedback_manager_developer_version used to
+        @UniqueConstraint(name = Feedback.VERSION_CONSTRAINT,
+                columnNames = {"manager_id", "developer_id", "feedback_version"})
+}, indexes = {
+        @Index(name = "idx_feedback_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_feedback_developer_created_id", columnList = "developer_id, created_at, id"),
+        @Index(name = "idx_feedback_manager_created_id", columnList = "manager_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Feedback {
 
+    public static final String VERSION_CONSTRAINT = "uk_feedback_manager_developer_version";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -29,6 +39,9 @@ public class Feedback {
     @Column(name = "feedback_version", nullable = false)
     private int feedbackVersion;
 
+    @Column(name = "average_score")
+    private Integer averageScore;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -0,0 +1,43 @@
+package com.talentradar.assessment_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Last feedback version handed out for a (manager, developer) pair. Versions are allocated by an atomic upsert
+ * on this row, see {@code FeedbackVersionCounterRepository#allocate}.
+ */
+@Entity
+@Table(name = "feedback_version_counter")
+@IdClass(FeedbackVersionCounter.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedbackVersionCounter {
+
+    @Id
+    @Column(name = "manager_id")
+    private UUID managerId;
+
+    @Id
+    @Column(name = "developer_id")
+    private UUID developerId;
+
+    @Column(name = "last_version", nullable = false)
+    private int lastVersion;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID managerId;
+        private UUID developerId;
+    }
+}
@@ -0,0 +1,58 @@
+package com.talentradar.assessment_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id of an inbound event that has already been applied. Rows are written in the same transaction as the
+ * event's effects, so a redelivered event is recognised and skipped.
+ */
+@Entity
+@Table(name = "processed_event", indexes = {
+        @Index(name = "idx_processed_event_processed_at", columnList = "processed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedEvent implements Persistable<String> {
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    // The id is assigned by the producer, so tell Spring Data to persist rather than merge (no extra select)
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.processedAt = LocalDateTime.now();
+    }
+}
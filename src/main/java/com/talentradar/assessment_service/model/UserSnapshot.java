@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
-@Table(name = "user_snapshot")
+@Table(name = "user_snapshot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_snapshot_user_id", columnNames = "user_id"),
+        indexes = @Index(name = "idx_user_snapshot_manager_role", columnList = "manager_id, role"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,5 +40,10 @@ public class UserSnapshot {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private UserRole role;
+
+    // Set once the user has submitted any assessment; maintained by AssessmentServiceImpl, seeded on snapshot insert
+    @Column(name = "assessment_submitted", nullable = false, columnDefinition = "boolean default false not null")
+    @Builder.Default
+    private boolean assessmentSubmitted = false;
 }
 
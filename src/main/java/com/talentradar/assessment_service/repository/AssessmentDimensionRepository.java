@@ -2,6 +2,9 @@ package com.talentradar.assessment_service.repository;
 
 import com.talentradar.assessment_service.model.AssessmentDimension;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,5 +15,7 @@ public interface AssessmentDimensionRepository extends JpaRepository<AssessmentD
 
     List<AssessmentDimension> findByAssessmentId(UUID assessmentId);
 
-    void deleteByAssessmentId(UUID assessmentId);
+    @Modifying
+    @Query("DELETE FROM AssessmentDimension ad WHERE ad.assessment.id = :assessmentId")
+    void deleteByAssessmentId(@Param("assessmentId") UUID assessmentId); //Single bulk DELETE instead of load-then-delete per row
 }
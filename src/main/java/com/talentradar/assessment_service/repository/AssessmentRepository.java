@@ -10,23 +10,21 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 @Repository
 public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
 
-    boolean existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-            UUID userId,
-            SubmissionStatus status,
-            LocalDateTime after
-    ); //Find latest submission (to prevent re-submission within 30 days)
-
-    @Query("SELECT a FROM Assessment a " +
-            "LEFT JOIN FETCH a.dimensions d " +
-            "LEFT JOIN FETCH d.dimensionDefinition " +
+    // Pages ids only; the dimensions of a page are fetched afterwards with findAllWithDimensionsByIdIn.
+    // Fetch-joining a collection under a Pageable would make Hibernate page in memory.
+    @Query(value = "SELECT a.id FROM Assessment a " +
             "WHERE a.userId = :userId " +
-            "ORDER BY a.createdAt DESC")
-    Page<Assessment> findAllByUserIdWithDimensions(@Param("userId") UUID userId, Pageable pageable);
+            "ORDER BY a.createdAt DESC",
+            countQuery = "SELECT COUNT(a) FROM Assessment a WHERE a.userId = :userId")
+    Page<UUID> findIdPageByUserId(@Param("userId") UUID userId, Pageable pageable);
     @Query("SELECT a FROM Assessment a " +
             "LEFT JOIN FETCH a.dimensions d " +
             "LEFT JOIN FETCH d.dimensionDefinition " +
@@ -36,4 +34,37 @@ public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
     Optional<Assessment> findLatestSubmittedAssessmentByUserId(@Param("userId") UUID userId);
     boolean existsByUserIdAndSubmissionStatus(UUID userId, SubmissionStatus status);
 
+    Optional<Assessment> findTopByUserIdAndSubmissionStatusAndIdNotOrderByCreatedAtDesc(UUID userId,
+                                                                                       SubmissionStatus status,
+                                                                                       UUID excludedId);
+
+    @Query("SELECT DISTINCT a.userId FROM Assessment a " +
+            "WHERE a.userId IN :userIds " +
+            "AND a.submissionStatus = :status")
+    Set<UUID> findUserIdsWithSubmissionStatus(@Param("userIds") Collection<UUID> userIds,
+                                              @Param("status") SubmissionStatus status);
+
+    long countByUserId(UUID userId);
+
+    // Keyset pages select ids only, so the limit is applied by the database rather than after fetching
+    @Query("SELECT a.id FROM Assessment a " +
+            "WHERE a.userId = :userId " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<UUID> findIdsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT a.id FROM Assessment a " +
+            "WHERE a.userId = :userId " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<UUID> findIdsByUserIdAfter(@Param("userId") UUID userId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") UUID id,
+                                    Pageable pageable);
+
+    @Query("SELECT DISTINCT a FROM Assessment a " +
+            "LEFT JOIN FETCH a.dimensions d " +
+            "LEFT JOIN FETCH d.dimensionDefinition " +
+            "WHERE a.id IN :ids")
+    List<Assessment> findAllWithDimensionsByIdIn(@Param("ids") Collection<UUID> ids);
+
 }
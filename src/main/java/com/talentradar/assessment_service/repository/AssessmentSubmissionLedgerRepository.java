@@ -0,0 +1,46 @@
+package com.talentradar.assessment_service.repository;
+
+import com.talentradar.assessment_service.model.AssessmentSubmissionLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface AssessmentSubmissionLedgerRepository extends JpaRepository<AssessmentSubmissionLedger, UUID> {
+
+    /**
+     * Records a submission at {@code at} unless the user already submitted after {@code cutoff}. Returns 0 when
+     * the user is still inside the re-submission window. The upsert locks the user's row until the caller
+     * commits, so of two concurrent submits the second waits and then sees the first one's timestamp.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO assessment_submission_ledger (user_id, last_submitted_at) " +
+            "VALUES (:userId, :at) " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "last_submitted_at = EXCLUDED.last_submitted_at " +
+            "WHERE assessment_submission_ledger.last_submitted_at <= :cutoff",
+            nativeQuery = true)
+    int claimSubmission(@Param("userId") UUID userId,
+                        @Param("at") LocalDateTime at,
+                        @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Records a submission without enforcing the window, keeping the later of the recorded and given times.
+     * Used by the bulk import, whose records carry their original submission dates.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO assessment_submission_ledger (user_id, last_submitted_at) " +
+            "VALUES (:userId, :at) " +
+            "ON CONFLICT (user_id) DO UPDATE SET " +
+            "last_submitted_at = GREATEST(assessment_submission_ledger.last_submitted_at, EXCLUDED.last_submitted_at)",
+            nativeQuery = true)
+    int recordSubmission(@Param("userId") UUID userId,
+                         @Param("at") LocalDateTime at);
+
+    boolean existsByUserIdAndLastSubmittedAtAfter(UUID userId, LocalDateTime after);
+}
@@ -0,0 +1,86 @@
+package com.talentradar.assessment_service.repository;
+
+import com.talentradar.assessment_service.model.DeveloperRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface DeveloperRollupRepository extends JpaRepository<DeveloperRollup, UUID> {
+
+    /**
+     * Records a submitted assessment as the developer's latest unless a newer one is already recorded.
+     * The upsert locks the developer's row either way, which serialises rollup writes per developer.
+     * Returns 0 when the write was older than the recorded one.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO developer_rollup (developer_id, latest_assessment_id, latest_average_score, " +
+            "latest_assessment_at, updated_at) " +
+            "VALUES (:developerId, :assessmentId, :averageScore, :at, :at) " +
+            "ON CONFLICT (developer_id) DO UPDATE SET " +
+            "latest_assessment_id = EXCLUDED.latest_assessment_id, " +
+            "latest_average_score = EXCLUDED.latest_average_score, " +
+            "latest_assessment_at = EXCLUDED.latest_assessment_at, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "WHERE developer_rollup.latest_assessment_at IS NULL " +
+            "OR developer_rollup.latest_assessment_at <= EXCLUDED.latest_assessment_at",
+            nativeQuery = true)
+    int upsertLatestAssessment(@Param("developerId") UUID developerId,
+                               @Param("assessmentId") UUID assessmentId,
+                               @Param("averageScore") int averageScore,
+                               @Param("at") LocalDateTime at);
+
+    /**
+     * Records a feedback as the developer's latest unless a newer one is already recorded. Same locking and
+     * return value as {@link #upsertLatestAssessment}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO developer_rollup (developer_id, latest_feedback_id, latest_feedback_manager_id, " +
+            "latest_feedback_version, latest_feedback_at, updated_at) " +
+            "VALUES (:developerId, :feedbackId, :managerId, :feedbackVersion, :at, :at) " +
+            "ON CONFLICT (developer_id) DO UPDATE SET " +
+            "latest_feedback_id = EXCLUDED.latest_feedback_id, " +
+            "latest_feedback_manager_id = EXCLUDED.latest_feedback_manager_id, " +
+            "latest_feedback_version = EXCLUDED.latest_feedback_version, " +
+            "latest_feedback_at = EXCLUDED.latest_feedback_at, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "WHERE developer_rollup.latest_feedback_at IS NULL " +
+            "OR developer_rollup.latest_feedback_at <= EXCLUDED.latest_feedback_at",
+            nativeQuery = true)
+    int upsertLatestFeedback(@Param("developerId") UUID developerId,
+                             @Param("feedbackId") UUID feedbackId,
+                             @Param("managerId") UUID managerId,
+                             @Param("feedbackVersion") int feedbackVersion,
+                             @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE DeveloperRollup r SET r.latestFeedbackManagerId = :managerId, " +
+            "r.latestFeedbackVersion = :feedbackVersion, r.updatedAt = :at " +
+            "WHERE r.developerId = :developerId AND r.latestFeedbackId = :feedbackId")
+    int refreshLatestFeedback(@Param("developerId") UUID developerId,
+                              @Param("feedbackId") UUID feedbackId,
+                              @Param("managerId") UUID managerId,
+                              @Param("feedbackVersion") int feedbackVersion,
+                              @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE DeveloperRollup r SET r.latestAssessmentId = null, r.latestAverageScore = null, " +
+            "r.latestAssessmentAt = null, r.updatedAt = :at " +
+            "WHERE r.developerId = :developerId AND r.latestAssessmentId = :assessmentId")
+    int clearLatestAssessment(@Param("developerId") UUID developerId,
+                              @Param("assessmentId") UUID assessmentId,
+                              @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE DeveloperRollup r SET r.latestFeedbackId = null, r.latestFeedbackManagerId = null, " +
+            "r.latestFeedbackVersion = null, r.latestFeedbackAt = null, r.updatedAt = :at " +
+            "WHERE r.developerId = :developerId AND r.latestFeedbackId = :feedbackId")
+    int clearLatestFeedback(@Param("developerId") UUID developerId,
+                            @Param("feedbackId") UUID feedbackId,
+                            @Param("at") LocalDateTime at);
+}
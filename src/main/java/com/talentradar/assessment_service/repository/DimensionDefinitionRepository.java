@@ -14,4 +14,7 @@ public interface DimensionDefinitionRepository extends JpaRepository<DimensionDe
 
     @Query("SELECT dd.id FROM DimensionDefinition dd WHERE dd.id IN :ids")
     List<UUID> findExistingIds(@Param("ids") List<UUID> ids); //Validate that all provided IDs exist
+
+    @Query("SELECT DISTINCT dd FROM DimensionDefinition dd LEFT JOIN FETCH dd.gradingCriteriaSet")
+    List<DimensionDefinition> findAllWithGradingCriteria(); //Loads the whole catalog in one round trip
 }
@@ -0,0 +1,51 @@
+package com.talentradar.assessment_service.repository;
+
+import com.talentradar.assessment_service.model.DimensionRollup;
+import com.talentradar.assessment_service.model.UserRole;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DimensionRollupRepository extends JpaRepository<DimensionRollup, UUID> {
+
+    List<DimensionRollup> findByDeveloperId(UUID developerId);
+
+    List<DimensionRollup> findByDeveloperIdIn(Collection<UUID> developerIds);
+
+    @Modifying
+    @Query("UPDATE DimensionRollup r SET r.managerRating = null, r.managerFeedbackId = null, r.gap = null " +
+            "WHERE r.developerId = :developerId AND r.managerFeedbackId = :feedbackId")
+    int clearManagerRatings(@Param("developerId") UUID developerId, @Param("feedbackId") UUID feedbackId);
+
+    @Modifying
+    @Query("UPDATE DimensionRollup r SET r.selfRating = null, r.gap = null WHERE r.developerId = :developerId")
+    int clearSelfRatings(@Param("developerId") UUID developerId);
+
+    @Query("SELECT r.dimensionDefinitionId AS dimensionDefinitionId, r.gap AS gap, COUNT(r) AS developers " +
+            "FROM DimensionRollup r " +
+            "WHERE r.gap IS NOT NULL " +
+            "GROUP BY r.dimensionDefinitionId, r.gap")
+    List<GapCount> countGaps();
+
+    @Query("SELECT r.dimensionDefinitionId AS dimensionDefinitionId, r.gap AS gap, COUNT(r) AS developers " +
+            "FROM DimensionRollup r " +
+            "WHERE r.gap IS NOT NULL " +
+            "AND r.developerId IN (SELECT u.userId FROM UserSnapshot u WHERE u.managerId = :managerId AND u.role = :role) " +
+            "GROUP BY r.dimensionDefinitionId, r.gap")
+    List<GapCount> countGapsForManager(@Param("managerId") UUID managerId, @Param("role") UserRole role);
+
+    interface GapCount {
+        UUID getDimensionDefinitionId();
+
+        Integer getGap();
+
+        Long getDevelopers();
+    }
+}
@@ -2,6 +2,7 @@ package com.talentradar.assessment_service.repository;
 
 import com.talentradar.assessment_service.model.Feedback;
 import com.talentradar.assessment_service.model.FeedbackComment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,5 +14,6 @@ import java.util.UUID;
 public interface FeedbackCommentRepository extends JpaRepository<FeedbackComment, UUID> {
     Optional<FeedbackComment> findByFeedback(Feedback uuid);
 
-    List<FeedbackComment> findByFeedbackId(UUID uuid);
+    @EntityGraph(attributePaths = {"feedback", "comment"})
+    List<FeedbackComment> findByFeedbackId(UUID uuid); //Loads the eager associations in the same query instead of one SELECT per row
 }
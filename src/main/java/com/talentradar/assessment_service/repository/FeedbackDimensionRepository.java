@@ -1,6 +1,7 @@
 package com.talentradar.assessment_service.repository;
 
 import com.talentradar.assessment_service.model.FeedbackDimension;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,7 +10,8 @@ import java.util.UUID;
 
 @Repository
 public interface FeedbackDimensionRepository extends JpaRepository<FeedbackDimension, UUID> {
-    List<FeedbackDimension> findByFeedbackId(UUID feedbackId);
+    @EntityGraph(attributePaths = {"feedback", "dimensionDefinition"})
+    List<FeedbackDimension> findByFeedbackId(UUID feedbackId); //Loads the eager associations in the same query instead of one SELECT per row
 
     List<FeedbackDimension> findByDimensionDefinitionId(UUID dimensionDefinitionId);
 
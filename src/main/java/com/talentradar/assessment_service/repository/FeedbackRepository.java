@@ -15,7 +15,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface FeedbackRepository extends JpaRepository<Feedback, UUID>, JpaSpecificationExecutor<Feedback> {
+public interface FeedbackRepository extends JpaRepository<Feedback, UUID>, JpaSpecificationExecutor<Feedback>,
+        FeedbackRepositoryCustom {
     List<Feedback> findByManagerId(UUID managerId);
 
     List<Feedback> findByDeveloperId(UUID developerId);
@@ -23,4 +24,6 @@ public interface FeedbackRepository extends JpaRepository<Feedback, UUID>, JpaSp
     List<Feedback> findByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(UUID managerId, UUID developerId);
 
     Optional<Feedback> findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(UUID managerId, UUID developerId);
+
+    Optional<Feedback> findTopByDeveloperIdAndIdNotOrderByCreatedAtDesc(UUID developerId, UUID excludedId);
 }
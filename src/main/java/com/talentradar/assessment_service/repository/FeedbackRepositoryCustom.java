@@ -0,0 +1,16 @@
+package com.talentradar.assessment_service.repository;
+
+import com.talentradar.assessment_service.model.Feedback;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface FeedbackRepositoryCustom {
+
+    /**
+     * Streams matching feedback, oldest first, reading {@code fetchSize} rows per round trip. Rows are
+     * detached as they are consumed, so the persistence context does not grow with the result. Must be
+     * called inside a transaction, and the stream must be closed.
+     */
+    Stream<Feedback> streamAll(Specification<Feedback> specification, int fetchSize);
+}
@@ -0,0 +1,36 @@
+package com.talentradar.assessment_service.repository;
+
+import com.talentradar.assessment_service.model.FeedbackVersionCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Repository
+public interface FeedbackVersionCounterRepository extends JpaRepository<FeedbackVersionCounter, FeedbackVersionCounter.Key> {
+
+    /**
+     * Reserves {@code count} consecutive versions for the pair in one statement and returns the last of them.
+     * Allocation always starts after both the counter and the pair's highest stored feedback version, so a
+     * version written by an update (or a pair moved onto another pair's history) is never handed out again.
+     * The upsert locks only this pair's row until the caller commits, so concurrent submits for the same pair
+     * queue briefly and never see the same version, while other pairs do not contend at all.
+     */
+    // Not @Modifying: the statement returns the allocated version as a row
+    @Transactional
+    @Query(value = "INSERT INTO feedback_version_counter (manager_id, developer_id, last_version) " +
+            "VALUES (:managerId, :developerId, COALESCE((SELECT MAX(f.feedback_version) FROM feedback f " +
+            "WHERE f.manager_id = :managerId AND f.developer_id = :developerId), 0) + :count) " +
+            "ON CONFLICT (manager_id, developer_id) DO UPDATE SET " +
+            "last_version = GREATEST(feedback_version_counter.last_version, " +
+            "COALESCE((SELECT MAX(f.feedback_version) FROM feedback f " +
+            "WHERE f.manager_id = :managerId AND f.developer_id = :developerId), 0)) + :count " +
+            "RETURNING last_version",
+            nativeQuery = true)
+    int allocate(@Param("managerId") UUID managerId,
+                 @Param("developerId") UUID developerId,
+                 @Param("count") int count);
+}
@@ -0,0 +1,66 @@
+package com.talentradar.assessment_service.repository;
+
+import com.talentradar.assessment_service.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    @Query(value = "SELECT * FROM outbox_event " +
+            "WHERE published_at IS NULL " +
+            "AND parked_at IS NULL " +
+            "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) " +
+            "ORDER BY created_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit, @Param("now") LocalDateTime now); //Rows locked by another relay instance are skipped, not waited on
+
+    /**
+     * Leases claimed rows to the current relay run: until {@code leaseUntil} they are not selected again, and a
+     * run that dies before recording an outcome simply lets the lease lapse.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.nextAttemptAt = :leaseUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<UUID> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * Records a failed attempt and holds the rows back with exponential backoff: the n-th failure delays the
+     * next attempt by {@code initialBackoffMillis * 2^(n-1)}, capped at {@code maxBackoffMillis}.
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_event SET " +
+            "attempts = attempts + 1, " +
+            "last_error = :error, " +
+            "next_attempt_at = :now + LEAST(:maxBackoffMillis, :initialBackoffMillis * power(2, attempts)) " +
+            "* interval '1 millisecond' " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int markFailed(@Param("ids") Collection<UUID> ids,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now,
+                   @Param("initialBackoffMillis") long initialBackoffMillis,
+                   @Param("maxBackoffMillis") long maxBackoffMillis);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent o SET o.attempts = o.attempts + 1, o.lastError = :error, o.parkedAt = :parkedAt " +
+            "WHERE o.id IN :ids")
+    int markParked(@Param("ids") Collection<UUID> ids,
+                   @Param("error") String error,
+                   @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
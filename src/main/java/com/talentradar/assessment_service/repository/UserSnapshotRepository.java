@@ -2,9 +2,14 @@ package com.talentradar.assessment_service.repository;
 
 import com.talentradar.assessment_service.model.UserRole;
 import com.talentradar.assessment_service.model.UserSnapshot;
+import com.talentradar.assessment_service.model.SubmissionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,8 +18,35 @@ import java.util.UUID;
 public interface UserSnapshotRepository extends JpaRepository<UserSnapshot, UUID> {
     Optional<UserSnapshot> findByUserId(UUID userId);
 
+    List<UserSnapshot> findByUserIdIn(Collection<UUID> userIds);
+
+    boolean existsByUserId(UUID userId);
+
     List<UserSnapshot> findByManagerIdAndRole(UUID managerId, UserRole role);
 
     List<UserSnapshot> findByManagerIdIsNullAndRole(UserRole role);
 
+    @Query("SELECT u FROM UserSnapshot u " +
+            "WHERE u.managerId = :managerId " +
+            "AND u.role = :role " +
+            "AND EXISTS (SELECT 1 FROM Assessment a WHERE a.userId = u.userId AND a.submissionStatus = :status)")
+    List<UserSnapshot> findByManagerIdAndRoleWithAssessmentStatus(@Param("managerId") UUID managerId,
+                                                                  @Param("role") UserRole role,
+                                                                  @Param("status") SubmissionStatus status);
+
+    List<UserSnapshot> findByManagerIdAndRoleAndAssessmentSubmittedTrue(UUID managerId, UserRole role);
+
+    @Modifying
+    @Query("UPDATE UserSnapshot u SET u.assessmentSubmitted = true " +
+            "WHERE u.userId = :userId AND u.assessmentSubmitted = false")
+    int markAssessmentSubmitted(@Param("userId") UUID userId); //No-op (and no row lock) once the flag is already set
+
+    // Flushes first so the user's pending status change is visible to the NOT EXISTS check
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserSnapshot u SET u.assessmentSubmitted = false " +
+            "WHERE u.userId = :userId AND u.assessmentSubmitted = true " +
+            "AND NOT EXISTS (SELECT 1 FROM Assessment a WHERE a.userId = u.userId AND a.submissionStatus = :status)")
+    int clearAssessmentSubmittedIfNone(@Param("userId") UUID userId,
+                                       @Param("status") SubmissionStatus status); //Clears the flag once no assessment in the status is left
+
 }
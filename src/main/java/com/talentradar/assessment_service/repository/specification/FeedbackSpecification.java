@@ -2,11 +2,14 @@ package com.talentradar.assessment_service.repository.specification;
 
 import com.talentradar.assessment_service.dto.feedback.request.FeedbackSearchCriteria;
 import com.talentradar.assessment_service.model.Feedback;
+import com.talentradar.assessment_service.util.CursorCodec;
 import org.springframework.data.jpa.domain.Specification;
 
 import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 public class FeedbackSpecification {
 
@@ -37,4 +40,15 @@ public class FeedbackSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Rows strictly after the cursor in {@code createdAt DESC, id DESC} order.
+     */
+    public static Specification<Feedback> after(CursorCodec.Cursor cursor) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("createdAt"), cursor.createdAt()),
+                        criteriaBuilder.lessThan(root.<UUID>get("id"), cursor.id())));
+    }
+}
@@ -0,0 +1,20 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.dto.assessmentImport.response.AssessmentImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface AssessmentImportService {
+
+    enum Format {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * Imports historical self-assessments read from {@code in}, one record per line. Invalid records are
+     * reported and skipped; valid ones are written in chunks, each in its own transaction.
+     */
+    AssessmentImportResultDto importAssessments(InputStream in, Format format) throws IOException;
+}
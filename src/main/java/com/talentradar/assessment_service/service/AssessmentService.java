@@ -12,5 +12,12 @@ public interface AssessmentService {
 
     PaginatedResponseDTO<AssessmentResponseDTO> getAllAssessmentsByUser(UUID userId, Pageable pageable);
 
+    /**
+     * Keyset page of a user's assessments, newest first, starting after {@code cursor} (null for the first
+     * page). The total is only counted when {@code includeTotal} is set.
+     */
+    PaginatedResponseDTO<AssessmentResponseDTO> getAssessmentsByUser(UUID userId, String cursor, int size,
+                                                                     boolean includeTotal);
+
     AssessmentResponseDTO updateAssessment(UUID assessmentId, AssessmentRequestDTO requestDto, UUID userId);
 }
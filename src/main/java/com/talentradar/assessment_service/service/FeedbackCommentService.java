@@ -1,7 +1,9 @@
 package com.talentradar.assessment_service.service;
 
 import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentDto;
+import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentRequestDto;
 import com.talentradar.assessment_service.dto.feedbackComment.response.FeedbackCommentDto;
+import com.talentradar.assessment_service.model.Feedback;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,4 +11,5 @@ public interface FeedbackCommentService {
 
     List<FeedbackCommentDto> getFeedbackCommentsByFeedbackId(UUID feedbackId);
     FeedbackCommentDto createFeedbackComment(CreateFeedbackCommentDto createDto);
+    List<FeedbackCommentDto> createFeedbackComments(Feedback feedback, List<CreateFeedbackCommentRequestDto> requests);
 }
\ No newline at end of file
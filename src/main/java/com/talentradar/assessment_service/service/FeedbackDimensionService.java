@@ -1,7 +1,9 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.dto.dimensionDefinition.request.CreateFeedbackDimensionRequestDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.request.CreateFeedbackDimensionDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.response.FeedbackDimensionDto;
+import com.talentradar.assessment_service.model.Feedback;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,5 +11,6 @@ public interface FeedbackDimensionService {
     
     List<FeedbackDimensionDto> getFeedbackDimensionsByFeedbackId(UUID feedbackId);
     FeedbackDimensionDto createFeedbackDimension(CreateFeedbackDimensionDto createDto);
+    List<FeedbackDimensionDto> createFeedbackDimensions(Feedback feedback, List<CreateFeedbackDimensionRequestDto> requests);
     boolean feedbackDimensionExistsForFeedbackAndDimension(UUID feedbackId, UUID dimensionDefinitionId);
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import com.talentradar.assessment_service.dto.feedback.response.FeedbackDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,9 +26,29 @@ public interface FeedbackService {
     FeedbackDto createNewFeedbackVersion(UUID managerId, UUID developerId);
     FeedbackDto getFeedbackWithDetails(UUID id);
     FeedbackDto createCompleteFeedback(CreateCompleteFeedbackDto createDto);
+
+    /**
+     * Creates many complete feedbacks in one transaction, for example at a review-cycle deadline. Each distinct
+     * (manager, developer) pair reserves its versions in one statement; results are returned in request order.
+     */
+    List<FeedbackDto> createCompleteFeedbacks(List<CreateCompleteFeedbackDto> createDtos);
+
     FeedbackDto getCompleteFeedback(UUID id);
     FeedbackDto updateCompleteFeedback(UUID id, CreateCompleteFeedbackDto updateDto);
 
     @Transactional(readOnly = true)
     PaginatedResponseDTO<FeedbackDto> searchFeedbacks(FeedbackSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Keyset page of matching feedback, newest first, starting after {@code cursor} (null for the first
+     * page). The total is only counted when {@code includeTotal} is set.
+     */
+    PaginatedResponseDTO<FeedbackDto> searchFeedbacks(FeedbackSearchCriteria criteria, String cursor, int size,
+                                                      boolean includeTotal);
+
+    /**
+     * Writes every matching feedback to {@code out} as newline-delimited JSON, oldest first, without holding
+     * the result in memory. Returns the number of feedback written.
+     */
+    long exportFeedbacks(FeedbackSearchCriteria criteria, OutputStream out) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.dto.gapAnalysis.response.GapDistributionDto;
+import com.talentradar.assessment_service.dto.teamDashboard.response.TeamDashboardDto;
+import com.talentradar.assessment_service.model.Assessment;
+import com.talentradar.assessment_service.model.Feedback;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public interface TeamDashboardService {
+
+    /**
+     * Get the dashboard for every developer assigned to a manager
+     * @param managerId the ID of the manager
+     * @return latest scores, feedback versions and per-dimension deltas for the whole team
+     */
+    TeamDashboardDto getTeamDashboard(UUID managerId);
+
+    /**
+     * Get how far manager ratings sit from self ratings, per dimension, across all developers
+     * @return number of developers per gap value for each dimension
+     */
+    GapDistributionDto getOrganizationGapDistribution();
+
+    /**
+     * Get the self vs. manager gap distribution for the developers assigned to a manager
+     * @param managerId the ID of the manager
+     * @return number of developers per gap value for each dimension
+     */
+    GapDistributionDto getTeamGapDistribution(UUID managerId);
+
+    /**
+     * Fold a saved assessment into the developer's rollup. Drafts are ignored.
+     * @param assessment the saved assessment, with its dimensions
+     */
+    void recordAssessment(Assessment assessment);
+
+    /**
+     * Same as {@link #recordAssessment(Assessment)}, but ordered by {@code recordedAt} instead of the current
+     * time, so that imported history never replaces a newer assessment in the rollup.
+     */
+    void recordAssessment(Assessment assessment, LocalDateTime recordedAt);
+
+    /**
+     * Drop a submitted assessment that went back to draft from the rollup, falling back to the developer's
+     * previous submitted assessment
+     * @param assessment the withdrawn assessment
+     */
+    void assessmentWithdrawn(Assessment assessment);
+
+    /**
+     * Fold a newly created feedback into the developer's rollup
+     * @param feedback the saved feedback
+     * @param managerRatings rating per dimension definition ID; empty for a version without dimensions
+     */
+    void recordFeedback(Feedback feedback, Map<UUID, Integer> managerRatings);
+
+    /**
+     * Refresh the rollup after an existing feedback was edited
+     * @param previousDeveloperId the developer the feedback belonged to before the edit
+     * @param feedback the saved feedback
+     */
+    void feedbackUpdated(UUID previousDeveloperId, Feedback feedback);
+
+    /**
+     * Drop a deleted feedback from the rollup, falling back to the developer's previous feedback
+     * @param feedback the deleted feedback
+     */
+    void feedbackDeleted(Feedback feedback);
+}
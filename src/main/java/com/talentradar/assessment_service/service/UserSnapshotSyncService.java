@@ -0,0 +1,22 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.event.UserEvent;
+
+import java.util.List;
+
+public interface UserSnapshotSyncService {
+
+    /**
+     * Apply a user lifecycle event to the local user snapshot table. Events whose eventId has already
+     * been applied are skipped
+     * @param userEvent the created, updated or deleted event received from the user service
+     */
+    void apply(UserEvent userEvent);
+
+    /**
+     * Apply a batch of user events in one transaction. Events for the same user are collapsed to the
+     * latest one in delivery order, and existing snapshots are looked up with a single query
+     * @param userEvents events in the order they were delivered
+     */
+    void applyBatch(List<UserEvent> userEvents);
+}
@@ -0,0 +1,354 @@
+package com.talentradar.assessment_service.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.assessment.request.DimensionRatingDTO;
+import com.talentradar.assessment_service.dto.assessmentImport.request.AssessmentImportRecord;
+import com.talentradar.assessment_service.dto.assessmentImport.response.AssessmentImportErrorDto;
+import com.talentradar.assessment_service.dto.assessmentImport.response.AssessmentImportResultDto;
+import com.talentradar.assessment_service.exception.BadRequestException;
+import com.talentradar.assessment_service.model.Assessment;
+import com.talentradar.assessment_service.model.AssessmentDimension;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import com.talentradar.assessment_service.repository.AssessmentDimensionRepository;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.AssessmentSubmissionLedgerRepository;
+import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.service.AssessmentImportService;
+import com.talentradar.assessment_service.service.TeamDashboardService;
+import com.talentradar.assessment_service.util.WeightedScoreUtil;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssessmentImportServiceImpl implements AssessmentImportService {
+
+    static final String CSV_HEADER = "userId,status,createdAt,reflection,dimensions";
+    private static final int CSV_COLUMNS = 5;
+
+    private final AssessmentRepository assessmentRepository;
+    private final AssessmentDimensionRepository dimensionRepository;
+    private final DimensionDefinitionRepository dimensionDefinitionRepository;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
+    private final UserSnapshotRepository userSnapshotRepository;
+    private final AssessmentSubmissionLedgerRepository submissionLedgerRepository;
+    private final TeamDashboardService teamDashboardService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${assessment.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${assessment.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Override
+    public AssessmentImportResultDto importAssessments(InputStream in, Format format) throws IOException {
+        log.info("Starting {} assessment import with chunkSize={}", format, chunkSize);
+
+        ImportProgress progress = new ImportProgress();
+        ObjectReader recordReader = objectMapper.readerFor(AssessmentImportRecord.class);
+        List<ValidRecord> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            boolean headerPending = format == Format.CSV;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (headerPending) {
+                    requireCsvHeader(line);
+                    headerPending = false;
+                    continue;
+                }
+
+                progress.received++;
+                try {
+                    AssessmentImportRecord record = format == Format.CSV ? parseCsv(line) : parseJson(recordReader, line);
+                    chunk.add(validate(lineNumber, record));
+                } catch (InvalidRecordException e) {
+                    progress.fail(lineNumber, e.getMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+
+        log.info("Assessment import finished: received={}, imported={}, failed={}",
+                progress.received, progress.imported, progress.failed);
+        return AssessmentImportResultDto.builder()
+                .received(progress.received)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    private void requireCsvHeader(String line) {
+        String header = line.startsWith("\uFEFF") ? line.substring(1) : line;
+        if (!CSV_HEADER.equalsIgnoreCase(header.replace(" ", ""))) {
+            throw new BadRequestException("CSV header must be: " + CSV_HEADER);
+        }
+    }
+
+    private AssessmentImportRecord parseJson(ObjectReader recordReader, String line) {
+        try {
+            return recordReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRecordException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Parses one row of {@code userId,status,createdAt,reflection,dimensions}, where dimensions are
+     * {@code definitionId:rating} pairs separated by {@code ;}. Fields may be double-quoted, with {@code ""}
+     * for a literal quote; a row cannot span lines.
+     */
+    private AssessmentImportRecord parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != CSV_COLUMNS) {
+            throw new InvalidRecordException("Expected " + CSV_COLUMNS + " columns but found " + fields.size());
+        }
+        try {
+            List<DimensionRatingDTO> dimensions = new ArrayList<>();
+            for (String pair : fields.get(4).split(";")) {
+                if (pair.isBlank()) {
+                    continue;
+                }
+                int separator = pair.lastIndexOf(':');
+                if (separator < 0) {
+                    throw new InvalidRecordException("Dimension must be definitionId:rating but was '" + pair + "'");
+                }
+                dimensions.add(DimensionRatingDTO.builder()
+                        .dimensionDefinitionId(UUID.fromString(pair.substring(0, separator).trim()))
+                        .rating(Integer.parseInt(pair.substring(separator + 1).trim()))
+                        .build());
+            }
+            return AssessmentImportRecord.builder()
+                    .userId(fields.get(0).isBlank() ? null : UUID.fromString(fields.get(0).trim()))
+                    .status(fields.get(1).isBlank() ? null : SubmissionStatus.valueOf(fields.get(1).trim().toUpperCase()))
+                    .createdAt(fields.get(2).isBlank() ? null : LocalDateTime.parse(fields.get(2).trim()))
+                    .reflection(fields.get(3))
+                    .dimensions(dimensions)
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRecordException("Malformed CSV value: " + e.getMessage());
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(CSV_COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidRecordException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Applies the same rules as the submission API and scores the record against the in-memory catalog,
+     * so nothing is written for a record that cannot be imported.
+     */
+    private ValidRecord validate(long line, AssessmentImportRecord record) {
+        if (record.getUserId() == null) {
+            throw new InvalidRecordException("userId is required");
+        }
+        if (record.getStatus() == null) {
+            throw new InvalidRecordException("status is required");
+        }
+        if (record.getReflection() == null || record.getReflection().isBlank()) {
+            throw new InvalidRecordException("reflection is required");
+        }
+        if (record.getCreatedAt() != null && record.getCreatedAt().isAfter(LocalDateTime.now())) {
+            throw new InvalidRecordException("createdAt is in the future");
+        }
+        List<DimensionRatingDTO> dimensions = record.getDimensions();
+        if (dimensions == null || dimensions.isEmpty()) {
+            throw new InvalidRecordException("At least one dimension rating is required");
+        }
+
+        Set<UUID> seen = new HashSet<>();
+        for (DimensionRatingDTO dimension : dimensions) {
+            UUID definitionId = dimension.getDimensionDefinitionId();
+            if (definitionId == null || !seen.add(definitionId)) {
+                throw new InvalidRecordException("Some DimensionDefinition IDs are invalid");
+            }
+            if (dimension.getRating() < 1 || dimension.getRating() > 5) {
+                throw new InvalidRecordException("Rating for " + definitionId + " must be between 1 and 5");
+            }
+            if (!dimensionDefinitionCatalog.contains(definitionId)) {
+                throw new InvalidRecordException("DimensionDefinition with id " + definitionId + " not found");
+            }
+        }
+
+        int averageScore = WeightedScoreUtil.weightedAverage(dimensions, DimensionRatingDTO::getRating,
+                dimension -> dimensionDefinitionCatalog.require(dimension.getDimensionDefinitionId()));
+        return new ValidRecord(line, record, averageScore);
+    }
+
+    /**
+     * Writes a chunk in one transaction. If it fails, the chunk is retried one record per transaction so that
+     * only the records the database rejects are reported.
+     */
+    private void writeChunk(List<ValidRecord> chunk, ImportProgress progress) {
+        try {
+            transactionTemplate.execute(status -> {
+                write(chunk);
+                return null;
+            });
+            progress.imported += chunk.size();
+            log.debug("Imported chunk of {} assessments", chunk.size());
+        } catch (RuntimeException e) {
+            log.warn("Import chunk of {} assessments failed, retrying one by one: {}", chunk.size(), e.getMessage());
+            entityManager.clear();
+            for (ValidRecord valid : chunk) {
+                try {
+                    transactionTemplate.execute(status -> {
+                        write(List.of(valid));
+                        return null;
+                    });
+                    progress.imported++;
+                } catch (RuntimeException recordFailure) {
+                    entityManager.clear();
+                    progress.fail(valid.line(), "Could not be saved: "
+                            + NestedExceptionUtils.getMostSpecificCause(recordFailure).getMessage());
+                }
+            }
+        }
+    }
+
+    private void write(List<ValidRecord> records) {
+        List<Assessment> assessments = new ArrayList<>(records.size());
+        List<AssessmentDimension> dimensions = new ArrayList<>();
+        for (ValidRecord valid : records) {
+            AssessmentImportRecord record = valid.record();
+            Assessment assessment = Assessment.builder()
+                    .userId(record.getUserId())
+                    .reflection(record.getReflection())
+                    .submissionStatus(record.getStatus())
+                    .averageScore(valid.averageScore())
+                    .createdAt(record.getCreatedAt())
+                    .updatedAt(record.getCreatedAt())
+                    .build();
+            List<AssessmentDimension> assessmentDimensions = record.getDimensions().stream()
+                    .map(dim -> AssessmentDimension.builder()
+                            .assessment(assessment)
+                            // Ids were validated against the catalog, so a reference avoids a SELECT per dimension
+                            .dimensionDefinition(dimensionDefinitionRepository.getReferenceById(dim.getDimensionDefinitionId()))
+                            .rating(dim.getRating())
+                            .createdAt(record.getCreatedAt())
+                            .build())
+                    .toList();
+            assessment.setDimensions(assessmentDimensions);
+            assessments.add(assessment);
+            dimensions.addAll(assessmentDimensions);
+        }
+
+        // Inserts are grouped per table and sent as JDBC batches (hibernate.jdbc.batch_size) on flush
+        assessmentRepository.saveAll(assessments);
+        dimensionRepository.saveAll(dimensions);
+        entityManager.flush();
+
+        // createdAt is only known for every record once the entities have been persisted
+        Map<UUID, LocalDateTime> submittedUsers = new LinkedHashMap<>();
+        for (Assessment assessment : assessments) {
+            if (assessment.getSubmissionStatus() == SubmissionStatus.SUBMITTED) {
+                submittedUsers.merge(assessment.getUserId(), assessment.getCreatedAt(),
+                        (recorded, at) -> at.isAfter(recorded) ? at : recorded);
+            }
+        }
+        submittedUsers.forEach((userId, at) -> {
+            userSnapshotRepository.markAssessmentSubmitted(userId);
+            // Imported history counts towards the re-submission window but is never rejected by it
+            submissionLedgerRepository.recordSubmission(userId, at);
+        });
+        for (Assessment assessment : assessments) {
+            teamDashboardService.recordAssessment(assessment, assessment.getCreatedAt());
+        }
+
+        // Keep the persistence context from growing across chunks
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private record ValidRecord(long line, AssessmentImportRecord record, int averageScore) {
+    }
+
+    private final class ImportProgress {
+        private long received;
+        private long imported;
+        private long failed;
+        private final List<AssessmentImportErrorDto> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(AssessmentImportErrorDto.builder().line(line).message(message).build());
+            }
+        }
+    }
+
+    private static final class InvalidRecordException extends RuntimeException {
+        private InvalidRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.talentradar.assessment_service.service.impl;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.assessment.request.AssessmentRequestDTO;
 import com.talentradar.assessment_service.dto.assessment.request.DimensionRatingDTO;
 import com.talentradar.assessment_service.dto.assessment.response.AssessmentResponseDTO;
@@ -11,26 +12,36 @@ import com.talentradar.assessment_service.exception.ResourceNotFoundException;
 import com.talentradar.assessment_service.mapper.AssessmentMapper;
 import com.talentradar.assessment_service.model.Assessment;
 import com.talentradar.assessment_service.model.AssessmentDimension;
-import com.talentradar.assessment_service.model.DimensionDefinition;
 import com.talentradar.assessment_service.model.SubmissionStatus;
 import com.talentradar.assessment_service.repository.AssessmentDimensionRepository;
 import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.AssessmentSubmissionLedgerRepository;
 import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
 import com.talentradar.assessment_service.repository.UserSnapshotRepository;
 import com.talentradar.assessment_service.service.AssessmentService;
+import com.talentradar.assessment_service.service.TeamDashboardService;
+import com.talentradar.assessment_service.util.CursorCodec;
 import com.talentradar.assessment_service.util.PaginationUtil;
+import com.talentradar.assessment_service.util.WeightedScoreUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,9 +51,15 @@ public class AssessmentServiceImpl implements AssessmentService {
     private final AssessmentRepository assessmentRepository;
     private final AssessmentDimensionRepository dimensionRepository;
     private final DimensionDefinitionRepository dimensionDefinitionRepository;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
     private final AssessmentMapper assessmentMapper;
     private final UserSnapshotRepository userSnapshotRepository;
     private final AssessmentEventProducer assessmentEventProducer;
+    private final TeamDashboardService teamDashboardService;
+    private final AssessmentSubmissionLedgerRepository submissionLedgerRepository;
+
+    @Value("${assessment.resubmission.cooldown:P30D}")
+    private Duration resubmissionCooldown;
 
     @Transactional
     @Override
@@ -52,7 +69,7 @@ public class AssessmentServiceImpl implements AssessmentService {
 
         validateDimensionDefinitionIds(requestDto.getDimensions());
 
-        reSubmissionValidation(userId);
+        reSubmissionValidation(userId, requestDto.getStatus());
 
         // Calculate weighted average score
         int averageScore = calculateWeightedAverageScore(requestDto.getDimensions());
@@ -66,19 +83,15 @@ public class AssessmentServiceImpl implements AssessmentService {
 
         Assessment savedAssessment = assessmentRepository.save(assessment);
         log.info("Assessment saved with id={} and averageScore={}", savedAssessment.getId(), averageScore);
+        markSubmitted(savedAssessment);
 
         // Create new dimensions
         createNewDimension(requestDto, savedAssessment, "Saved {} assessment dimensions for assessmentId={}");
+        teamDashboardService.recordAssessment(savedAssessment);
 
         // Publish assessment event to Kafka for AI analysis
-        try {
-            assessmentEventProducer.publishAssessmentSubmitted(savedAssessment);
-            log.info("Assessment event published successfully for assessmentId={}", savedAssessment.getId());
-        } catch (Exception e) {
-            log.error("Failed to publish assessment event for assessmentId={}: {}",
-                    savedAssessment.getId(), e.getMessage(), e);
-            // Don't fail the transaction if event publishing fails
-        }
+        assessmentEventProducer.publishAssessmentSubmitted(savedAssessment);
+        log.info("Assessment event published successfully for assessmentId={}", savedAssessment.getId());
 
         return assessmentMapper.toResponseDto(savedAssessment);
     }
@@ -86,41 +99,8 @@ public class AssessmentServiceImpl implements AssessmentService {
     private int calculateWeightedAverageScore(List<DimensionRatingDTO> dimensions) {
         log.debug("Calculating weighted average score for {} dimensions", dimensions.size());
 
-        BigDecimal totalWeightedScore = BigDecimal.ZERO;
-        BigDecimal totalWeight = BigDecimal.ZERO;
-
-        for (DimensionRatingDTO dimension : dimensions) {
-            DimensionDefinition definition = getDimension(dimension.getDimensionDefinitionId());
-
-            BigDecimal rating = BigDecimal.valueOf(dimension.getRating());
-            BigDecimal weight = definition.getWeight();
-
-            BigDecimal weightedScore = rating.multiply(weight);
-            totalWeightedScore = totalWeightedScore.add(weightedScore);
-            totalWeight = totalWeight.add(weight);
-
-            log.debug("Dimension: {}, Rating: {}, Weight: {}, Weighted Score: {}",
-                    definition.getDimensionName(), rating, weight, weightedScore);
-        }
-
-        if (totalWeight.compareTo(BigDecimal.ZERO) == 0) {
-            log.warn("Total weight is zero, returning 0 as average score");
-            return 0;
-        }
-
-        // Calculate weighted average and round to nearest integer
-        BigDecimal weightedAverage = totalWeightedScore.divide(totalWeight, 2, RoundingMode.HALF_UP);
-        int averageScore = weightedAverage.setScale(0, RoundingMode.HALF_UP).intValue();
-
-        log.debug("Total weighted score: {}, Total weight: {}, Average score: {}",
-                totalWeightedScore, totalWeight, averageScore);
-
-        return averageScore;
-    }
-
-    private DimensionDefinition getDimension(UUID id) {
-        return dimensionDefinitionRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("DimensionDefinition with id " + id + " not found"));
+        return WeightedScoreUtil.weightedAverage(dimensions, DimensionRatingDTO::getRating,
+                dimension -> dimensionDefinitionCatalog.require(dimension.getDimensionDefinitionId()));
     }
 
     @Override
@@ -128,35 +108,87 @@ public class AssessmentServiceImpl implements AssessmentService {
     public PaginatedResponseDTO<AssessmentResponseDTO> getAllAssessmentsByUser(UUID userId, Pageable pageable) {
         log.info("Fetching assessments for userId={} with pagination={}", userId, pageable);
 
-        Page<Assessment> page = assessmentRepository.findAllByUserIdWithDimensions(userId, pageable);
-        log.info("Found {} assessments for userId={}", page.getTotalElements(), userId);
+        Page<UUID> idPage = assessmentRepository.findIdPageByUserId(userId, pageable);
+        log.info("Found {} assessments for userId={}", idPage.getTotalElements(), userId);
+
+        List<AssessmentResponseDTO> content = findWithDimensions(idPage.getContent()).stream()
+                .map(assessmentMapper::toResponseDto)
+                .toList();
 
         return PaginationUtil.toPaginatedResponse(
-                page.map(assessmentMapper::toResponseDto)
+                new PageImpl<>(content, pageable, idPage.getTotalElements())
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponseDTO<AssessmentResponseDTO> getAssessmentsByUser(UUID userId, String cursor, int size,
+                                                                            boolean includeTotal) {
+        CursorCodec.Cursor after = CursorCodec.decode(cursor);
+        log.info("Fetching assessments for userId={} after cursor={} size={}", userId, after, size);
+
+        // One extra id tells whether another page exists
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<UUID> ids = after == null
+                ? assessmentRepository.findIdsByUserId(userId, limit)
+                : assessmentRepository.findIdsByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+
+        List<Assessment> assessments = findWithDimensions(ids);
+        Long total = includeTotal ? assessmentRepository.countByUserId(userId) : null;
+
+        return PaginationUtil.toCursorResponse(assessments, size, after != null, total,
+                assessment -> CursorCodec.encode(assessment.getCreatedAt(), assessment.getId()),
+                assessmentMapper::toResponseDto);
+    }
+
+    /**
+     * Loads the given assessments with their dimensions and definitions in one query, in the order of
+     * {@code ids}. An assessment deleted since its id was read is skipped.
+     */
+    private List<Assessment> findWithDimensions(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Assessment> byId = assessmentRepository.findAllWithDimensionsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Assessment::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
     private void validateDimensionDefinitionIds(List<DimensionRatingDTO> ratings) {
         List<UUID> ids = ratings.stream()
                 .map(DimensionRatingDTO::getDimensionDefinitionId)
                 .toList();
 
-        List<UUID> existingIds = dimensionDefinitionRepository.findExistingIds(ids);
-        log.debug("Validating dimension IDs. Provided={}, Existing={}", ids.size(), existingIds.size());
+        boolean distinct = new HashSet<>(ids).size() == ids.size();
+        boolean allKnown = dimensionDefinitionCatalog.containsAll(ids);
+        log.debug("Validating dimension IDs. Provided={}, Distinct={}, AllKnown={}", ids.size(), distinct, allKnown);
 
-        if (existingIds.size() != ids.size()) {
+        if (!distinct || !allKnown) {
             throw new BadRequestException("Some DimensionDefinition IDs are invalid");
         }
     }
 
-    private void reSubmissionValidation(UUID userId) {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        boolean recentlySubmitted = assessmentRepository
-                .existsByUserIdAndSubmissionStatusAndCreatedAtAfter(userId, SubmissionStatus.SUBMITTED, thirtyDaysAgo);
+    private void markSubmitted(Assessment assessment) {
+        if (assessment.getSubmissionStatus() == SubmissionStatus.SUBMITTED) {
+            userSnapshotRepository.markAssessmentSubmitted(assessment.getUserId());
+        }
+    }
+
+    /**
+     * Enforces the re-submission window against the user's ledger row. A submit claims the row in the same
+     * statement that checks it, so of two concurrent submits only one passes; a draft only reads the row.
+     */
+    private void reSubmissionValidation(UUID userId, SubmissionStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(resubmissionCooldown);
+        boolean recentlySubmitted = status == SubmissionStatus.SUBMITTED
+                ? submissionLedgerRepository.claimSubmission(userId, now, cutoff) == 0
+                : submissionLedgerRepository.existsByUserIdAndLastSubmittedAtAfter(userId, cutoff);
 
         if (recentlySubmitted) {
-            log.warn("Re-submission attempt within 30 days by userId={}", userId);
-            throw new BadRequestException("User has already submitted an assessment within the last 30 days.");
+            long days = resubmissionCooldown.toDays();
+            log.warn("Re-submission attempt within {} days by userId={}", days, userId);
+            throw new BadRequestException("User has already submitted an assessment within the last " + days + " days.");
         }
     }
 
@@ -179,12 +211,13 @@ public class AssessmentServiceImpl implements AssessmentService {
         // Validate dimension definition IDs
         validateDimensionDefinitionIds(requestDto.getDimensions());
 
-        reSubmissionValidation(userId);
+        reSubmissionValidation(userId, requestDto.getStatus());
 
         // Calculate new weighted average score
         int newAverageScore = calculateWeightedAverageScore(requestDto.getDimensions());
 
         // Update assessment fields
+        SubmissionStatus previousStatus = existingAssessment.getSubmissionStatus();
         existingAssessment.setReflection(requestDto.getReflection());
         existingAssessment.setSubmissionStatus(requestDto.getStatus());
         existingAssessment.setAverageScore(newAverageScore);
@@ -196,33 +229,33 @@ public class AssessmentServiceImpl implements AssessmentService {
         // Save updated assessment first
         Assessment savedAssessment = assessmentRepository.save(existingAssessment);
         log.info("Assessment updated with id={} and new averageScore={}", savedAssessment.getId(), newAverageScore);
+        markSubmitted(savedAssessment);
+        if (previousStatus == SubmissionStatus.SUBMITTED && savedAssessment.getSubmissionStatus() != SubmissionStatus.SUBMITTED) {
+            // Withdrawing the user's only submission must take them off the submitted developer listing
+            userSnapshotRepository.clearAssessmentSubmittedIfNone(userId, SubmissionStatus.SUBMITTED);
+            teamDashboardService.assessmentWithdrawn(savedAssessment);
+        }
 
         // Create new dimensions
         createNewDimension(requestDto, savedAssessment, "Updated {} new assessment dimensions for assessmentId={}");
+        teamDashboardService.recordAssessment(savedAssessment);
 
         // Publish assessment updated event
-        try {
-            assessmentEventProducer.publishAssessmentUpdated(savedAssessment);
-            log.info("Assessment updated event published successfully for assessmentId={}", savedAssessment.getId());
-        } catch (Exception e) {
-            log.error("Failed to publish assessment updated event for assessmentId={}: {}",
-                    savedAssessment.getId(), e.getMessage(), e);
-            // Don't fail the transaction if event publishing fails
-        }
+        assessmentEventProducer.publishAssessmentUpdated(savedAssessment);
+        log.info("Assessment updated event published successfully for assessmentId={}", savedAssessment.getId());
 
         return assessmentMapper.toResponseDto(savedAssessment);
     }
 
     private void createNewDimension(AssessmentRequestDTO requestDto, Assessment savedAssessment, String s) {
         List<AssessmentDimension> newDimensions = requestDto.getDimensions().stream()
-                .map(dim -> {
-                    DimensionDefinition definition = getDimension(dim.getDimensionDefinitionId());
-                    return AssessmentDimension.builder()
-                            .assessment(savedAssessment)
-                            .dimensionDefinition(definition)
-                            .rating(dim.getRating())
-                            .build();
-                }).toList();
+                .map(dim -> AssessmentDimension.builder()
+                        .assessment(savedAssessment)
+                        // Ids were validated against the catalog, so a reference avoids a SELECT per dimension
+                        .dimensionDefinition(dimensionDefinitionRepository.getReferenceById(dim.getDimensionDefinitionId()))
+                        .rating(dim.getRating())
+                        .build())
+                .toList();
 
         dimensionRepository.saveAll(newDimensions);
         log.info(s, newDimensions.size(), savedAssessment.getId());
@@ -1,5 +1,6 @@
 package com.talentradar.assessment_service.service.impl;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.dimensionDefinition.request.CreateDimensionDefinitionDto;
 import com.talentradar.assessment_service.dto.dimensionDefinition.response.DimensionDefinitionDto;
 import com.talentradar.assessment_service.dto.dimensionDefinition.request.UpdateDimensionDefinitionDto;
@@ -11,6 +12,7 @@ import com.talentradar.assessment_service.model.GradingCriteria;
 import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
 import com.talentradar.assessment_service.repository.GradingCriteriaRepository;
 import com.talentradar.assessment_service.service.DimensionDefinitionService;
+import com.talentradar.assessment_service.util.AnalysisKeyUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,7 @@ public class DimensionDefinitionServiceImpl implements DimensionDefinitionServic
 
     private final DimensionDefinitionRepository dimensionDefinitionRepository;
     private final GradingCriteriaRepository gradingCriteriaRepository;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
 
     @Override
     @Transactional(readOnly = true)
@@ -55,12 +58,14 @@ public class DimensionDefinitionServiceImpl implements DimensionDefinitionServic
 
         DimensionDefinition dimension = DimensionDefinition.builder()
                 .dimensionName(createDto.getDimensionName())
+                .analysisKey(AnalysisKeyUtil.toAnalysisKey(createDto.getDimensionName()))
                 .description(createDto.getDescription())
                 .weight(createDto.getWeight())
                 .gradingCriteriaSet(gradingCriteria)
                 .build();
 
         DimensionDefinition savedDimension = dimensionDefinitionRepository.save(dimension);
+        dimensionDefinitionCatalog.invalidate();
         return mapToDto(savedDimension);
     }
 
@@ -71,6 +76,7 @@ public class DimensionDefinitionServiceImpl implements DimensionDefinitionServic
 
         if (updateDto.getDimensionName() != null) {
             dimension.setDimensionName(updateDto.getDimensionName());
+            dimension.setAnalysisKey(AnalysisKeyUtil.toAnalysisKey(updateDto.getDimensionName()));
         }
         if (updateDto.getDescription() != null) {
             dimension.setDescription(updateDto.getDescription());
@@ -84,6 +90,7 @@ public class DimensionDefinitionServiceImpl implements DimensionDefinitionServic
         }
 
         DimensionDefinition updatedDimension = dimensionDefinitionRepository.save(dimension);
+        dimensionDefinitionCatalog.invalidate();
         return mapToDto(updatedDimension);
     }
 
@@ -92,6 +99,7 @@ public class DimensionDefinitionServiceImpl implements DimensionDefinitionServic
         DimensionDefinition dimension = dimensionDefinitionRepository.findById(id)
                 .orElseThrow(() -> new DimensionDefinitionNotFoundException("Dimension not found with id: " + id));
         dimensionDefinitionRepository.delete(dimension);
+        dimensionDefinitionCatalog.invalidate();
     }
 
     @Override
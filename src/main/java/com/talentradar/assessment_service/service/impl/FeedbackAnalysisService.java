@@ -1,15 +1,19 @@
 package com.talentradar.assessment_service.service.impl;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.analysis.FeedbackAnalysisDto;
+import com.talentradar.assessment_service.dto.dimensionDefinition.response.DimensionDefinitionDto;
 import com.talentradar.assessment_service.dto.feedbackComment.response.FeedbackCommentDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.response.FeedbackDimensionDto;
 import com.talentradar.assessment_service.model.Assessment;
 import com.talentradar.assessment_service.model.AssessmentDimension;
+import com.talentradar.assessment_service.model.DimensionDefinition;
 import com.talentradar.assessment_service.model.Feedback;
 import com.talentradar.assessment_service.model.SubmissionStatus;
 import com.talentradar.assessment_service.repository.AssessmentRepository;
 import com.talentradar.assessment_service.service.FeedbackCommentService;
 import com.talentradar.assessment_service.service.FeedbackDimensionService;
+import com.talentradar.assessment_service.util.AnalysisKeyUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +32,7 @@ import java.util.stream.Collectors;
 public class FeedbackAnalysisService {
     
     private final AssessmentRepository assessmentRepository;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
     private final FeedbackDimensionService feedbackDimensionService;
     private final FeedbackCommentService feedbackCommentService;
     
@@ -67,16 +72,13 @@ public class FeedbackAnalysisService {
     }
     
     private FeedbackAnalysisDto.SelfAssessmentData buildSelfAssessmentData(Assessment assessment) {
-        Map<String, Integer> scores = new HashMap<>();
-        
-        if (assessment.getDimensions() != null) {
-            for (AssessmentDimension dimension : assessment.getDimensions()) {
-                String dimensionName = dimension.getDimensionDefinition().getDimensionName()
-                        .toLowerCase()
-                        .replaceAll("\\s+", "")
-                        .replaceAll("&", "");
-                scores.put(dimensionName, dimension.getRating());
-            }
+        List<AssessmentDimension> dimensions = assessment.getDimensions() != null
+                ? assessment.getDimensions()
+                : List.of();
+        Map<String, Integer> scores = HashMap.newHashMap(dimensions.size());
+        for (AssessmentDimension dimension : dimensions) {
+            DimensionDefinition definition = dimension.getDimensionDefinition();
+            scores.put(analysisKey(definition.getId(), definition.getDimensionName()), dimension.getRating());
         }
         
         return FeedbackAnalysisDto.SelfAssessmentData.builder()
@@ -90,13 +92,10 @@ public class FeedbackAnalysisService {
         List<FeedbackDimensionDto> dimensions = feedbackDimensionService
                 .getFeedbackDimensionsByFeedbackId(feedback.getId());
         
-        Map<String, Integer> scores = new HashMap<>();
+        Map<String, Integer> scores = HashMap.newHashMap(dimensions.size());
         for (FeedbackDimensionDto dimension : dimensions) {
-            String dimensionName = dimension.getDimensionDefinition().getDimensionName()
-                    .toLowerCase()
-                    .replaceAll("\\s+", "")
-                    .replaceAll("&", "");
-            scores.put(dimensionName, dimension.getRating());
+            DimensionDefinitionDto definition = dimension.getDimensionDefinition();
+            scores.put(analysisKey(definition.getId(), definition.getDimensionName()), dimension.getRating());
         }
         
         // Get feedback comments and combine them
@@ -113,6 +112,15 @@ public class FeedbackAnalysisService {
                 .build();
     }
     
+    /**
+     * Stored analysis key from the catalog; only a definition missing from the catalog is normalized here.
+     */
+    private String analysisKey(UUID dimensionDefinitionId, String dimensionName) {
+        return dimensionDefinitionCatalog.find(dimensionDefinitionId)
+                .map(DimensionDefinitionCatalog.Entry::analysisKey)
+                .orElseGet(() -> AnalysisKeyUtil.toAnalysisKey(dimensionName));
+    }
+
     private FeedbackAnalysisDto createFeedbackOnlyAnalysis(Feedback feedback) {
         // Create analysis with only manager feedback data
         FeedbackAnalysisDto.ManagerFeedbackData managerFeedback = buildManagerFeedbackData(feedback);
@@ -2,6 +2,7 @@ package com.talentradar.assessment_service.service.impl;
 
 import com.talentradar.assessment_service.dto.comment.response.CommentDto;
 import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentDto;
+import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentRequestDto;
 import com.talentradar.assessment_service.dto.feedbackComment.response.FeedbackCommentDto;
 import com.talentradar.assessment_service.exception.CommentNotFoundException;
 import com.talentradar.assessment_service.exception.FeedbackNotFoundException;
@@ -17,7 +18,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -58,6 +62,38 @@ public class FeedbackCommentServiceImpl implements FeedbackCommentService {
         return mapToDto(savedFeedbackComment);
     }
 
+    @Override
+    public List<FeedbackCommentDto> createFeedbackComments(Feedback feedback, List<CreateFeedbackCommentRequestDto> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> commentIds = requests.stream()
+                .map(CreateFeedbackCommentRequestDto::getCommentId)
+                .collect(Collectors.toSet());
+        Map<UUID, Comment> comments = commentRepository.findAllById(commentIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+        List<FeedbackComment> feedbackComments = requests.stream()
+                .map(request -> {
+                    Comment comment = comments.get(request.getCommentId());
+                    if (comment == null) {
+                        throw new CommentNotFoundException("Comment not found with id: " + request.getCommentId());
+                    }
+                    return FeedbackComment.builder()
+                            .feedback(feedback)
+                            .comment(comment)
+                            .feedbackCommentBody(request.getFeedbackCommentBody())
+                            .build();
+                })
+                .toList();
+
+        return feedbackCommentRepository.saveAll(feedbackComments)
+                .stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
     private FeedbackCommentDto mapToDto(FeedbackComment feedbackComment) {
         CommentDto commentDto = CommentDto.builder()
                 .id(feedbackComment.getComment().getId())
@@ -1,5 +1,7 @@
 package com.talentradar.assessment_service.service.impl;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.dimensionDefinition.request.CreateFeedbackDimensionRequestDto;
 import com.talentradar.assessment_service.dto.dimensionDefinition.response.DimensionDefinitionDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.request.CreateFeedbackDimensionDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.response.FeedbackDimensionDto;
@@ -18,8 +20,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -32,6 +36,7 @@ public class FeedbackDimensionServiceImpl implements FeedbackDimensionService {
     private final FeedbackDimensionRepository feedbackDimensionRepository;
     private final FeedbackRepository feedbackRepository;
     private final DimensionDefinitionRepository dimensionDefinitionRepository;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
 
     @Override
     @Transactional(readOnly = true)
@@ -68,10 +73,40 @@ public class FeedbackDimensionServiceImpl implements FeedbackDimensionService {
         FeedbackDimension savedFeedbackDimension = feedbackDimensionRepository.save(feedbackDimension);
         return mapToDto(savedFeedbackDimension);
     }
-    
 
+    @Override
+    public List<FeedbackDimensionDto> createFeedbackDimensions(Feedback feedback, List<CreateFeedbackDimensionRequestDto> requests) {
+        // The feedback is new, so duplicates can only come from the request itself; no existence query is needed
+        Set<UUID> seen = new HashSet<>();
+        List<DimensionDefinitionCatalog.Entry> definitions = new ArrayList<>(requests.size());
+        for (CreateFeedbackDimensionRequestDto request : requests) {
+            UUID definitionId = request.getDimensionDefinitionId();
+            if (!seen.add(definitionId)) {
+                throw new IllegalArgumentException("Feedback dimension already exists for feedback ID: " +
+                        feedback.getId() + " and dimension ID: " + definitionId);
+            }
+            definitions.add(dimensionDefinitionCatalog.find(definitionId)
+                    .orElseThrow(() -> new DimensionDefinitionNotFoundException("Dimension definition not found with id: " + definitionId)));
+        }
+
+        List<FeedbackDimension> feedbackDimensions = requests.stream()
+                .map(request -> FeedbackDimension.builder()
+                        .feedback(feedback)
+                        .dimensionDefinition(dimensionDefinitionRepository.getReferenceById(request.getDimensionDefinitionId()))
+                        .rating(request.getRating())
+                        .comment(request.getComment())
+                        .build())
+                .toList();
 
+        // Flushed as one JDBC batch (hibernate.jdbc.batch_size)
+        List<FeedbackDimension> saved = feedbackDimensionRepository.saveAll(feedbackDimensions);
 
+        List<FeedbackDimensionDto> dtos = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            dtos.add(mapToDto(saved.get(i), definitions.get(i)));
+        }
+        return dtos;
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -80,7 +115,14 @@ public class FeedbackDimensionServiceImpl implements FeedbackDimensionService {
     }
     
     private FeedbackDimensionDto mapToDto(FeedbackDimension feedbackDimension) {
-        DimensionDefinitionDto dimensionDefinitionDto = mapDimensionDefinitionToDto(feedbackDimension.getDimensionDefinition());
+        // Grading criteria come from the catalog so the lazy criteria set is not initialised once per dimension
+        DimensionDefinition dimensionDefinition = feedbackDimension.getDimensionDefinition();
+        Optional<DimensionDefinitionCatalog.Entry> cached = dimensionDefinitionCatalog.find(dimensionDefinition.getId());
+        if (cached.isPresent()) {
+            return mapToDto(feedbackDimension, cached.get());
+        }
+
+        DimensionDefinitionDto dimensionDefinitionDto = mapDimensionDefinitionToDto(dimensionDefinition);
         
         return FeedbackDimensionDto.builder()
                 .id(feedbackDimension.getId())
@@ -92,6 +134,32 @@ public class FeedbackDimensionServiceImpl implements FeedbackDimensionService {
                 .build();
     }
     
+    private FeedbackDimensionDto mapToDto(FeedbackDimension feedbackDimension, DimensionDefinitionCatalog.Entry definition) {
+        Set<GradingCriteriaDto> gradingCriteriaDto = definition.gradingCriteria().stream()
+                .map(criterion -> GradingCriteriaDto.builder()
+                        .id(criterion.id())
+                        .criteriaName(criterion.criteriaName())
+                        .build())
+                .collect(Collectors.toSet());
+
+        DimensionDefinitionDto dimensionDefinitionDto = DimensionDefinitionDto.builder()
+                .id(definition.id())
+                .dimensionName(definition.dimensionName())
+                .description(definition.description())
+                .weight(definition.weight())
+                .gradingCriteria(gradingCriteriaDto)
+                .build();
+
+        return FeedbackDimensionDto.builder()
+                .id(feedbackDimension.getId())
+                .feedbackId(feedbackDimension.getFeedback().getId())
+                .dimensionDefinition(dimensionDefinitionDto)
+                .rating(feedbackDimension.getRating())
+                .comment(feedbackDimension.getComment())
+                .createdAt(feedbackDimension.getCreatedAt())
+                .build();
+    }
+
     private DimensionDefinitionDto mapDimensionDefinitionToDto(DimensionDefinition dimensionDefinition) {
         Set<GradingCriteriaDto> gradingCriteriaDto = dimensionDefinition.getGradingCriteriaSet() != null ?
                 dimensionDefinition.getGradingCriteriaSet().stream()
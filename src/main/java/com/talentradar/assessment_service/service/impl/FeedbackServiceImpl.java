@@ -1,34 +1,51 @@
 package com.talentradar.assessment_service.service.impl;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.assessment.response.PaginatedResponseDTO;
+import com.talentradar.assessment_service.dto.dimensionDefinition.request.CreateFeedbackDimensionRequestDto;
 import com.talentradar.assessment_service.dto.feedback.request.CreateCompleteFeedbackDto;
 import com.talentradar.assessment_service.dto.feedback.request.FeedbackSearchCriteria;
 import com.talentradar.assessment_service.dto.feedback.response.FeedbackDto;
-import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentDto;
 import com.talentradar.assessment_service.dto.feedbackComment.response.FeedbackCommentDto;
-import com.talentradar.assessment_service.dto.feedbackDimension.request.CreateFeedbackDimensionDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.response.FeedbackDimensionDto;
 import com.talentradar.assessment_service.event.rabbit.producer.FeedbackEventProducer;
 import com.talentradar.assessment_service.exception.FeedbackNotFoundException;
 import com.talentradar.assessment_service.model.Feedback;
 import com.talentradar.assessment_service.repository.FeedbackRepository;
+import com.talentradar.assessment_service.repository.FeedbackVersionCounterRepository;
 import com.talentradar.assessment_service.repository.specification.FeedbackSpecification;
 import com.talentradar.assessment_service.service.FeedbackCommentService;
 import com.talentradar.assessment_service.service.FeedbackDimensionService;
 import com.talentradar.assessment_service.service.FeedbackService;
+import com.talentradar.assessment_service.service.TeamDashboardService;
+import com.talentradar.assessment_service.util.CursorCodec;
 import com.talentradar.assessment_service.util.PaginationUtil;
+import com.talentradar.assessment_service.util.WeightedScoreUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -36,10 +53,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class FeedbackServiceImpl implements FeedbackService {
 
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final Comparator<List<UUID>> PAIR_ORDER =
+            Comparator.<List<UUID>, UUID>comparing(pair -> pair.get(0)).thenComparing(pair -> pair.get(1));
+
     private final FeedbackRepository feedbackRepository;
+    private final FeedbackVersionCounterRepository feedbackVersionCounterRepository;
     private final FeedbackDimensionService feedbackDimensionService;
     private final FeedbackCommentService feedbackCommentService;
     private final FeedbackEventProducer feedbackEventProducer;
+    private final TeamDashboardService teamDashboardService;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
+    private final ObjectMapper objectMapper;
+
+    // Rows read from the database per round trip while exporting
+    @Value("${assessment.feedback-export.fetch-size:500}")
+    private int exportFetchSize;
 
     @Override
     @Transactional(readOnly = true)
@@ -99,16 +128,11 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .orElseThrow(() -> new FeedbackNotFoundException("Feedback not found with id: " + id));
 
         feedbackRepository.delete(feedback);
+        teamDashboardService.feedbackDeleted(feedback);
 
         // Publish feedback deleted event
-        try {
-            feedbackEventProducer.publishFeedbackDeleted(feedback);
-            log.info("Feedback deleted event published successfully for feedbackId={}", id);
-        } catch (Exception e) {
-            log.error("Failed to publish feedback deleted event for feedbackId={}: {}",
-                    id, e.getMessage(), e);
-            // Don't fail the transaction if event publishing fails
-        }
+        feedbackEventProducer.publishFeedbackDeleted(feedback);
+        log.info("Feedback deleted event published successfully for feedbackId={}", id);
     }
 
     @Override
@@ -128,9 +152,7 @@ public class FeedbackServiceImpl implements FeedbackService {
 
     @Override
     public FeedbackDto createNewFeedbackVersion(UUID managerId, UUID developerId) {
-        int latestVersion = feedbackRepository.findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(managerId, developerId)
-                .map(feedback -> feedback.getFeedbackVersion() + 1)
-                .orElse(1);
+        int latestVersion = feedbackVersionCounterRepository.allocate(managerId, developerId, 1);
 
         Feedback feedback = Feedback.builder()
                 .managerId(managerId)
@@ -139,18 +161,13 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .build();
 
         Feedback savedFeedback = feedbackRepository.save(feedback);
+        teamDashboardService.recordFeedback(savedFeedback, Map.of());
 
         // Publish feedback version created event
-        try {
-            log.info("this.feedbackEventProducer = {}",feedbackEventProducer);
-            feedbackEventProducer.publishFeedbackVersionCreated(savedFeedback);
-            log.info("Feedback version created event published successfully for feedbackId={}",
-                    savedFeedback.getId());
-        } catch (Exception e) {
-            log.error("Failed to publish feedback version created event for feedbackId={}: {}",
-                    savedFeedback.getId(), e.getMessage(), e);
-            // Don't fail the transaction if event publishing fails
-        }
+        log.info("this.feedbackEventProducer = {}",feedbackEventProducer);
+        feedbackEventProducer.publishFeedbackVersionCreated(savedFeedback);
+        log.info("Feedback version created event published successfully for feedbackId={}",
+                savedFeedback.getId());
 
         return mapToDto(savedFeedback);
     }
@@ -168,11 +185,8 @@ public class FeedbackServiceImpl implements FeedbackService {
         log.info("Creating complete feedback for manager: {} and developer: {}",
                 createDto.getManagerId(), createDto.getDeveloperId());
 
-        // Calculate the next version number based on existing feedback between this manager and developer
-        int nextVersion = feedbackRepository.findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(
-                        createDto.getManagerId(), createDto.getDeveloperId())
-                .map(existingFeedback -> existingFeedback.getFeedbackVersion() + 1)
-                .orElse(1); // First feedback starts at version 1
+        // Atomically reserve the next version for this manager and developer; the first feedback gets version 1
+        int nextVersion = feedbackVersionCounterRepository.allocate(createDto.getManagerId(), createDto.getDeveloperId(), 1);
 
         log.info("Calculated feedback version: {} for manager: {} and developer: {}",
                 nextVersion, createDto.getManagerId(), createDto.getDeveloperId());
@@ -181,57 +195,113 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .managerId(createDto.getManagerId())
                 .developerId(createDto.getDeveloperId())
                 .feedbackVersion(nextVersion)
+                .averageScore(calculateWeightedAverageScore(createDto.getDimensions()))
                 .build();
 
         Feedback savedFeedback = feedbackRepository.save(feedback);
         log.info("Created feedback with ID: {}", savedFeedback.getId());
 
-        List<FeedbackDimensionDto> dimensionDtos = createDto.getDimensions().stream()
-                .map(dimensionRequest -> {
-                    CreateFeedbackDimensionDto dimensionDto = CreateFeedbackDimensionDto.builder()
-                            .feedbackId(savedFeedback.getId())
-                            .dimensionDefinitionId(dimensionRequest.getDimensionDefinitionId())
-                            .rating(dimensionRequest.getRating())
-                            .comment(dimensionRequest.getComment())
-                            .build();
-                    return feedbackDimensionService.createFeedbackDimension(dimensionDto);
-                })
-                .collect(Collectors.toList());
+        List<FeedbackDimensionDto> dimensionDtos = feedbackDimensionService
+                .createFeedbackDimensions(savedFeedback, createDto.getDimensions());
 
         log.info("Created {} feedback dimensions", dimensionDtos.size());
 
         List<FeedbackCommentDto> commentDtos = Collections.emptyList();
         if (createDto.getFeedbackComments() != null && !createDto.getFeedbackComments().isEmpty()) {
-            commentDtos = createDto.getFeedbackComments().stream()
-                    .map(commentRequest -> {
-                        CreateFeedbackCommentDto commentDto = CreateFeedbackCommentDto.builder()
-                                .feedbackId(savedFeedback.getId())
-                                .commentId(commentRequest.getCommentId())
-                                .feedbackCommentBody(commentRequest.getFeedbackCommentBody())
-                                .build();
-                        return feedbackCommentService.createFeedbackComment(commentDto);
-                    })
-                    .collect(Collectors.toList());
+            commentDtos = feedbackCommentService
+                    .createFeedbackComments(savedFeedback, createDto.getFeedbackComments());
         }
 
         log.info("Created {} feedback comments", commentDtos.size());
 
-        // Publish feedback created event
-        try {
-            feedbackEventProducer.publishFeedbackCreated(savedFeedback);
-            log.info("Feedback created event published successfully for feedbackId={}",
-                    savedFeedback.getId());
-        } catch (Exception e) {
-            log.error("Failed to publish feedback created event for feedbackId={}: {}",
-                    savedFeedback.getId(), e.getMessage(), e);
-            // Don't fail the transaction if event publishing fails
+        teamDashboardService.recordFeedback(savedFeedback, managerRatings(createDto));
+        publishFeedbackCreated(savedFeedback);
+
+        return toCompleteDto(savedFeedback, dimensionDtos, commentDtos);
+    }
+
+    @Override
+    public List<FeedbackDto> createCompleteFeedbacks(List<CreateCompleteFeedbackDto> createDtos) {
+        log.info("Creating {} complete feedbacks in bulk", createDtos.size());
+
+        Map<List<UUID>, Integer> nextVersions = allocateVersions(createDtos);
+        List<Feedback> feedbacks = new ArrayList<>(createDtos.size());
+        for (CreateCompleteFeedbackDto createDto : createDtos) {
+            // Pairs repeated within the batch take consecutive versions from their reserved block
+            int nextVersion = nextVersions.merge(List.of(createDto.getManagerId(), createDto.getDeveloperId()),
+                    1, Integer::sum) - 1;
+            feedbacks.add(Feedback.builder()
+                    .managerId(createDto.getManagerId())
+                    .developerId(createDto.getDeveloperId())
+                    .feedbackVersion(nextVersion)
+                    .averageScore(calculateWeightedAverageScore(createDto.getDimensions()))
+                    .build());
+        }
+
+        // Everything is persisted before the first flush, so the inserts go out as JDBC batches per table
+        List<Feedback> savedFeedbacks = feedbackRepository.saveAll(feedbacks);
+        List<FeedbackDto> results = new ArrayList<>(createDtos.size());
+        for (int i = 0; i < createDtos.size(); i++) {
+            CreateCompleteFeedbackDto createDto = createDtos.get(i);
+            Feedback savedFeedback = savedFeedbacks.get(i);
+            List<FeedbackDimensionDto> dimensionDtos = feedbackDimensionService
+                    .createFeedbackDimensions(savedFeedback, createDto.getDimensions());
+            List<FeedbackCommentDto> commentDtos = createDto.getFeedbackComments() == null
+                    || createDto.getFeedbackComments().isEmpty()
+                    ? Collections.emptyList()
+                    : feedbackCommentService.createFeedbackComments(savedFeedback, createDto.getFeedbackComments());
+            results.add(toCompleteDto(savedFeedback, dimensionDtos, commentDtos));
         }
+        feedbackRepository.flush();
+
+        // Rollups and events run after the batched inserts; events go to the outbox and are published
+        // asynchronously by the relay once this transaction commits
+        for (int i = 0; i < createDtos.size(); i++) {
+            teamDashboardService.recordFeedback(savedFeedbacks.get(i), managerRatings(createDtos.get(i)));
+        }
+        savedFeedbacks.forEach(this::publishFeedbackCreated);
+
+        log.info("Created {} complete feedbacks in bulk", savedFeedbacks.size());
+        return results;
+    }
 
+    /**
+     * Reserves one block of versions per distinct pair in the batch and returns the first version of each block.
+     * Pairs are allocated in a fixed order so that two overlapping batches cannot deadlock on the counter rows.
+     */
+    private Map<List<UUID>, Integer> allocateVersions(List<CreateCompleteFeedbackDto> createDtos) {
+        Map<List<UUID>, Integer> counts = new TreeMap<>(PAIR_ORDER);
+        createDtos.forEach(createDto ->
+                counts.merge(List.of(createDto.getManagerId(), createDto.getDeveloperId()), 1, Integer::sum));
+
+        Map<List<UUID>, Integer> firstVersions = new HashMap<>();
+        counts.forEach((pair, count) -> {
+            int lastVersion = feedbackVersionCounterRepository.allocate(pair.get(0), pair.get(1), count);
+            firstVersions.put(pair, lastVersion - count + 1);
+        });
+        return firstVersions;
+    }
+
+    private Map<UUID, Integer> managerRatings(CreateCompleteFeedbackDto createDto) {
+        return createDto.getDimensions().stream()
+                .collect(Collectors.toMap(CreateFeedbackDimensionRequestDto::getDimensionDefinitionId,
+                        CreateFeedbackDimensionRequestDto::getRating, (first, second) -> second));
+    }
+
+    private void publishFeedbackCreated(Feedback savedFeedback) {
+        feedbackEventProducer.publishFeedbackCreated(savedFeedback);
+        log.info("Feedback created event published successfully for feedbackId={}",
+                savedFeedback.getId());
+    }
+
+    private FeedbackDto toCompleteDto(Feedback savedFeedback, List<FeedbackDimensionDto> dimensionDtos,
+                                      List<FeedbackCommentDto> commentDtos) {
         return FeedbackDto.builder()
                 .id(savedFeedback.getId())
                 .managerId(savedFeedback.getManagerId())
                 .developerId(savedFeedback.getDeveloperId())
                 .feedbackVersion(savedFeedback.getFeedbackVersion())
+                .averageScore(savedFeedback.getAverageScore())
                 .dimensions(dimensionDtos)
                 .feedbackComments(commentDtos)
                 .createdAt(savedFeedback.getCreatedAt())
@@ -245,22 +315,7 @@ public class FeedbackServiceImpl implements FeedbackService {
         Feedback feedback = feedbackRepository.findById(id)
                 .orElseThrow(() -> new FeedbackNotFoundException("Feedback not found with id: " + id));
 
-        List<FeedbackDimensionDto> dimensions = feedbackDimensionService
-                .getFeedbackDimensionsByFeedbackId(feedback.getId());
-
-        List<FeedbackCommentDto> comments = feedbackCommentService
-                .getFeedbackCommentsByFeedbackId(feedback.getId());
-
-        return FeedbackDto.builder()
-                .id(feedback.getId())
-                .managerId(feedback.getManagerId())
-                .developerId(feedback.getDeveloperId())
-                .feedbackVersion(feedback.getFeedbackVersion())
-                .dimensions(dimensions)
-                .feedbackComments(comments)
-                .createdAt(feedback.getCreatedAt())
-                .updatedAt(feedback.getUpdatedAt())
-                .build();
+        return mapToDtoWithDetails(feedback);
     }
 
     @Override
@@ -268,31 +323,46 @@ public class FeedbackServiceImpl implements FeedbackService {
         Feedback feedback = feedbackRepository.findById(id)
                 .orElseThrow(() -> new FeedbackNotFoundException("Feedback not found with id: " + id));
 
+        UUID previousDeveloperId = feedback.getDeveloperId();
         feedback.setManagerId(updateDto.getManagerId());
         feedback.setDeveloperId(updateDto.getDeveloperId());
         feedback.setFeedbackVersion(updateDto.getFeedbackVersion());
 
         Feedback updatedFeedback = feedbackRepository.save(feedback);
+        teamDashboardService.feedbackUpdated(previousDeveloperId, updatedFeedback);
 
         // Publish feedback updated event
-        try {
-            feedbackEventProducer.publishFeedbackUpdated(updatedFeedback);
-            log.info("Feedback updated event published successfully for feedbackId={}", id);
-        } catch (Exception e) {
-            log.error("Failed to publish feedback updated event for feedbackId={}: {}",
-                    id, e.getMessage(), e);
-            // Don't fail the transaction if event publishing fails
-        }
+        feedbackEventProducer.publishFeedbackUpdated(updatedFeedback);
+        log.info("Feedback updated event published successfully for feedbackId={}", id);
 
         return getCompleteFeedback(updatedFeedback.getId());
     }
 
+    /**
+     * Weighted average of the manager's ratings, computed the same way as an assessment's average score.
+     * Returns null when a dimension is not in the catalog; creating the dimensions then fails anyway.
+     */
+    private Integer calculateWeightedAverageScore(List<CreateFeedbackDimensionRequestDto> dimensions) {
+        if (dimensions == null || dimensions.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < dimensions.size(); i++) {
+            if (!dimensionDefinitionCatalog.contains(dimensions.get(i).getDimensionDefinitionId())) {
+                return null;
+            }
+        }
+
+        return WeightedScoreUtil.weightedAverage(dimensions, CreateFeedbackDimensionRequestDto::getRating,
+                dimension -> dimensionDefinitionCatalog.require(dimension.getDimensionDefinitionId()));
+    }
+
     private FeedbackDto mapToDto(Feedback feedback) {
         return FeedbackDto.builder()
                 .id(feedback.getId())
                 .managerId(feedback.getManagerId())
                 .developerId(feedback.getDeveloperId())
                 .feedbackVersion(feedback.getFeedbackVersion())
+                .averageScore(feedback.getAverageScore())
                 .createdAt(feedback.getCreatedAt())
                 .updatedAt(feedback.getUpdatedAt())
                 .dimensions(Collections.emptyList())
@@ -300,6 +370,10 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .build();
     }
 
+    /**
+     * Assembles the detailed view with a fixed number of queries: one for the dimensions (with their
+     * definitions) and one for the comments (with their templates), independent of how many rows exist.
+     */
     private FeedbackDto mapToDtoWithDetails(Feedback feedback) {
         List<FeedbackDimensionDto> dimensions = feedbackDimensionService
                 .getFeedbackDimensionsByFeedbackId(feedback.getId());
@@ -312,6 +386,7 @@ public class FeedbackServiceImpl implements FeedbackService {
                 .managerId(feedback.getManagerId())
                 .developerId(feedback.getDeveloperId())
                 .feedbackVersion(feedback.getFeedbackVersion())
+                .averageScore(feedback.getAverageScore())
                 .createdAt(feedback.getCreatedAt())
                 .updatedAt(feedback.getUpdatedAt())
                 .dimensions(dimensions)
@@ -334,4 +409,55 @@ public class FeedbackServiceImpl implements FeedbackService {
                 feedbackPage.map(this::mapToDto)
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponseDTO<FeedbackDto> searchFeedbacks(FeedbackSearchCriteria criteria, String cursor, int size,
+                                                             boolean includeTotal) {
+        CursorCodec.Cursor after = CursorCodec.decode(cursor);
+        log.info("Searching feedbacks with criteria: managerId={}, developerId={}, version={}, after cursor={} size={}",
+                criteria.getManagerId(), criteria.getDeveloperId(), criteria.getFeedbackVersion(), after, size);
+
+        Specification<Feedback> specification = FeedbackSpecification.createSpecification(criteria);
+        Specification<Feedback> pageSpecification = after == null
+                ? specification
+                : specification.and(FeedbackSpecification.after(after));
+
+        // One extra row tells whether another page exists
+        List<Feedback> feedbacks = feedbackRepository.findBy(pageSpecification,
+                query -> query.sortBy(KEYSET_ORDER).limit(size + 1).all());
+        Long total = includeTotal ? feedbackRepository.count(specification) : null;
+
+        return PaginationUtil.toCursorResponse(feedbacks, size, after != null, total,
+                feedback -> CursorCodec.encode(feedback.getCreatedAt(), feedback.getId()),
+                this::mapToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportFeedbacks(FeedbackSearchCriteria criteria, OutputStream out) throws IOException {
+        log.info("Exporting feedbacks with criteria: managerId={}, developerId={}, version={}, createdAfter={}, createdBefore={}",
+                criteria.getManagerId(), criteria.getDeveloperId(), criteria.getFeedbackVersion(),
+                criteria.getCreatedAfter(), criteria.getCreatedBefore());
+
+        long exported = 0;
+        try (Stream<Feedback> feedbacks = feedbackRepository.streamAll(
+                FeedbackSpecification.createSpecification(criteria), exportFetchSize);
+             SequenceWriter writer = objectMapper.writerFor(FeedbackDto.class)
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            for (Feedback feedback : (Iterable<Feedback>) feedbacks::iterator) {
+                writer.write(mapToDto(feedback));
+                exported++;
+            }
+        }
+        if (exported > 0) {
+            out.write('\n');
+        }
+        out.flush();
+
+        log.info("Exported {} feedbacks", exported);
+        return exported;
+    }
+}
@@ -1,5 +1,6 @@
 package com.talentradar.assessment_service.service.impl;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.gradingCriteria.request.CreateGradingCriteriaDto;
 import com.talentradar.assessment_service.dto.gradingCriteria.response.GradingCriteriaDto;
 import com.talentradar.assessment_service.dto.gradingCriteria.request.UpdateGradingCriteriaDto;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class GradingCriteriaServiceImpl implements GradingCriteriaService {
     
     private final GradingCriteriaRepository gradingCriteriaRepository;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
     
     @Override
     @Transactional(readOnly = true)
@@ -61,6 +63,8 @@ public class GradingCriteriaServiceImpl implements GradingCriteriaService {
         }
         
         GradingCriteria updatedGradingCriteria = gradingCriteriaRepository.save(gradingCriteria);
+        // Criteria names are part of the cached dimension catalog
+        dimensionDefinitionCatalog.invalidate();
         return mapToDto(updatedGradingCriteria);
     }
     
@@ -69,6 +73,7 @@ public class GradingCriteriaServiceImpl implements GradingCriteriaService {
         GradingCriteria gradingCriteria = gradingCriteriaRepository.findById(id)
                 .orElseThrow(() -> new GradingCriteriaNotFoundException("Grading criteria not found with id: " + id));
         gradingCriteriaRepository.delete(gradingCriteria);
+        dimensionDefinitionCatalog.invalidate();
     }
     
     @Override
@@ -0,0 +1,309 @@
+package com.talentradar.assessment_service.service.impl;
+
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.gapAnalysis.response.DimensionGapDto;
+import com.talentradar.assessment_service.dto.gapAnalysis.response.GapBucketDto;
+import com.talentradar.assessment_service.dto.gapAnalysis.response.GapDistributionDto;
+import com.talentradar.assessment_service.dto.teamDashboard.response.DeveloperDashboardDto;
+import com.talentradar.assessment_service.dto.teamDashboard.response.DimensionDeltaDto;
+import com.talentradar.assessment_service.dto.teamDashboard.response.TeamDashboardDto;
+import com.talentradar.assessment_service.model.*;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.DeveloperRollupRepository;
+import com.talentradar.assessment_service.repository.DimensionRollupRepository;
+import com.talentradar.assessment_service.repository.FeedbackDimensionRepository;
+import com.talentradar.assessment_service.repository.FeedbackRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.service.TeamDashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the developer and dimension rollup rows behind the manager team dashboard.
+ * <p>
+ * Assessment and feedback writes call into this service inside their own transaction, so the rollups
+ * commit or roll back together with the data they summarise. Each write first upserts the developer's
+ * rollup row; that statement locks the row and refuses writes older than the one already recorded, which
+ * keeps concurrent writes for the same developer ordered. The dashboard itself is then read with a fixed
+ * number of queries regardless of team size, and gap distributions are a single grouped query over the
+ * stored per-dimension gaps.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class TeamDashboardServiceImpl implements TeamDashboardService {
+
+    private final DeveloperRollupRepository developerRollupRepository;
+    private final DimensionRollupRepository dimensionRollupRepository;
+    private final UserSnapshotRepository userSnapshotRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final FeedbackDimensionRepository feedbackDimensionRepository;
+    private final DimensionDefinitionCatalog dimensionDefinitionCatalog;
+    private final AssessmentRepository assessmentRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamDashboardDto getTeamDashboard(UUID managerId) {
+        log.info("Building team dashboard for manager: {}", managerId);
+
+        List<UserSnapshot> team = userSnapshotRepository.findByManagerIdAndRole(managerId, UserRole.DEVELOPER);
+        if (team.isEmpty()) {
+            return TeamDashboardDto.builder().managerId(managerId).developers(List.of()).build();
+        }
+
+        List<UUID> developerIds = team.stream().map(UserSnapshot::getUserId).toList();
+        Map<UUID, DeveloperRollup> rollups = developerRollupRepository.findAllById(developerIds).stream()
+                .collect(Collectors.toMap(DeveloperRollup::getDeveloperId, Function.identity()));
+        Map<UUID, List<DimensionRollup>> dimensions = dimensionRollupRepository.findByDeveloperIdIn(developerIds)
+                .stream()
+                .collect(Collectors.groupingBy(DimensionRollup::getDeveloperId));
+
+        List<DeveloperDashboardDto> developers = team.stream()
+                .map(developer -> toDto(developer, rollups.get(developer.getUserId()),
+                        dimensions.getOrDefault(developer.getUserId(), List.of())))
+                .toList();
+
+        log.info("Team dashboard for manager {} covers {} developers", managerId, developers.size());
+        return TeamDashboardDto.builder().managerId(managerId).developers(developers).build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GapDistributionDto getOrganizationGapDistribution() {
+        return toGapDistribution(null, dimensionRollupRepository.countGaps());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GapDistributionDto getTeamGapDistribution(UUID managerId) {
+        return toGapDistribution(managerId,
+                dimensionRollupRepository.countGapsForManager(managerId, UserRole.DEVELOPER));
+    }
+
+    @Override
+    public void recordAssessment(Assessment assessment) {
+        recordAssessment(assessment, LocalDateTime.now());
+    }
+
+    @Override
+    public void recordAssessment(Assessment assessment, LocalDateTime recordedAt) {
+        if (assessment.getSubmissionStatus() != SubmissionStatus.SUBMITTED) {
+            return;
+        }
+
+        int applied = developerRollupRepository.upsertLatestAssessment(
+                assessment.getUserId(), assessment.getId(), assessment.getAverageScore(), recordedAt);
+        if (applied == 0) {
+            log.debug("Skipping rollup for assessment {}, a newer one is already recorded", assessment.getId());
+            return;
+        }
+
+        Map<UUID, Integer> selfRatings = new HashMap<>();
+        if (assessment.getDimensions() != null) {
+            assessment.getDimensions().forEach(dimension ->
+                    selfRatings.put(dimension.getDimensionDefinition().getId(), dimension.getRating()));
+        }
+        applyRatings(assessment.getUserId(), selfRatings, null, recordedAt);
+    }
+
+    @Override
+    public void assessmentWithdrawn(Assessment assessment) {
+        UUID developerId = assessment.getUserId();
+        int cleared = developerRollupRepository.clearLatestAssessment(developerId, assessment.getId(),
+                LocalDateTime.now());
+        if (cleared == 0) {
+            return;
+        }
+
+        // Self ratings always come from the latest assessment, so they go with it
+        dimensionRollupRepository.clearSelfRatings(developerId);
+        assessmentRepository.findTopByUserIdAndSubmissionStatusAndIdNotOrderByCreatedAtDesc(
+                        developerId, SubmissionStatus.SUBMITTED, assessment.getId())
+                .ifPresent(previous -> recordAssessment(previous,
+                        previous.getCreatedAt() != null ? previous.getCreatedAt() : LocalDateTime.now()));
+    }
+
+    @Override
+    public void recordFeedback(Feedback feedback, Map<UUID, Integer> managerRatings) {
+        applyFeedback(feedback.getDeveloperId(), feedback, managerRatings, LocalDateTime.now());
+    }
+
+    @Override
+    public void feedbackUpdated(UUID previousDeveloperId, Feedback feedback) {
+        if (Objects.equals(previousDeveloperId, feedback.getDeveloperId())) {
+            developerRollupRepository.refreshLatestFeedback(feedback.getDeveloperId(), feedback.getId(),
+                    feedback.getManagerId(), feedback.getFeedbackVersion(), LocalDateTime.now());
+            return;
+        }
+
+        // The feedback moved to another developer: retract it from the old one, then record it for the new one
+        retractFeedback(previousDeveloperId, feedback.getId());
+        applyFeedback(feedback.getDeveloperId(), feedback, ratingsOf(feedback.getId()), LocalDateTime.now());
+    }
+
+    @Override
+    public void feedbackDeleted(Feedback feedback) {
+        retractFeedback(feedback.getDeveloperId(), feedback.getId());
+    }
+
+    private void retractFeedback(UUID developerId, UUID feedbackId) {
+        dimensionRollupRepository.clearManagerRatings(developerId, feedbackId);
+        int cleared = developerRollupRepository.clearLatestFeedback(developerId, feedbackId, LocalDateTime.now());
+        if (cleared == 0) {
+            return;
+        }
+
+        feedbackRepository.findTopByDeveloperIdAndIdNotOrderByCreatedAtDesc(developerId, feedbackId)
+                .ifPresent(previous -> applyFeedback(developerId, previous, ratingsOf(previous.getId()),
+                        previous.getCreatedAt() != null ? previous.getCreatedAt() : LocalDateTime.now()));
+    }
+
+    private void applyFeedback(UUID developerId, Feedback feedback, Map<UUID, Integer> managerRatings,
+                               LocalDateTime at) {
+        int applied = developerRollupRepository.upsertLatestFeedback(developerId, feedback.getId(),
+                feedback.getManagerId(), feedback.getFeedbackVersion(), at);
+        if (applied == 0) {
+            log.debug("Skipping rollup for feedback {}, a newer one is already recorded", feedback.getId());
+            return;
+        }
+
+        // A version created without dimensions keeps the ratings of the feedback before it
+        if (!managerRatings.isEmpty()) {
+            applyRatings(developerId, managerRatings, feedback.getId(), at);
+        }
+    }
+
+    private Map<UUID, Integer> ratingsOf(UUID feedbackId) {
+        return feedbackDimensionRepository.findByFeedbackId(feedbackId).stream()
+                .collect(Collectors.toMap(dimension -> dimension.getDimensionDefinition().getId(),
+                        FeedbackDimension::getRating, (first, second) -> second));
+    }
+
+    /**
+     * Replaces one side of the developer's dimension ratings: self ratings when {@code feedbackId} is null,
+     * manager ratings otherwise. Dimensions missing from {@code ratings} lose that side's rating.
+     */
+    private void applyRatings(UUID developerId, Map<UUID, Integer> ratings, UUID feedbackId, LocalDateTime at) {
+        boolean manager = feedbackId != null;
+        Map<UUID, DimensionRollup> existing = dimensionRollupRepository.findByDeveloperId(developerId).stream()
+                .collect(Collectors.toMap(DimensionRollup::getDimensionDefinitionId, Function.identity()));
+
+        List<DimensionRollup> changed = new ArrayList<>();
+        for (DimensionRollup rollup : existing.values()) {
+            if (!ratings.containsKey(rollup.getDimensionDefinitionId())
+                    && (manager ? rollup.getManagerRating() : rollup.getSelfRating()) != null) {
+                setRating(rollup, null, feedbackId, manager, at);
+                changed.add(rollup);
+            }
+        }
+        ratings.forEach((dimensionDefinitionId, rating) -> {
+            DimensionRollup rollup = existing.computeIfAbsent(dimensionDefinitionId, id -> DimensionRollup.builder()
+                    .developerId(developerId)
+                    .dimensionDefinitionId(id)
+                    .build());
+            setRating(rollup, rating, feedbackId, manager, at);
+            changed.add(rollup);
+        });
+
+        dimensionRollupRepository.saveAll(changed);
+        log.debug("Updated {} {} dimension rollups for developer {}", changed.size(),
+                manager ? "manager" : "self", developerId);
+    }
+
+    private void setRating(DimensionRollup rollup, Integer rating, UUID feedbackId, boolean manager,
+                           LocalDateTime at) {
+        if (manager) {
+            rollup.setManagerRating(rating);
+            rollup.setManagerFeedbackId(rating == null ? null : feedbackId);
+        } else {
+            rollup.setSelfRating(rating);
+        }
+        rollup.setGap(rollup.getSelfRating() != null && rollup.getManagerRating() != null
+                ? rollup.getManagerRating() - rollup.getSelfRating()
+                : null);
+        rollup.setUpdatedAt(at);
+    }
+
+    private DeveloperDashboardDto toDto(UserSnapshot developer, DeveloperRollup rollup,
+                                        List<DimensionRollup> dimensions) {
+        List<DimensionDeltaDto> deltas = dimensions.stream()
+                .filter(dimension -> dimension.getSelfRating() != null || dimension.getManagerRating() != null)
+                .map(this::toDeltaDto)
+                .sorted(Comparator.comparing(DimensionDeltaDto::getDimensionName,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        return DeveloperDashboardDto.builder()
+                .developerId(developer.getUserId())
+                .fullName(developer.getFullName())
+                .username(developer.getUsername())
+                .latestAverageScore(rollup == null ? null : rollup.getLatestAverageScore())
+                .latestAssessmentAt(rollup == null ? null : rollup.getLatestAssessmentAt())
+                .latestFeedbackVersion(rollup == null ? null : rollup.getLatestFeedbackVersion())
+                .latestFeedbackAt(rollup == null ? null : rollup.getLatestFeedbackAt())
+                .dimensions(deltas)
+                .build();
+    }
+
+    private DimensionDeltaDto toDeltaDto(DimensionRollup dimension) {
+        return DimensionDeltaDto.builder()
+                .dimensionDefinitionId(dimension.getDimensionDefinitionId())
+                .dimensionName(dimensionName(dimension.getDimensionDefinitionId()))
+                .selfRating(dimension.getSelfRating())
+                .managerRating(dimension.getManagerRating())
+                .delta(dimension.getGap())
+                .build();
+    }
+
+    private GapDistributionDto toGapDistribution(UUID managerId, List<DimensionRollupRepository.GapCount> counts) {
+        Map<UUID, List<DimensionRollupRepository.GapCount>> byDimension = counts.stream()
+                .collect(Collectors.groupingBy(DimensionRollupRepository.GapCount::getDimensionDefinitionId));
+
+        List<DimensionGapDto> dimensions = byDimension.entrySet().stream()
+                .map(entry -> toDimensionGapDto(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(DimensionGapDto::getDimensionName,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        return GapDistributionDto.builder().managerId(managerId).dimensions(dimensions).build();
+    }
+
+    private DimensionGapDto toDimensionGapDto(UUID dimensionDefinitionId,
+                                              List<DimensionRollupRepository.GapCount> counts) {
+        long developers = 0;
+        long gapTotal = 0;
+        for (DimensionRollupRepository.GapCount count : counts) {
+            developers += count.getDevelopers();
+            gapTotal += count.getGap() * count.getDevelopers();
+        }
+
+        List<GapBucketDto> buckets = counts.stream()
+                .map(count -> GapBucketDto.builder().gap(count.getGap()).developers(count.getDevelopers()).build())
+                .sorted(Comparator.comparingInt(GapBucketDto::getGap))
+                .toList();
+
+        return DimensionGapDto.builder()
+                .dimensionDefinitionId(dimensionDefinitionId)
+                .dimensionName(dimensionName(dimensionDefinitionId))
+                .developers(developers)
+                .averageGap(BigDecimal.valueOf(gapTotal).divide(BigDecimal.valueOf(developers), 2, RoundingMode.HALF_UP))
+                .buckets(buckets)
+                .build();
+    }
+
+    private String dimensionName(UUID dimensionDefinitionId) {
+        return dimensionDefinitionCatalog.find(dimensionDefinitionId)
+                .map(DimensionDefinitionCatalog.Entry::dimensionName)
+                .orElse(null);
+    }
+}
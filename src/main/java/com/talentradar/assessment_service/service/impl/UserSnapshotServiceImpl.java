@@ -1,16 +1,17 @@
 package com.talentradar.assessment_service.service.impl;
 
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
 import com.talentradar.assessment_service.dto.userSnapshot.response.UserSnapshotDto;
 import com.talentradar.assessment_service.exception.ResourceNotFoundException;
 import com.talentradar.assessment_service.exception.BadRequestException;
 import com.talentradar.assessment_service.model.SubmissionStatus;
 import com.talentradar.assessment_service.model.UserRole;
 import com.talentradar.assessment_service.model.UserSnapshot;
-import com.talentradar.assessment_service.repository.AssessmentRepository;
 import com.talentradar.assessment_service.repository.UserSnapshotRepository;
 import com.talentradar.assessment_service.service.UserSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,7 +26,11 @@ import java.util.stream.Collectors;
 public class UserSnapshotServiceImpl implements UserSnapshotService {
 
     private final UserSnapshotRepository userSnapshotRepository;
-    private final AssessmentRepository assessmentRepository;
+    private final UserSnapshotCache userSnapshotCache;
+
+    // Read the materialized assessment_submitted flag instead of checking assessments (requires backfill)
+    @Value("${assessment.developer-listing.use-submission-flag:false}")
+    private boolean useSubmissionFlag;
 
     @Override
     @Transactional(readOnly = true)
@@ -40,14 +45,13 @@ public class UserSnapshotServiceImpl implements UserSnapshotService {
             throw new BadRequestException("User with id " + managerId + " is not a manager");
         }
         
-        List<UserSnapshot> developers = userSnapshotRepository.findByManagerIdAndRole(managerId, UserRole.DEVELOPER);
-        log.info("Found {} developers for manager: {}", developers.size(), managerId);
-
-        List<UserSnapshot> developersWithSubmittedAssessments = developers.stream()
-                .filter(developer -> assessmentRepository.existsByUserIdAndSubmissionStatus(
-                        developer.getUserId(), SubmissionStatus.SUBMITTED))
-                .toList();
-
+        // Only developers who have submitted an assessment, in one query
+        List<UserSnapshot> developersWithSubmittedAssessments = useSubmissionFlag
+                ? userSnapshotRepository.findByManagerIdAndRoleAndAssessmentSubmittedTrue(managerId, UserRole.DEVELOPER)
+                : userSnapshotRepository.findByManagerIdAndRoleWithAssessmentStatus(
+                        managerId, UserRole.DEVELOPER, SubmissionStatus.SUBMITTED);
+        log.info("Found {} developers with submitted assessments for manager: {}",
+                developersWithSubmittedAssessments.size(), managerId);
 
         return developersWithSubmittedAssessments.stream()
                 .map(this::mapToDto)
@@ -83,6 +87,7 @@ public class UserSnapshotServiceImpl implements UserSnapshotService {
         // Assign developer to manager
         developer.setManagerId(managerId);
         UserSnapshot savedDeveloper = userSnapshotRepository.save(developer);
+        userSnapshotCache.evict(developerId);
         
         log.info("Successfully assigned developer {} to manager {}", developerId, managerId);
         return mapToDto(savedDeveloper);
@@ -117,7 +122,7 @@ public class UserSnapshotServiceImpl implements UserSnapshotService {
     @Override
     @Transactional(readOnly = true)
     public boolean userExists(UUID userId) {
-        return userSnapshotRepository.findByUserId(userId).isPresent();
+        return userSnapshotRepository.existsByUserId(userId);
     }
 
     private UserSnapshotDto mapToDto(UserSnapshot userSnapshot) {
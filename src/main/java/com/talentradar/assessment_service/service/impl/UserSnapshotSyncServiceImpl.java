@@ -0,0 +1,200 @@
+package com.talentradar.assessment_service.service.impl;
+
+import com.talentradar.assessment_service.cache.ProcessedEventLog;
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
+import com.talentradar.assessment_service.event.UserEvent;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import com.talentradar.assessment_service.model.UserRole;
+import com.talentradar.assessment_service.model.UserSnapshot;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.service.UserSnapshotSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class UserSnapshotSyncServiceImpl implements UserSnapshotSyncService {
+
+    private final UserSnapshotRepository userSnapshotRepository;
+    private final ProcessedEventLog processedEventLog;
+    private final UserSnapshotCache userSnapshotCache;
+    private final AssessmentRepository assessmentRepository;
+
+    @Override
+    public void apply(UserEvent userEvent) {
+        if (processedEventLog.isProcessed(userEvent.getEventId())) {
+            log.info("Skipping already processed event {} for userId: {}", userEvent.getEventId(), userEvent.getUserId());
+            return;
+        }
+
+        switch (userEvent.getEventType()) {
+            case USER_CREATED, USER_UPDATED -> handleUserCreatedOrUpdated(userEvent);
+            case USER_DELETED -> handleUserDeleted(userEvent);
+            default -> log.warn("Unknown event type: {}", userEvent.getEventType());
+        }
+        userSnapshotCache.evict(userEvent.getUserId());
+        processedEventLog.markProcessed(userEvent.getEventId());
+    }
+
+    @Override
+    public void applyBatch(List<UserEvent> userEvents) {
+        Set<String> processed = processedEventLog.findProcessed(
+                userEvents.stream().map(UserEvent::getEventId).filter(Objects::nonNull).toList());
+
+        Map<UUID, List<UserEvent>> eventsByUser = new LinkedHashMap<>();
+        Set<String> applied = new HashSet<>();
+        for (UserEvent userEvent : userEvents) {
+            String eventId = userEvent.getEventId();
+            if (eventId != null && (processed.contains(eventId) || !applied.add(eventId))) {
+                log.info("Skipping already processed event {} for userId: {}", eventId, userEvent.getUserId());
+                continue;
+            }
+            if (userEvent.getUserId() == null) {
+                log.warn("Skipping {} event without a userId", userEvent.getEventType());
+                continue;
+            }
+            eventsByUser.computeIfAbsent(userEvent.getUserId(), id -> new ArrayList<>()).add(userEvent);
+        }
+        processedEventLog.markProcessed(applied);
+        if (eventsByUser.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, UserSnapshot> existing = userSnapshotRepository.findByUserIdIn(eventsByUser.keySet()).stream()
+                .collect(Collectors.toMap(UserSnapshot::getUserId, Function.identity()));
+        Set<UUID> withoutSnapshot = eventsByUser.keySet().stream()
+                .filter(userId -> !existing.containsKey(userId))
+                .collect(Collectors.toSet());
+        Set<UUID> submitted = withoutSnapshot.isEmpty() ? Set.of()
+                : assessmentRepository.findUserIdsWithSubmissionStatus(withoutSnapshot, SubmissionStatus.SUBMITTED);
+
+        List<UserSnapshot> toSave = new ArrayList<>();
+        List<UserSnapshot> toDelete = new ArrayList<>();
+        eventsByUser.forEach((userId, events) -> {
+            userSnapshotCache.evict(userId);
+            UserSnapshot persisted = existing.get(userId);
+            UserSnapshot current = collapse(persisted, events, submitted.contains(userId));
+            if (current != null) {
+                toSave.add(current);
+            } else if (persisted != null) {
+                toDelete.add(persisted);
+            }
+        });
+
+        userSnapshotRepository.saveAll(toSave);
+        if (!toDelete.isEmpty()) {
+            userSnapshotRepository.deleteAllInBatch(toDelete);
+        }
+        log.info("Applied {} user events as {} upserts and {} deletes",
+                userEvents.size(), toSave.size(), toDelete.size());
+    }
+
+    /**
+     * Folds one user's events, in delivery order, into the snapshot that should exist afterwards, or
+     * {@code null} if it should not exist. The persisted entity is reused when a user is deleted and
+     * re-created within the batch, so the row is updated in place rather than deleted and re-inserted.
+     */
+    private UserSnapshot collapse(UserSnapshot persisted, List<UserEvent> events, boolean assessmentSubmitted) {
+        UserSnapshot current = persisted;
+        for (UserEvent userEvent : events) {
+            switch (userEvent.getEventType()) {
+                case USER_CREATED, USER_UPDATED -> {
+                    if (current != null) {
+                        updateProfile(current, userEvent);
+                    } else if (persisted != null) {
+                        resetSnapshot(persisted, userEvent);
+                        current = persisted;
+                    } else {
+                        current = newSnapshot(userEvent, assessmentSubmitted);
+                    }
+                }
+                case USER_DELETED -> {
+                    if (current == null) {
+                        log.warn("Attempted to delete non-existent user snapshot for userId: {}", userEvent.getUserId());
+                    }
+                    current = null;
+                }
+                default -> log.warn("Unknown event type: {}", userEvent.getEventType());
+            }
+        }
+        return current;
+    }
+
+    private void handleUserCreatedOrUpdated(UserEvent userEvent) {
+        log.info("Processing user created/updated event for userId: {}", userEvent.getUserId());
+
+        Optional<UserSnapshot> existingSnapshot = userSnapshotRepository.findByUserId(userEvent.getUserId());
+
+        if (existingSnapshot.isPresent()) {
+            // Manager assignment, role and email are owned by this service; only profile fields are synced
+            UserSnapshot snapshot = existingSnapshot.get();
+            updateProfile(snapshot, userEvent);
+
+            userSnapshotRepository.save(snapshot);
+            log.info("Updated user snapshot for userId: {}", userEvent.getUserId());
+        } else {
+            userSnapshotRepository.save(newSnapshot(userEvent, assessmentRepository.existsByUserIdAndSubmissionStatus(
+                    userEvent.getUserId(), SubmissionStatus.SUBMITTED)));
+            log.info("Created new user snapshot for userId: {}", userEvent.getUserId());
+        }
+    }
+
+    private void handleUserDeleted(UserEvent userEvent) {
+        log.info("Processing user deleted event for userId: {}", userEvent.getUserId());
+
+        Optional<UserSnapshot> existingSnapshot = userSnapshotRepository.findByUserId(userEvent.getUserId());
+
+        if (existingSnapshot.isPresent()) {
+            userSnapshotRepository.delete(existingSnapshot.get());
+            log.info("Deleted user snapshot for userId: {}", userEvent.getUserId());
+        } else {
+            log.warn("Attempted to delete non-existent user snapshot for userId: {}", userEvent.getUserId());
+        }
+    }
+
+    /**
+     * A user can have submitted assessments before their snapshot exists, e.g. when it is re-created after a
+     * delete, so the submission flag is seeded from the assessments rather than left at its default.
+     */
+    private UserSnapshot newSnapshot(UserEvent userEvent, boolean assessmentSubmitted) {
+        return UserSnapshot.builder()
+                .userId(userEvent.getUserId())
+                .managerId(userEvent.getManagerId())
+                .fullName(userEvent.getFullName())
+                .username(userEvent.getUsername())
+                .email(userEvent.getEmail())
+                .role(UserRole.valueOf(userEvent.getRole().name()))
+                .assessmentSubmitted(assessmentSubmitted)
+                .build();
+    }
+
+    private void updateProfile(UserSnapshot snapshot, UserEvent userEvent) {
+        snapshot.setFullName(userEvent.getFullName());
+        snapshot.setUsername(userEvent.getUsername());
+    }
+
+    private void resetSnapshot(UserSnapshot snapshot, UserEvent userEvent) {
+        snapshot.setManagerId(userEvent.getManagerId());
+        snapshot.setFullName(userEvent.getFullName());
+        snapshot.setUsername(userEvent.getUsername());
+        snapshot.setEmail(userEvent.getEmail());
+        snapshot.setRole(UserRole.valueOf(userEvent.getRole().name()));
+    }
+}
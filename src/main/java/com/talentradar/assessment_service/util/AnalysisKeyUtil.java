@@ -0,0 +1,24 @@
+package com.talentradar.assessment_service.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Derives the key a dimension is reported under in analysis payloads, e.g. "Communication & Collaboration"
+ * becomes "communicationcollaboration". Keys are computed once when a dimension definition is written and
+ * stored on it, so payload building never normalizes names itself.
+ */
+public final class AnalysisKeyUtil {
+
+    private static final Pattern IGNORED_CHARACTERS = Pattern.compile("[\\s&]+");
+
+    private AnalysisKeyUtil() {
+    }
+
+    public static String toAnalysisKey(String dimensionName) {
+        if (dimensionName == null) {
+            return null;
+        }
+        return IGNORED_CHARACTERS.matcher(dimensionName.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+}
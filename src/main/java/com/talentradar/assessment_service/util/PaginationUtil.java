@@ -4,6 +4,9 @@ import com.talentradar.assessment_service.dto.assessment.request.PaginationMetad
 import com.talentradar.assessment_service.dto.assessment.response.PaginatedResponseDTO;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+import java.util.function.Function;
+
 public class PaginationUtil {
 
     public static <T> PaginatedResponseDTO<T> toPaginatedResponse(Page<T> pageData) {
@@ -19,5 +22,30 @@ public class PaginationUtil {
                         .build())
                 .build();
     }
-}
 
+    /**
+     * Builds a keyset page. {@code rows} may hold one row more than {@code size}; that extra row only
+     * signals that another page exists and is dropped. {@code cursorOf} produces the token of a row.
+     */
+    public static <E, T> PaginatedResponseDTO<T> toCursorResponse(List<E> rows,
+                                                                  int size,
+                                                                  boolean hasPrevious,
+                                                                  Long totalElements,
+                                                                  Function<E, String> cursorOf,
+                                                                  Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return PaginatedResponseDTO.<T>builder()
+                .content(pageRows.stream().map(mapper).toList())
+                .pagination(PaginationMetadata.builder()
+                        .size(size)
+                        .totalElements(totalElements)
+                        .totalPages(totalElements == null ? null : (int) Math.ceil((double) totalElements / size))
+                        .hasNext(hasNext)
+                        .hasPrevious(hasPrevious)
+                        .nextCursor(hasNext ? cursorOf.apply(pageRows.getLast()) : null)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.talentradar.assessment_service.util;
+
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Weighted average of dimension ratings: sum(rating * weight) / sum(weight), rounded HALF_UP to two
+ * decimals and then HALF_UP to a whole score.
+ * <p>
+ * Dimension weights are stored as {@code numeric(8, 2)}, so the hot path works on weights scaled by 100 and
+ * held in a {@code long} ({@link #toScaledWeight}), and does the whole computation without allocating. The
+ * {@link BigDecimal} overload is the reference definition. It is also used when a weight has more than two
+ * decimals or the scaled sums would overflow. Both overloads return identical results for every input.
+ * <p>
+ * Services score request dimensions with {@link #weightedAverage(List, ToIntFunction, Function)}, which reads
+ * the weights straight from catalog entries.
+ */
+@Slf4j
+public final class WeightedScoreUtil {
+
+    /**
+     * Marker returned by {@link #toScaledWeight} for weights that need more than two decimals.
+     */
+    public static final long NOT_SCALABLE = Long.MIN_VALUE;
+
+    private static final int WEIGHT_SCALE = 2;
+
+    private WeightedScoreUtil() {
+    }
+
+    /**
+     * Converts a weight to hundredths, e.g. 25.5 becomes 2550, or {@link #NOT_SCALABLE} when that would lose
+     * precision or not fit in a long.
+     */
+    public static long toScaledWeight(BigDecimal weight) {
+        if (weight == null) {
+            return NOT_SCALABLE;
+        }
+        try {
+            return weight.setScale(WEIGHT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return NOT_SCALABLE;
+        }
+    }
+
+    /**
+     * Weighted average of {@code dimensions}, each rated by {@code rating} and weighted by the catalog entry
+     * {@code definition} resolves for it. Sums the precomputed scaled weights directly, so the common case
+     * allocates nothing; weights with more than two decimals or overflowing sums go through the reference
+     * computation instead, resolving each definition a second time.
+     */
+    public static <T> int weightedAverage(List<T> dimensions, ToIntFunction<T> rating,
+                                          Function<T, DimensionDefinitionCatalog.Entry> definition) {
+        long totalWeightedScore = 0;
+        long totalWeight = 0;
+        try {
+            // Indexed rather than for-each so that no iterator is allocated
+            for (int i = 0; i < dimensions.size(); i++) {
+                T dimension = dimensions.get(i);
+                long scaledWeight = definition.apply(dimension).scaledWeight();
+                if (scaledWeight == NOT_SCALABLE) {
+                    return referenceAverage(dimensions, rating, definition);
+                }
+                totalWeightedScore = Math.addExact(totalWeightedScore,
+                        Math.multiplyExact(rating.applyAsInt(dimension), scaledWeight));
+                totalWeight = Math.addExact(totalWeight, scaledWeight);
+            }
+            return fixedPointAverage(totalWeightedScore, totalWeight);
+        } catch (ArithmeticException overflow) {
+            return referenceAverage(dimensions, rating, definition);
+        }
+    }
+
+    /**
+     * Fixed-point weighted average over weights in hundredths (see {@link #toScaledWeight}).
+     */
+    public static int weightedAverage(int[] ratings, long[] scaledWeights) {
+        long totalWeightedScore = 0;
+        long totalWeight = 0;
+        try {
+            for (int i = 0; i < ratings.length; i++) {
+                totalWeightedScore = Math.addExact(totalWeightedScore, Math.multiplyExact(ratings[i], scaledWeights[i]));
+                totalWeight = Math.addExact(totalWeight, scaledWeights[i]);
+            }
+            return fixedPointAverage(totalWeightedScore, totalWeight);
+        } catch (ArithmeticException overflow) {
+            return weightedAverage(ratings, toBigDecimalWeights(scaledWeights));
+        }
+    }
+
+    /**
+     * Reference BigDecimal weighted average, for weights of any scale.
+     */
+    public static int weightedAverage(int[] ratings, BigDecimal[] weights) {
+        BigDecimal totalWeightedScore = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+
+        for (int i = 0; i < ratings.length; i++) {
+            totalWeightedScore = totalWeightedScore.add(BigDecimal.valueOf(ratings[i]).multiply(weights[i]));
+            totalWeight = totalWeight.add(weights[i]);
+        }
+
+        return referenceAverage(totalWeightedScore, totalWeight);
+    }
+
+    private static <T> int referenceAverage(List<T> dimensions, ToIntFunction<T> rating,
+                                            Function<T, DimensionDefinitionCatalog.Entry> definition) {
+        BigDecimal totalWeightedScore = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+
+        for (T dimension : dimensions) {
+            BigDecimal weight = definition.apply(dimension).weight();
+            totalWeightedScore = totalWeightedScore.add(BigDecimal.valueOf(rating.applyAsInt(dimension)).multiply(weight));
+            totalWeight = totalWeight.add(weight);
+        }
+
+        return referenceAverage(totalWeightedScore, totalWeight);
+    }
+
+    /**
+     * Divides the fixed-point sums with the same two roundings as the reference. Throws ArithmeticException
+     * on overflow so that callers can fall back to BigDecimal.
+     */
+    private static int fixedPointAverage(long totalWeightedScore, long totalWeight) {
+        if (totalWeight == 0) {
+            log.warn("Total weight is zero, returning 0 as average score");
+            return 0;
+        }
+        // To two decimals first, then to a whole number
+        long hundredths = divideHalfUp(Math.multiplyExact(totalWeightedScore, 100L), totalWeight);
+        int averageScore = (int) divideHalfUp(hundredths, 100L);
+
+        // Guarded so that boxing the arguments does not allocate when debug logging is off
+        if (log.isDebugEnabled()) {
+            log.debug("Total weighted score: {}, Total weight: {}, Average score: {}",
+                    BigDecimal.valueOf(totalWeightedScore, WEIGHT_SCALE), BigDecimal.valueOf(totalWeight, WEIGHT_SCALE),
+                    averageScore);
+        }
+
+        return averageScore;
+    }
+
+    private static int referenceAverage(BigDecimal totalWeightedScore, BigDecimal totalWeight) {
+        if (totalWeight.compareTo(BigDecimal.ZERO) == 0) {
+            log.warn("Total weight is zero, returning 0 as average score");
+            return 0;
+        }
+
+        // Calculate weighted average and round to nearest integer
+        BigDecimal weightedAverage = totalWeightedScore.divide(totalWeight, 2, RoundingMode.HALF_UP);
+        int averageScore = weightedAverage.setScale(0, RoundingMode.HALF_UP).intValue();
+
+        log.debug("Total weighted score: {}, Total weight: {}, Average score: {}",
+                totalWeightedScore, totalWeight, averageScore);
+
+        return averageScore;
+    }
+
+    /**
+     * {@code dividend / divisor} rounded HALF_UP, i.e. ties away from zero, matching {@link RoundingMode#HALF_UP}.
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        if (divisor < 0) {
+            dividend = Math.negateExact(dividend);
+            divisor = Math.negateExact(divisor);
+        }
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        // remainder >= divisor - remainder is 2 * remainder >= divisor without overflowing
+        if (remainder >= divisor - remainder) {
+            quotient += dividend < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    private static BigDecimal[] toBigDecimalWeights(long[] scaledWeights) {
+        BigDecimal[] weights = new BigDecimal[scaledWeights.length];
+        for (int i = 0; i < scaledWeights.length; i++) {
+            weights[i] = BigDecimal.valueOf(scaledWeights[i], WEIGHT_SCALE);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,20 @@
+-- Backoff and parking for outbox rows that fail to publish.
+--
+-- OutboxRelay holds a failed row back until next_attempt_at and parks it (parked_at) once it has used up
+-- outbox.relay.max-attempts, so permanently failing rows no longer sit at the head of every batch. Hibernate
+-- adds the columns and index on fresh schemas. For existing databases run this script with psql outside a
+-- transaction block. Every statement is idempotent.
+
+ALTER TABLE outbox_event
+    ADD COLUMN IF NOT EXISTS next_attempt_at timestamp(6);
+
+ALTER TABLE outbox_event
+    ADD COLUMN IF NOT EXISTS parked_at timestamp(6);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_event_pending
+    ON outbox_event (published_at, parked_at, created_at);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_outbox_event_unpublished;
+
+-- To requeue parked rows after fixing their cause:
+-- UPDATE outbox_event SET parked_at = NULL, next_attempt_at = NULL, attempts = 0 WHERE parked_at IS NOT NULL;
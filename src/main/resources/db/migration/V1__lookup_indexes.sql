@@ -0,0 +1,35 @@
+-- Lookup indexes for user_snapshot, assessment and feedback.
+--
+-- Hibernate creates these on fresh schemas from the @Table definitions. For existing databases run this
+-- script with psql outside a transaction block: CREATE INDEX CONCURRENTLY does not block writes, but it
+-- cannot run inside a transaction. Every statement is idempotent, so the script can be re-run safely.
+
+-- user_snapshot.user_id becomes unique. Collapse any duplicates first, keeping one row per user.
+DELETE FROM user_snapshot s
+USING user_snapshot d
+WHERE s.user_id = d.user_id
+  AND s.id > d.id;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_user_snapshot_user_id
+    ON user_snapshot (user_id);
+
+-- Promote the index to the constraint Hibernate expects (instant, reuses the index).
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_user_snapshot_user_id') THEN
+        ALTER TABLE user_snapshot
+            ADD CONSTRAINT uk_user_snapshot_user_id UNIQUE USING INDEX uk_user_snapshot_user_id;
+    END IF;
+END $$;
+
+-- Developers by manager, unassigned developers
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_snapshot_manager_role
+    ON user_snapshot (manager_id, role);
+
+-- Latest submitted assessment per user (re-submission check, paged listings)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assessment_user_status_created
+    ON assessment (user_id, submission_status, created_at);
+
+-- Feedback history between a manager and a developer, newest version first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedback_manager_developer_version
+    ON feedback (manager_id, developer_id, feedback_version);
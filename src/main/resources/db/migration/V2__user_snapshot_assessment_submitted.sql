@@ -0,0 +1,16 @@
+-- Materialized "has submitted an assessment" flag on user_snapshot.
+--
+-- AssessmentServiceImpl sets the flag whenever an assessment is saved as SUBMITTED. Run this once to add
+-- the column (if Hibernate has not already) and backfill it from existing assessments, then set
+-- assessment.developer-listing.use-submission-flag=true to serve the manager's developer list from it.
+
+ALTER TABLE user_snapshot
+    ADD COLUMN IF NOT EXISTS assessment_submitted boolean NOT NULL DEFAULT false;
+
+UPDATE user_snapshot u
+SET assessment_submitted = true
+WHERE u.assessment_submitted = false
+  AND EXISTS (SELECT 1
+              FROM assessment a
+              WHERE a.user_id = u.user_id
+                AND a.submission_status = 'SUBMITTED');
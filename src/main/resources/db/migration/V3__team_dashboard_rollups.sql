@@ -0,0 +1,72 @@
+-- Rollup tables behind GET /api/v1/user-assign/developers/dashboard.
+--
+-- AssessmentServiceImpl and FeedbackServiceImpl keep these rows current as they write. Run this once on an
+-- existing database to create the tables (if Hibernate has not already) and seed them from the assessments
+-- and feedback written before the rollups existed. Requires PostgreSQL 13+ for gen_random_uuid().
+
+CREATE TABLE IF NOT EXISTS developer_rollup (
+    developer_id               uuid PRIMARY KEY,
+    latest_assessment_id       uuid,
+    latest_average_score       integer,
+    latest_assessment_at       timestamp(6),
+    latest_feedback_id         uuid,
+    latest_feedback_manager_id uuid,
+    latest_feedback_version    integer,
+    latest_feedback_at         timestamp(6),
+    updated_at                 timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS dimension_rollup (
+    id                      uuid PRIMARY KEY,
+    developer_id            uuid NOT NULL,
+    dimension_definition_id uuid NOT NULL,
+    self_rating             integer,
+    manager_rating          integer,
+    manager_feedback_id     uuid,
+    updated_at              timestamp(6),
+    CONSTRAINT uk_dimension_rollup_developer_dimension UNIQUE (developer_id, dimension_definition_id)
+);
+
+-- Latest submitted assessment per developer.
+INSERT INTO developer_rollup (developer_id, latest_assessment_id, latest_average_score, latest_assessment_at, updated_at)
+SELECT DISTINCT ON (a.user_id) a.user_id, a.id, a.average_score, a.updated_at, now()
+FROM assessment a
+WHERE a.submission_status = 'SUBMITTED'
+ORDER BY a.user_id, a.updated_at DESC
+ON CONFLICT (developer_id) DO NOTHING;
+
+-- Latest feedback per developer.
+INSERT INTO developer_rollup (developer_id, latest_feedback_id, latest_feedback_manager_id, latest_feedback_version,
+                              latest_feedback_at, updated_at)
+SELECT DISTINCT ON (f.developer_id) f.developer_id, f.id, f.manager_id, f.feedback_version, f.created_at, now()
+FROM feedback f
+ORDER BY f.developer_id, f.created_at DESC
+ON CONFLICT (developer_id) DO UPDATE SET
+    latest_feedback_id = EXCLUDED.latest_feedback_id,
+    latest_feedback_manager_id = EXCLUDED.latest_feedback_manager_id,
+    latest_feedback_version = EXCLUDED.latest_feedback_version,
+    latest_feedback_at = EXCLUDED.latest_feedback_at
+WHERE developer_rollup.latest_feedback_id IS NULL;
+
+-- Self ratings from each developer's latest submitted assessment.
+INSERT INTO dimension_rollup (id, developer_id, dimension_definition_id, self_rating, updated_at)
+SELECT gen_random_uuid(), r.developer_id, ad.dimension_definition_id, ad.rating, now()
+FROM developer_rollup r
+JOIN assessment_dimension ad ON ad.assessment_id = r.latest_assessment_id
+ON CONFLICT (developer_id, dimension_definition_id) DO NOTHING;
+
+-- Manager ratings from each developer's latest feedback that has dimensions.
+INSERT INTO dimension_rollup (id, developer_id, dimension_definition_id, manager_rating, manager_feedback_id, updated_at)
+SELECT gen_random_uuid(), ratings.developer_id, ratings.dimension_definition_id, ratings.rating, ratings.feedback_id, now()
+FROM (SELECT DISTINCT ON (latest.developer_id, fd.dimension_definition_id)
+             latest.developer_id, fd.dimension_definition_id, fd.rating, latest.id AS feedback_id
+      FROM (SELECT DISTINCT ON (f.developer_id) f.developer_id, f.id
+            FROM feedback f
+            WHERE EXISTS (SELECT 1 FROM feedback_dimension d WHERE d.feedback_id = f.id)
+            ORDER BY f.developer_id, f.created_at DESC) latest
+      JOIN feedback_dimension fd ON fd.feedback_id = latest.id
+      ORDER BY latest.developer_id, fd.dimension_definition_id, fd.created_at DESC) ratings
+ON CONFLICT (developer_id, dimension_definition_id) DO UPDATE SET
+    manager_rating = EXCLUDED.manager_rating,
+    manager_feedback_id = EXCLUDED.manager_feedback_id
+WHERE dimension_rollup.manager_rating IS NULL;
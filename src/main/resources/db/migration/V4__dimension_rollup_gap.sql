@@ -0,0 +1,17 @@
+-- Stored self vs. manager gap on dimension_rollup, behind GET /api/v1/gap-analysis.
+--
+-- TeamDashboardServiceImpl keeps the gap current whenever either rating changes. Run this after
+-- V3__team_dashboard_rollups.sql, with psql outside a transaction block (CREATE INDEX CONCURRENTLY cannot run
+-- inside one). Every statement is idempotent, so the script can be re-run safely.
+
+ALTER TABLE dimension_rollup
+    ADD COLUMN IF NOT EXISTS gap integer;
+
+UPDATE dimension_rollup
+SET gap = manager_rating - self_rating
+WHERE self_rating IS NOT NULL
+  AND manager_rating IS NOT NULL
+  AND gap IS DISTINCT FROM manager_rating - self_rating;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_dimension_rollup_dimension_gap
+    ON dimension_rollup (dimension_definition_id, gap);
@@ -0,0 +1,13 @@
+-- Stored analysis key on dimension_definition.
+--
+-- DimensionDefinitionServiceImpl sets the key whenever a definition is created or renamed. Run this once to
+-- add the column (if Hibernate has not already) and backfill it for existing definitions. Until then the
+-- dimension catalog derives missing keys itself when it loads. The expression mirrors AnalysisKeyUtil:
+-- lower-case, with whitespace and '&' removed.
+
+ALTER TABLE dimension_definition
+    ADD COLUMN IF NOT EXISTS analysis_key varchar(255);
+
+UPDATE dimension_definition
+SET analysis_key = regexp_replace(lower(dimension_name), '[[:space:]&]+', '', 'g')
+WHERE analysis_key IS NULL;
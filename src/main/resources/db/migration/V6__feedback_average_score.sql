@@ -0,0 +1,23 @@
+-- Weighted average score on feedback.
+--
+-- FeedbackServiceImpl stores the weighted average of the manager's ratings when a complete feedback is
+-- created. Run this once to add the column (if Hibernate has not already) and backfill existing feedback.
+-- The expression mirrors WeightedScoreUtil: sum(rating * weight) / sum(weight), rounded half away from zero
+-- to two decimals and then to a whole score. Feedback whose dimensions have no total weight gets 0, matching
+-- the application. Safe to re-run.
+
+ALTER TABLE feedback
+    ADD COLUMN IF NOT EXISTS average_score integer;
+
+UPDATE feedback f
+SET average_score = scores.average_score
+FROM (SELECT fd.feedback_id,
+             CASE
+                 WHEN sum(dd.weight) = 0 THEN 0
+                 ELSE round(round(sum(fd.rating * dd.weight) / sum(dd.weight), 2))::integer
+                 END AS average_score
+      FROM feedback_dimension fd
+               JOIN dimension_definition dd ON dd.id = fd.dimension_definition_id
+      GROUP BY fd.feedback_id) scores
+WHERE f.id = scores.feedback_id
+  AND f.average_score IS NULL;
@@ -0,0 +1,18 @@
+-- Indexes for keyset pagination on (created_at, id).
+--
+-- Assessment history and feedback search page newest first by (created_at, id) and continue strictly after
+-- the last row of the previous page. These indexes let every page start with an index seek, so deep pages
+-- cost the same as the first. Hibernate creates them on fresh schemas from the @Table definitions. For
+-- existing databases run this script with psql outside a transaction block. Every statement is idempotent.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assessment_user_created_id
+    ON assessment (user_id, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedback_created_id
+    ON feedback (created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedback_developer_created_id
+    ON feedback (developer_id, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedback_manager_created_id
+    ON feedback (manager_id, created_at, id);
@@ -0,0 +1,62 @@
+-- Race-free feedback versions: a unique (manager_id, developer_id, feedback_version) key and a per-pair counter.
+--
+-- FeedbackServiceImpl reserves versions with a single upsert on feedback_version_counter instead of reading the
+-- latest version and inserting the next one, and the unique key turns any write that still collides into a 409.
+-- Run this with psql outside a transaction block before deploying the code that uses the counter. Every
+-- statement is idempotent. If the unique index build fails because duplicates were written while it ran,
+-- drop the INVALID index it leaves behind and run the script again.
+
+-- Duplicate versions written by concurrent submits move to the end of their pair's history, oldest first.
+WITH ranked AS (
+    SELECT f.id, f.manager_id, f.developer_id, f.feedback_version, f.created_at,
+           ROW_NUMBER() OVER (PARTITION BY f.manager_id, f.developer_id, f.feedback_version
+                              ORDER BY f.created_at, f.id) AS copy,
+           MAX(f.feedback_version) OVER (PARTITION BY f.manager_id, f.developer_id) AS max_version
+    FROM feedback f
+),
+duplicates AS (
+    SELECT r.id,
+           r.max_version + ROW_NUMBER() OVER (PARTITION BY r.manager_id, r.developer_id
+                                              ORDER BY r.feedback_version, r.created_at, r.id) AS new_version
+    FROM ranked r
+    WHERE r.copy > 1
+)
+UPDATE feedback f
+SET feedback_version = d.new_version
+FROM duplicates d
+WHERE f.id = d.id;
+
+UPDATE developer_rollup r
+SET latest_feedback_version = f.feedback_version
+FROM feedback f
+WHERE f.id = r.latest_feedback_id
+  AND r.latest_feedback_version IS DISTINCT FROM f.feedback_version;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_feedback_manager_developer_version
+    ON feedback (manager_id, developer_id, feedback_version);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_feedback_manager_developer_version') THEN
+        ALTER TABLE feedback
+            ADD CONSTRAINT uk_feedback_manager_developer_version UNIQUE USING INDEX uk_feedback_manager_developer_version;
+    END IF;
+END $$;
+
+-- Same leading columns as the unique index, which now serves these lookups.
+DROP INDEX CONCURRENTLY IF EXISTS idx_feedback_manager_developer_version;
+
+CREATE TABLE IF NOT EXISTS feedback_version_counter (
+    manager_id   uuid    NOT NULL,
+    developer_id uuid    NOT NULL,
+    last_version integer NOT NULL,
+    PRIMARY KEY (manager_id, developer_id)
+);
+
+-- The allocator seeds a missing row from MAX(feedback_version) on first use; this creates the rows up front.
+INSERT INTO feedback_version_counter (manager_id, developer_id, last_version)
+SELECT f.manager_id, f.developer_id, MAX(f.feedback_version)
+FROM feedback f
+GROUP BY f.manager_id, f.developer_id
+ON CONFLICT (manager_id, developer_id) DO UPDATE SET
+    last_version = GREATEST(feedback_version_counter.last_version, EXCLUDED.last_version);
@@ -0,0 +1,20 @@
+-- Per-user submission ledger backing the assessment re-submission window.
+--
+-- AssessmentServiceImpl claims the user's ledger row with a single upsert on every SUBMITTED create or update
+-- instead of scanning assessment for a recent submission, so two concurrent submits can no longer both pass.
+-- Run this before deploying the matching release: a user without a ledger row is treated as never having
+-- submitted. Safe to re-run; existing rows only move forward.
+
+CREATE TABLE IF NOT EXISTS assessment_submission_ledger
+(
+    user_id           uuid PRIMARY KEY,
+    last_submitted_at timestamp(6) NOT NULL
+);
+
+INSERT INTO assessment_submission_ledger (user_id, last_submitted_at)
+SELECT a.user_id, MAX(a.created_at)
+FROM assessment a
+WHERE a.submission_status = 'SUBMITTED'
+GROUP BY a.user_id
+ON CONFLICT (user_id) DO UPDATE SET
+    last_submitted_at = GREATEST(assessment_submission_ledger.last_submitted_at, EXCLUDED.last_submitted_at);
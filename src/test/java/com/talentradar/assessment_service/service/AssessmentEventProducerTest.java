@@ -1,16 +1,19 @@
 package com.talentradar.assessment_service.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.talentradar.assessment_service.config.RabbitMQConfig;
 import com.talentradar.assessment_service.event.AssessmentEvent;
 import com.talentradar.assessment_service.event.AssessmentEventType;
+import com.talentradar.assessment_service.event.rabbit.outbox.OutboxWriter;
 import com.talentradar.assessment_service.event.rabbit.producer.AssessmentEventProducer;
 import com.talentradar.assessment_service.model.Assessment;
 import com.talentradar.assessment_service.model.SubmissionStatus;
 import com.talentradar.assessment_service.model.UserRole;
 import com.talentradar.assessment_service.model.UserSnapshot;
-import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +21,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 import java.util.Optional;
 
@@ -28,10 +30,10 @@ import java.util.UUID;
 class AssessmentEventProducerTest {
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxWriter outboxWriter;
 
     @Mock
-    private UserSnapshotRepository userSnapshotRepository;
+    private UserSnapshotCache userSnapshotCache;
 
     @InjectMocks
     private AssessmentEventProducer assessmentEventProducer;
@@ -52,7 +54,7 @@ class AssessmentEventProducerTest {
     @Test
     void publishAssessmentSubmitted_ShouldSucceed_WhenUserSnapshotExists() {
         // ARRANGE: Set up what we expect to happen
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenReturn(Optional.of(testUserSnapshot));
 
         // ACT: Call the method we're testing
@@ -60,24 +62,24 @@ class AssessmentEventProducerTest {
 
         // ASSERT: Verify the right things happened
         // 1. Repository was called to find the user
-        verify(userSnapshotRepository).findByUserId(testAssessment.getUserId());
+        verify(userSnapshotCache).find(testAssessment.getUserId());
 
         // 2. Assessment event was sent to the main exchange
-        verify(rabbitTemplate).convertAndSend(
+        verify(outboxWriter).enqueue(
                 eq(RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE),
                 eq(RabbitMQConfig.ASSESSMENT_SUBMITTED_KEY),
                 any(AssessmentEvent.class)
         );
 
         // 3. Notification was sent to manager (since our test user has a manager)
-        verify(rabbitTemplate).convertAndSend(
+        verify(outboxWriter).enqueue(
                 eq(RabbitMQConfig.NOTIFICATION_EVENTS_EXCHANGE),
                 eq(RabbitMQConfig.ASSESSMENT_SUBMITTED_KEY),
                 any(Object.class)
         );
 
         // Total: 2 messages should be sent
-        verify(rabbitTemplate, times(2)).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        verify(outboxWriter, times(2)).enqueue(any(String.class), any(String.class), any(Object.class));
     }
 
     // TEST 2: Edge case - user has no manager
@@ -87,123 +89,123 @@ class AssessmentEventProducerTest {
         UserSnapshot userWithoutManager = createTestUserSnapshot();
         userWithoutManager.setManagerId(null); // No manager!
 
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenReturn(Optional.of(userWithoutManager));
 
         // ACT
         assessmentEventProducer.publishAssessmentSubmitted(testAssessment);
 
         // ASSERT: Only main event should be sent, no notification
-        verify(rabbitTemplate).convertAndSend(
+        verify(outboxWriter).enqueue(
                 eq(RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE),
                 eq(RabbitMQConfig.ASSESSMENT_SUBMITTED_KEY),
                 any(AssessmentEvent.class)
         );
 
         // Verify NO notification was sent
-        verify(rabbitTemplate, never()).convertAndSend(
+        verify(outboxWriter, never()).enqueue(
                 eq(RabbitMQConfig.NOTIFICATION_EVENTS_EXCHANGE),
                 anyString(),
                 any(Object.class)
         );
 
         // Total: only 1 message sent
-        verify(rabbitTemplate, times(1)).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        verify(outboxWriter, times(1)).enqueue(any(String.class), any(String.class), any(Object.class));
     }
 
     // TEST 3: Error case - user not found
     @Test
     void publishAssessmentSubmitted_ShouldHandleError_WhenUserSnapshotNotFound() {
         // ARRANGE: Repository returns empty (user not found)
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenReturn(Optional.empty());
 
-        // ACT: This should not throw an exception (it's caught internally)
+        // ACT: The event is skipped without failing the caller's write
         assessmentEventProducer.publishAssessmentSubmitted(testAssessment);
 
         // ASSERT: Repository was called but no messages sent due to error
-        verify(userSnapshotRepository).findByUserId(testAssessment.getUserId());
-        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        verify(userSnapshotCache).find(testAssessment.getUserId());
+        verify(outboxWriter, never()).enqueue(any(String.class), any(String.class), any(Object.class));
     }
 
     // TEST 4: Error case - repository throws exception
     @Test
-    void publishAssessmentSubmitted_ShouldHandleError_WhenRepositoryThrowsException() {
+    void publishAssessmentSubmitted_ShouldPropagate_WhenRepositoryThrowsException() {
         // ARRANGE: Repository throws an exception
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenThrow(new RuntimeException("Database connection failed"));
 
-        // ACT: Should not crash the application
-        assessmentEventProducer.publishAssessmentSubmitted(testAssessment);
+        // ACT & ASSERT: the failure reaches the caller, whose transaction is already marked for rollback
+        assertThrows(RuntimeException.class, () -> assessmentEventProducer.publishAssessmentSubmitted(testAssessment));
 
-        // ASSERT: No messages sent due to error
-        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        verify(outboxWriter, never()).enqueue(any(String.class), any(String.class), any(Object.class));
     }
 
-    // TEST 5: Error case - RabbitMQ fails
+    // TEST 5: Error case - writing to the outbox fails
     @Test
-    void publishAssessmentSubmitted_ShouldHandleError_WhenRabbitTemplateThrowsException() {
-        // ARRANGE: User exists but RabbitMQ fails
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+    void publishAssessmentSubmitted_ShouldPropagate_WhenOutboxWriterThrowsException() {
+        // ARRANGE: User exists but the outbox write fails
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenReturn(Optional.of(testUserSnapshot));
 
-        doThrow(new RuntimeException("RabbitMQ connection failed"))
-                .when(rabbitTemplate).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        doThrow(new RuntimeException("Outbox insert failed"))
+                .when(outboxWriter).enqueue(any(String.class), any(String.class), any(Object.class));
 
-        // ACT: Should not crash
-        assessmentEventProducer.publishAssessmentSubmitted(testAssessment);
+        // ACT & ASSERT: the submission must fail rather than commit without its event
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> assessmentEventProducer.publishAssessmentSubmitted(testAssessment));
 
-        // ASSERT: Repository was called (that part worked)
-        verify(userSnapshotRepository).findByUserId(testAssessment.getUserId());
+        assertEquals("Outbox insert failed", exception.getMessage());
+        verify(userSnapshotCache).find(testAssessment.getUserId());
     }
 
     // TEST 6: Test the updated method - happy path
     @Test
     void publishAssessmentUpdated_ShouldSucceed_WhenUserSnapshotExists() {
         // ARRANGE
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenReturn(Optional.of(testUserSnapshot));
 
         // ACT
         assessmentEventProducer.publishAssessmentUpdated(testAssessment);
 
         // ASSERT: Only sends to main exchange (no notification for updates)
-        verify(rabbitTemplate).convertAndSend(
+        verify(outboxWriter).enqueue(
                 eq(RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE),
                 eq("assessment.updated"), // Different routing key
                 any(AssessmentEvent.class)
         );
 
         // Only 1 message sent (no manager notification for updates)
-        verify(rabbitTemplate, times(1)).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        verify(outboxWriter, times(1)).enqueue(any(String.class), any(String.class), any(Object.class));
     }
 
     // TEST 7: Test updated method - user not found
     @Test
     void publishAssessmentUpdated_ShouldHandleError_WhenUserSnapshotNotFound() {
         // ARRANGE
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenReturn(Optional.empty());
 
         // ACT
         assessmentEventProducer.publishAssessmentUpdated(testAssessment);
 
         // ASSERT: No messages sent
-        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        verify(outboxWriter, never()).enqueue(any(String.class), any(String.class), any(Object.class));
     }
 
     // TEST 8: Verify the content of the assessment event
     @Test
     void publishAssessmentSubmitted_ShouldCreateCorrectAssessmentEvent() {
         // ARRANGE
-        when(userSnapshotRepository.findByUserId(testAssessment.getUserId()))
+        when(userSnapshotCache.find(testAssessment.getUserId()))
                 .thenReturn(Optional.of(testUserSnapshot));
 
         // ACT
         assessmentEventProducer.publishAssessmentSubmitted(testAssessment);
 
         // ASSERT: Capture and verify the event content
-        verify(rabbitTemplate).convertAndSend(
+        verify(outboxWriter).enqueue(
                 eq(RabbitMQConfig.ASSESSMENT_EVENTS_EXCHANGE),
                 eq(RabbitMQConfig.ASSESSMENT_SUBMITTED_KEY),
                 argThat((AssessmentEvent event) -> event.getEventType() == AssessmentEventType.ASSESSMENT_SUBMITTED
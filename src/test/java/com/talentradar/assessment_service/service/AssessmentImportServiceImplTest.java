@@ -0,0 +1,237 @@
+package com.talentradar.assessment_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.assessmentImport.response.AssessmentImportErrorDto;
+import com.talentradar.assessment_service.dto.assessmentImport.response.AssessmentImportResultDto;
+import com.talentradar.assessment_service.exception.BadRequestException;
+import com.talentradar.assessment_service.model.Assessment;
+import com.talentradar.assessment_service.repository.AssessmentDimensionRepository;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.AssessmentSubmissionLedgerRepository;
+import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.service.impl.AssessmentImportServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AssessmentImportService Tests")
+class AssessmentImportServiceImplTest {
+
+    @Mock
+    private AssessmentRepository assessmentRepository;
+
+    @Mock
+    private AssessmentDimensionRepository dimensionRepository;
+
+    @Mock
+    private DimensionDefinitionRepository dimensionDefinitionRepository;
+
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
+    @Mock
+    private UserSnapshotRepository userSnapshotRepository;
+
+    @Mock
+    private AssessmentSubmissionLedgerRepository submissionLedgerRepository;
+
+    @Mock
+    private TeamDashboardService teamDashboardService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private AssessmentImportServiceImpl assessmentImportService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID technicalId = UUID.randomUUID();
+    private final UUID communicationId = UUID.randomUUID();
+    private final List<List<Assessment>> savedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(assessmentImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(assessmentImportService, "maxReportedErrors", 10);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(dimensionDefinitionCatalog.contains(technicalId)).thenReturn(true);
+        lenient().when(dimensionDefinitionCatalog.contains(communicationId)).thenReturn(true);
+        lenient().when(dimensionDefinitionCatalog.require(technicalId)).thenReturn(new DimensionDefinitionCatalog.Entry(
+                technicalId, "Technical Skills", "technicalskills", null, new BigDecimal("0.75"), List.of()));
+        lenient().when(dimensionDefinitionCatalog.require(communicationId)).thenReturn(new DimensionDefinitionCatalog.Entry(
+                communicationId, "Communication", "communication", null, new BigDecimal("0.25"), List.of()));
+        lenient().when(assessmentRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<Assessment> assessments = new ArrayList<>();
+            invocation.<Iterable<Assessment>>getArgument(0).forEach(assessments::add);
+            if (assessments.stream().anyMatch(assessment -> "boom".equals(assessment.getReflection()))) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            savedChunks.add(assessments);
+            return assessments;
+        });
+    }
+
+    @Test
+    @DisplayName("Should import valid NDJSON records and report invalid ones by line")
+    void importAssessments_Ndjson_ReportsInvalidRecords() throws Exception {
+        // Given
+        String body = String.join("\n",
+                ndjson(userId, "SUBMITTED", "2024-03-01T10:15:30", "Good quarter", technicalId, 4, communicationId, 2),
+                "",
+                ndjson(userId, "SUBMITTED", null, "Unknown dimension", UUID.randomUUID(), 3, communicationId, 3),
+                "{not json",
+                ndjson(userId, "DRAFT", null, "Out of range", technicalId, 6, communicationId, 3));
+
+        // When
+        AssessmentImportResultDto result = assessmentImportService.importAssessments(
+                stream(body), AssessmentImportService.Format.NDJSON);
+
+        // Then
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.isErrorsTruncated()).isFalse();
+        assertThat(result.getErrors()).extracting(AssessmentImportErrorDto::getLine).containsExactly(3L, 4L, 5L);
+
+        Assessment imported = savedChunks.get(0).get(0);
+        // 4 * 0.75 + 2 * 0.25 = 3.5 of 5, rounded half up
+        assertThat(imported.getAverageScore()).isEqualTo(4);
+        assertThat(imported.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+        assertThat(imported.getDimensions()).hasSize(2);
+        verify(userSnapshotRepository).markAssessmentSubmitted(userId);
+        verify(submissionLedgerRepository).recordSubmission(userId, LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+        verify(teamDashboardService).recordAssessment(imported, LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+        verify(entityManager, atLeastOnce()).clear();
+    }
+
+    @Test
+    @DisplayName("Should write CSV records in chunks with quoted fields")
+    void importAssessments_Csv_WritesInChunks() throws Exception {
+        // Given
+        String body = String.join("\n",
+                "userId,status,createdAt,reflection,dimensions",
+                userId + ",SUBMITTED,2024-01-10T09:00:00,\"Shipped, then \"\"refactored\"\"\"," + technicalId + ":5;" + communicationId + ":5",
+                userId + ",DRAFT,,Plain," + technicalId + ":1",
+                userId + ",submitted,,Third," + communicationId + ":3",
+                userId + ",SUBMITTED,,Too few columns");
+
+        // When
+        AssessmentImportResultDto result = assessmentImportService.importAssessments(
+                stream(body), AssessmentImportService.Format.CSV);
+
+        // Then
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getErrors()).singleElement()
+                .extracting(AssessmentImportErrorDto::getLine).isEqualTo(5L);
+        assertThat(savedChunks).hasSize(2);
+        assertThat(savedChunks.get(0).get(0).getReflection()).isEqualTo("Shipped, then \"refactored\"");
+        assertThat(savedChunks.get(0).get(0).getAverageScore()).isEqualTo(5);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk record by record and report only the rejected record")
+    void importAssessments_ChunkFails_RetriesIndividually() throws Exception {
+        // Given
+        String body = String.join("\n",
+                ndjson(userId, "SUBMITTED", null, "boom", technicalId, 3, communicationId, 3),
+                ndjson(userId, "SUBMITTED", null, "fine", technicalId, 3, communicationId, 3));
+
+        // When
+        AssessmentImportResultDto result = assessmentImportService.importAssessments(
+                stream(body), AssessmentImportService.Format.NDJSON);
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(1L);
+            assertThat(error.getMessage()).contains("duplicate key");
+        });
+        assertThat(savedChunks).singleElement()
+                .satisfies(chunk -> assertThat(chunk).extracting(Assessment::getReflection).containsExactly("fine"));
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should cap reported errors and flag truncation")
+    void importAssessments_TooManyErrors_TruncatesReport() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(assessmentImportService, "maxReportedErrors", 2);
+        String body = "{}\n{}\n{}";
+
+        // When
+        AssessmentImportResultDto result = assessmentImportService.importAssessments(
+                stream(body), AssessmentImportService.Format.NDJSON);
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.isErrorsTruncated()).isTrue();
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV upload without the expected header")
+    void importAssessments_CsvWithoutHeader_Throws() {
+        // Given
+        String body = userId + ",SUBMITTED,,Reflection," + technicalId + ":3";
+
+        // When / Then
+        assertThatThrownBy(() -> assessmentImportService.importAssessments(
+                stream(body), AssessmentImportService.Format.CSV))
+                .isInstanceOf(BadRequestException.class);
+        verify(assessmentRepository, never()).saveAll(anyIterable());
+    }
+
+    private static String ndjson(UUID userId, String status, String createdAt, String reflection,
+                                 UUID firstDimension, int firstRating, UUID secondDimension, int secondRating) {
+        return "{\"userId\":\"" + userId + "\",\"status\":\"" + status + "\","
+                + (createdAt == null ? "" : "\"createdAt\":\"" + createdAt + "\",")
+                + "\"reflection\":\"" + reflection + "\",\"dimensions\":["
+                + "{\"dimensionDefinitionId\":\"" + firstDimension + "\",\"rating\":" + firstRating + "},"
+                + "{\"dimensionDefinitionId\":\"" + secondDimension + "\",\"rating\":" + secondRating + "}]}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.assessment.request.AssessmentRequestDTO;
 import com.talentradar.assessment_service.dto.assessment.request.DimensionRatingDTO;
 import com.talentradar.assessment_service.dto.assessment.response.AssessmentResponseDTO;
@@ -13,8 +14,11 @@ import com.talentradar.assessment_service.model.DimensionDefinition;
 import com.talentradar.assessment_service.model.SubmissionStatus;
 import com.talentradar.assessment_service.repository.AssessmentDimensionRepository;
 import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.AssessmentSubmissionLedgerRepository;
 import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
 import com.talentradar.assessment_service.service.impl.AssessmentServiceImpl;
+import com.talentradar.assessment_service.util.CursorCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,8 +28,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -51,12 +57,24 @@ class AssessmentServiceImplTest {
     @Mock
     private DimensionDefinitionRepository dimensionDefinitionRepository;
 
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
     @Mock
     private AssessmentMapper assessmentMapper;
 
+    @Mock
+    private UserSnapshotRepository userSnapshotRepository;
+
     @Mock(lenient = true)
     private AssessmentEventProducer assessmentEventProducer;
 
+    @Mock
+    private TeamDashboardService teamDashboardService;
+
+    @Mock
+    private AssessmentSubmissionLedgerRepository submissionLedgerRepository;
+
     private UUID userId;
     private UUID assessmentId;
     private UUID dimensionId1;
@@ -69,6 +87,8 @@ class AssessmentServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(assessmentService, "resubmissionCooldown", Duration.ofDays(30));
+
         userId = UUID.randomUUID();
         assessmentId = UUID.randomUUID();
         dimensionId1 = UUID.randomUUID();
@@ -122,20 +142,18 @@ class AssessmentServiceImplTest {
     @Test
     void shouldCreateAssessmentSuccessfully() {
         // Arrange
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1, dimensionId2));
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
 
-        when(assessmentRepository.existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId),
-                eq(SubmissionStatus.SUBMITTED),
-                any(LocalDateTime.class)))
-                .thenReturn(false);
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        when(dimensionDefinitionRepository.findById(dimensionId1))
-                .thenReturn(Optional.of(dimensionDefinition1));
+        when(dimensionDefinitionCatalog.require(dimensionId1))
+                .thenReturn(entryOf(dimensionDefinition1));
 
-        when(dimensionDefinitionRepository.findById(dimensionId2))
-                .thenReturn(Optional.of(dimensionDefinition2));
+        when(dimensionDefinitionCatalog.require(dimensionId2))
+                .thenReturn(entryOf(dimensionDefinition2));
 
         when(assessmentRepository.save(any(Assessment.class)))
                 .thenReturn(assessment);
@@ -155,15 +173,23 @@ class AssessmentServiceImplTest {
         assertEquals(4, result.getAverage());
 
         // Verify dimension validation was called
-        verify(dimensionDefinitionRepository).findExistingIds(List.of(dimensionId1, dimensionId2));
+        verify(dimensionDefinitionCatalog).containsAll(List.of(dimensionId1, dimensionId2));
 
         // Verify re-submission validation was called
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId), eq(SubmissionStatus.SUBMITTED), any(LocalDateTime.class));
+        verify(submissionLedgerRepository).claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
+
+        // Verify the developer is flagged as having submitted
+        verify(userSnapshotRepository).markAssessmentSubmitted(userId);
+        verify(teamDashboardService).recordAssessment(any(Assessment.class));
 
-        // Verify dimension definitions were fetched for weight calculation and dimension creation
-        verify(dimensionDefinitionRepository, times(2)).findById(dimensionId1);
-        verify(dimensionDefinitionRepository, times(2)).findById(dimensionId2);
+        // Verify weights come from the catalog and dimensions are linked by reference, without extra SELECTs
+        verify(dimensionDefinitionCatalog).require(dimensionId1);
+        verify(dimensionDefinitionCatalog).require(dimensionId2);
+        verify(dimensionDefinitionRepository).getReferenceById(dimensionId1);
+        verify(dimensionDefinitionRepository).getReferenceById(dimensionId2);
+        verify(dimensionDefinitionRepository, never()).findById(any());
+        verify(dimensionDefinitionRepository, never()).findExistingIds(anyList());
 
         // Verify assessment was saved with correct average score
         verify(assessmentRepository).save(any(Assessment.class));
@@ -192,18 +218,18 @@ class AssessmentServiceImplTest {
         dimensionDefinition1.setWeight(new BigDecimal("0.30")); // 30%
         dimensionDefinition2.setWeight(new BigDecimal("0.70")); // 70%
 
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1, dimensionId2));
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
 
-        when(assessmentRepository.existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId), eq(SubmissionStatus.SUBMITTED), any(LocalDateTime.class)))
-                .thenReturn(false);
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        when(dimensionDefinitionRepository.findById(dimensionId1))
-                .thenReturn(Optional.of(dimensionDefinition1));
+        when(dimensionDefinitionCatalog.require(dimensionId1))
+                .thenReturn(entryOf(dimensionDefinition1));
 
-        when(dimensionDefinitionRepository.findById(dimensionId2))
-                .thenReturn(Optional.of(dimensionDefinition2));
+        when(dimensionDefinitionCatalog.require(dimensionId2))
+                .thenReturn(entryOf(dimensionDefinition2));
 
         when(assessmentRepository.save(any(Assessment.class)))
                 .thenReturn(assessment);
@@ -225,35 +251,33 @@ class AssessmentServiceImplTest {
     @Test
     void shouldThrowBadRequestForInvalidDimensionId() {
         // Arrange
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1)); // Only one ID exists
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(false); // Only one ID exists
 
         // Act & Assert
         assertThrows(BadRequestException.class, () ->
                 assessmentService.createAssessment(requestDto, userId));
 
-        verify(dimensionDefinitionRepository).findExistingIds(List.of(dimensionId1, dimensionId2));
+        verify(dimensionDefinitionCatalog).containsAll(List.of(dimensionId1, dimensionId2));
         verifyNoInteractions(assessmentRepository, dimensionRepository, assessmentMapper);
     }
 
     @Test
     void shouldThrowResourceNotFoundIfDimensionMissing() {
         // Arrange
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1, dimensionId2));
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
 
-        when(assessmentRepository.existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId),
-                eq(SubmissionStatus.SUBMITTED),
-                any(LocalDateTime.class)))
-                .thenReturn(false);
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
 
         // Mock first dimension to exist, second to not exist
-        when(dimensionDefinitionRepository.findById(dimensionId1))
-                .thenReturn(Optional.of(dimensionDefinition1));
+        when(dimensionDefinitionCatalog.require(dimensionId1))
+                .thenReturn(entryOf(dimensionDefinition1));
 
-        when(dimensionDefinitionRepository.findById(dimensionId2))
-                .thenReturn(Optional.empty());
+        when(dimensionDefinitionCatalog.require(dimensionId2))
+                .thenThrow(new ResourceNotFoundException("DimensionDefinition with id " + dimensionId2 + " not found"));
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () ->
@@ -261,45 +285,87 @@ class AssessmentServiceImplTest {
 
         assertEquals("DimensionDefinition with id " + dimensionId2 + " not found", exception.getMessage());
 
-        verify(dimensionDefinitionRepository).findExistingIds(List.of(dimensionId1, dimensionId2));
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId), eq(SubmissionStatus.SUBMITTED), any(LocalDateTime.class));
-        verify(dimensionDefinitionRepository).findById(dimensionId1);
-        verify(dimensionDefinitionRepository).findById(dimensionId2);
+        verify(dimensionDefinitionCatalog).containsAll(List.of(dimensionId1, dimensionId2));
+        verify(submissionLedgerRepository).claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(dimensionDefinitionCatalog).require(dimensionId1);
+        verify(dimensionDefinitionCatalog).require(dimensionId2);
     }
 
     @Test
     void shouldThrowBadRequestIfUserSubmittedWithin30Days() {
         // Arrange
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1, dimensionId2));
-
-        when(assessmentRepository.existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId),
-                eq(SubmissionStatus.SUBMITTED),
-                any(LocalDateTime.class)))
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
                 .thenReturn(true);
 
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
         // Act & Assert
         BadRequestException exception = assertThrows(BadRequestException.class,
                 () -> assessmentService.createAssessment(requestDto, userId));
 
         assertEquals("User has already submitted an assessment within the last 30 days.", exception.getMessage());
 
-        verify(dimensionDefinitionRepository).findExistingIds(List.of(dimensionId1, dimensionId2));
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId), eq(SubmissionStatus.SUBMITTED), any(LocalDateTime.class));
+        verify(dimensionDefinitionCatalog).containsAll(List.of(dimensionId1, dimensionId2));
+        verify(submissionLedgerRepository).claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class));
         verifyNoMoreInteractions(assessmentRepository, dimensionRepository, assessmentMapper);
     }
 
+    @Test
+    void shouldUseConfiguredCooldownWhenRejectingResubmission() {
+        // Arrange
+        ReflectionTestUtils.setField(assessmentService, "resubmissionCooldown", Duration.ofDays(14));
+        LocalDateTime before = LocalDateTime.now();
+
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
+
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> assessmentService.createAssessment(requestDto, userId));
+
+        assertEquals("User has already submitted an assessment within the last 14 days.", exception.getMessage());
+        verify(submissionLedgerRepository).claimSubmission(eq(userId),
+                argThat(at -> !at.isBefore(before)),
+                argThat(cutoff -> !cutoff.isBefore(before.minusDays(14)) && cutoff.isBefore(before.minusDays(13))));
+    }
+
+    @Test
+    void shouldCheckLedgerWithoutClaimingWhenSavingDraft() {
+        // Arrange
+        requestDto.setStatus(SubmissionStatus.DRAFT);
+
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
+
+        when(submissionLedgerRepository.existsByUserIdAndLastSubmittedAtAfter(eq(userId), any(LocalDateTime.class)))
+                .thenReturn(true);
+
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> assessmentService.createAssessment(requestDto, userId));
+
+        assertEquals("User has already submitted an assessment within the last 30 days.", exception.getMessage());
+        verify(submissionLedgerRepository, never()).claimSubmission(any(), any(), any());
+        verifyNoInteractions(assessmentRepository, dimensionRepository, assessmentMapper);
+    }
+
     @Test
     void shouldReturnPaginatedAssessmentsByUser() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<Assessment> assessments = List.of(assessment);
 
-        when(assessmentRepository.findAllByUserIdWithDimensions(userId, pageable))
-                .thenReturn(new PageImpl<>(assessments));
+        when(assessmentRepository.findIdPageByUserId(userId, pageable))
+                .thenReturn(new PageImpl<>(List.of(assessmentId), pageable, 1));
+        when(assessmentRepository.findAllWithDimensionsByIdIn(List.of(assessmentId)))
+                .thenReturn(List.of(assessment));
 
         when(assessmentMapper.toResponseDto(any(Assessment.class)))
                 .thenReturn(responseDto);
@@ -312,28 +378,70 @@ class AssessmentServiceImplTest {
         assertEquals(1, result.getContent().size());
         assertEquals(userId, result.getContent().getFirst().getUserId());
         assertEquals(4, result.getContent().getFirst().getAverage());
-        verify(assessmentRepository).findAllByUserIdWithDimensions(userId, pageable);
+        assertEquals(1L, result.getPagination().getTotalElements());
+        verify(assessmentRepository).findIdPageByUserId(userId, pageable);
+        verify(assessmentRepository).findAllWithDimensionsByIdIn(List.of(assessmentId));
         verify(assessmentMapper).toResponseDto(any(Assessment.class));
     }
 
+    @Test
+    void shouldReturnKeysetPageWithNextCursorAndNoCount() {
+        // Arrange: two of three requested rows come back, so a next page exists
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+        assessment.setCreatedAt(createdAt);
+        Assessment older = Assessment.builder().id(UUID.randomUUID()).userId(userId)
+                .createdAt(createdAt.minusDays(1)).build();
+        CursorCodec.Cursor cursor = new CursorCodec.Cursor(createdAt.plusDays(1), UUID.randomUUID());
+        String token = CursorCodec.encode(cursor.createdAt(), cursor.id());
+
+        when(assessmentRepository.findIdsByUserIdAfter(userId, cursor.createdAt(), cursor.id(), PageRequest.of(0, 2)))
+                .thenReturn(List.of(assessmentId, older.getId()));
+        when(assessmentRepository.findAllWithDimensionsByIdIn(List.of(assessmentId, older.getId())))
+                .thenReturn(List.of(older, assessment));
+        when(assessmentMapper.toResponseDto(assessment)).thenReturn(responseDto);
+
+        // Act
+        PaginatedResponseDTO<AssessmentResponseDTO> result = assessmentService.getAssessmentsByUser(userId, token, 1, false);
+
+        // Assert
+        assertEquals(List.of(responseDto), result.getContent());
+        assertTrue(result.getPagination().isHasNext());
+        assertTrue(result.getPagination().isHasPrevious());
+        assertNull(result.getPagination().getTotalElements());
+        assertEquals(new CursorCodec.Cursor(createdAt, assessmentId),
+                CursorCodec.decode(result.getPagination().getNextCursor()));
+        verify(assessmentRepository, never()).countByUserId(any());
+        verify(assessmentRepository, never()).findIdPageByUserId(any(), any());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> assessmentService.getAssessmentsByUser(userId, "not-a-cursor", 10, true));
+
+        assertEquals("Invalid pagination cursor", exception.getMessage());
+        verifyNoInteractions(assessmentRepository);
+    }
+
     @Test
     void shouldHandleZeroWeightGracefully() {
         // Arrange
         dimensionDefinition1.setWeight(BigDecimal.ZERO);
         dimensionDefinition2.setWeight(BigDecimal.ZERO);
 
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1, dimensionId2));
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
 
-        when(assessmentRepository.existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId), eq(SubmissionStatus.SUBMITTED), any(LocalDateTime.class)))
-                .thenReturn(false);
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        when(dimensionDefinitionRepository.findById(dimensionId1))
-                .thenReturn(Optional.of(dimensionDefinition1));
+        when(dimensionDefinitionCatalog.require(dimensionId1))
+                .thenReturn(entryOf(dimensionDefinition1));
 
-        when(dimensionDefinitionRepository.findById(dimensionId2))
-                .thenReturn(Optional.of(dimensionDefinition2));
+        when(dimensionDefinitionCatalog.require(dimensionId2))
+                .thenReturn(entryOf(dimensionDefinition2));
 
         when(assessmentRepository.save(any(Assessment.class)))
                 .thenReturn(assessment);
@@ -366,18 +474,18 @@ class AssessmentServiceImplTest {
         when(assessmentRepository.findById(assessmentId))
                 .thenReturn(Optional.of(existingAssessment));
 
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1, dimensionId2));
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
 
-        when(assessmentRepository.existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId), eq(SubmissionStatus.SUBMITTED), any(LocalDateTime.class)))
-                .thenReturn(false);
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        when(dimensionDefinitionRepository.findById(dimensionId1))
-                .thenReturn(Optional.of(dimensionDefinition1));
+        when(dimensionDefinitionCatalog.require(dimensionId1))
+                .thenReturn(entryOf(dimensionDefinition1));
 
-        when(dimensionDefinitionRepository.findById(dimensionId2))
-                .thenReturn(Optional.of(dimensionDefinition2));
+        when(dimensionDefinitionCatalog.require(dimensionId2))
+                .thenReturn(entryOf(dimensionDefinition2));
 
         when(assessmentRepository.save(any(Assessment.class)))
                 .thenReturn(assessment);
@@ -400,9 +508,54 @@ class AssessmentServiceImplTest {
         verify(assessmentRepository).save(any(Assessment.class));
         verify(assessmentEventProducer).publishAssessmentUpdated(any(Assessment.class));
 
-        // Verify dimension definitions were fetched multiple times (for calculation and creation)
-        verify(dimensionDefinitionRepository, times(2)).findById(dimensionId1);
-        verify(dimensionDefinitionRepository, times(2)).findById(dimensionId2);
+        // Verify dimension definitions were resolved from the catalog, not the database
+        verify(dimensionDefinitionCatalog).require(dimensionId1);
+        verify(dimensionDefinitionCatalog).require(dimensionId2);
+        verify(dimensionDefinitionRepository, never()).findById(any());
+        verify(userSnapshotRepository, never()).clearAssessmentSubmittedIfNone(any(), any());
+        verify(teamDashboardService, never()).assessmentWithdrawn(any());
+    }
+
+    @Test
+    void shouldClearSubmittedFlagAndRollupWhenSubmissionIsReturnedToDraft() {
+        // Arrange
+        Assessment existingAssessment = Assessment.builder()
+                .id(assessmentId)
+                .userId(userId)
+                .reflection("Submitted reflection")
+                .submissionStatus(SubmissionStatus.SUBMITTED)
+                .averageScore(3)
+                .build();
+        requestDto.setStatus(SubmissionStatus.DRAFT);
+
+        when(assessmentRepository.findById(assessmentId))
+                .thenReturn(Optional.of(existingAssessment));
+
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
+
+        when(submissionLedgerRepository.existsByUserIdAndLastSubmittedAtAfter(eq(userId), any(LocalDateTime.class)))
+                .thenReturn(false);
+
+        when(dimensionDefinitionCatalog.require(dimensionId1))
+                .thenReturn(entryOf(dimensionDefinition1));
+
+        when(dimensionDefinitionCatalog.require(dimensionId2))
+                .thenReturn(entryOf(dimensionDefinition2));
+
+        when(assessmentRepository.save(any(Assessment.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(assessmentMapper.toResponseDto(any(Assessment.class)))
+                .thenReturn(responseDto);
+
+        // Act
+        assessmentService.updateAssessment(assessmentId, requestDto, userId);
+
+        // Assert
+        verify(userSnapshotRepository).clearAssessmentSubmittedIfNone(userId, SubmissionStatus.SUBMITTED);
+        verify(userSnapshotRepository, never()).markAssessmentSubmitted(any());
+        verify(teamDashboardService).assessmentWithdrawn(existingAssessment);
     }
 
     @Test
@@ -445,20 +598,20 @@ class AssessmentServiceImplTest {
     }
 
     @Test
-    void shouldHandleEventPublishingFailureGracefully() {
+    void shouldFailSubmissionWhenOutboxWriteFails() {
         // Arrange
-        when(dimensionDefinitionRepository.findExistingIds(List.of(dimensionId1, dimensionId2)))
-                .thenReturn(List.of(dimensionId1, dimensionId2));
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId2)))
+                .thenReturn(true);
 
-        when(assessmentRepository.existsByUserIdAndSubmissionStatusAndCreatedAtAfter(
-                eq(userId), eq(SubmissionStatus.SUBMITTED), any(LocalDateTime.class)))
-                .thenReturn(false);
+        when(submissionLedgerRepository.claimSubmission(
+                eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
 
-        when(dimensionDefinitionRepository.findById(dimensionId1))
-                .thenReturn(Optional.of(dimensionDefinition1));
+        when(dimensionDefinitionCatalog.require(dimensionId1))
+                .thenReturn(entryOf(dimensionDefinition1));
 
-        when(dimensionDefinitionRepository.findById(dimensionId2))
-                .thenReturn(Optional.of(dimensionDefinition2));
+        when(dimensionDefinitionCatalog.require(dimensionId2))
+                .thenReturn(entryOf(dimensionDefinition2));
 
         when(assessmentRepository.save(any(Assessment.class)))
                 .thenReturn(assessment);
@@ -466,26 +619,47 @@ class AssessmentServiceImplTest {
         when(dimensionRepository.saveAll(anyList()))
                 .thenReturn(Collections.emptyList());
 
-        when(assessmentMapper.toResponseDto(any(Assessment.class)))
-                .thenReturn(responseDto);
-
-        // Mock event producer to throw exception
-        doThrow(new RuntimeException("Kafka unavailable"))
+        // Mock the outbox insert behind the event producer to fail
+        doThrow(new RuntimeException("Outbox insert failed"))
                 .when(assessmentEventProducer).publishAssessmentSubmitted(any(Assessment.class));
 
-        // Act - Should not throw exception despite event publishing failure
-        AssessmentResponseDTO result = assessmentService.createAssessment(requestDto, userId);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals(userId, result.getUserId());
+        // Act & Assert - the failure propagates so the submission rolls back with its event
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> assessmentService.createAssessment(requestDto, userId));
 
-        // Verify assessment was still saved despite event failure
+        assertEquals("Outbox insert failed", exception.getMessage());
         verify(assessmentRepository).save(any(Assessment.class));
         verify(assessmentEventProducer).publishAssessmentSubmitted(any(Assessment.class));
+        verify(assessmentMapper, never()).toResponseDto(any(Assessment.class));
+
+        // Verify dimension definitions were resolved from the catalog
+        verify(dimensionDefinitionCatalog).require(dimensionId1);
+        verify(dimensionDefinitionCatalog).require(dimensionId2);
+    }
+
+    @Test
+    void shouldThrowBadRequestForDuplicateDimensionIds() {
+        // Arrange
+        AssessmentRequestDTO duplicateRequest = AssessmentRequestDTO.builder()
+                .reflection("Reflection Text")
+                .status(SubmissionStatus.SUBMITTED)
+                .dimensions(List.of(
+                        DimensionRatingDTO.builder().dimensionDefinitionId(dimensionId1).rating(4).build(),
+                        DimensionRatingDTO.builder().dimensionDefinitionId(dimensionId1).rating(2).build()))
+                .build();
+
+        when(dimensionDefinitionCatalog.containsAll(List.of(dimensionId1, dimensionId1)))
+                .thenReturn(true);
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () ->
+                assessmentService.createAssessment(duplicateRequest, userId));
+
+        verifyNoInteractions(assessmentRepository, dimensionRepository, assessmentMapper);
+    }
 
-        // Verify dimension definitions were fetched multiple times
-        verify(dimensionDefinitionRepository, times(2)).findById(dimensionId1);
-        verify(dimensionDefinitionRepository, times(2)).findById(dimensionId2);
+    private DimensionDefinitionCatalog.Entry entryOf(DimensionDefinition definition) {
+        return new DimensionDefinitionCatalog.Entry(definition.getId(), definition.getDimensionName(),
+                definition.getAnalysisKey(), definition.getDescription(), definition.getWeight(), List.of());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.model.Assessment;
+import com.talentradar.assessment_service.model.AssessmentDimension;
+import com.talentradar.assessment_service.model.Comment;
+import com.talentradar.assessment_service.model.DimensionDefinition;
+import com.talentradar.assessment_service.model.Feedback;
+import com.talentradar.assessment_service.model.FeedbackComment;
+import com.talentradar.assessment_service.model.FeedbackDimension;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.FeedbackCommentRepository;
+import com.talentradar.assessment_service.repository.FeedbackDimensionRepository;
+import com.talentradar.assessment_service.repository.FeedbackRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Counts the statements Hibernate prepares while child rows are written, with the application's
+ * {@code hibernate.jdbc.batch_size} and {@code order_inserts} settings. A batched insert prepares its statement
+ * once per batch, so the count must not grow with the number of dimensions or comments.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:configserver:",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Child row batching JPA Tests")
+class ChildRowBatchingJpaTest {
+
+    private static final int MAX_ROWS = 20;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private FeedbackDimensionRepository feedbackDimensionRepository;
+
+    @Autowired
+    private FeedbackCommentRepository feedbackCommentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<DimensionDefinition> definitions = new ArrayList<>();
+    private Comment comment;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < MAX_ROWS; i++) {
+            DimensionDefinition definition = DimensionDefinition.builder()
+                    .dimensionName("Dimension " + i)
+                    .description("Description " + i)
+                    .weight(new BigDecimal("0.05"))
+                    .build();
+            entityManager.persist(definition);
+            definitions.add(definition);
+        }
+        comment = Comment.builder().commentTitle("Strengths").build();
+        entityManager.persist(comment);
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Feedback dimensions and comments should be inserted in one batch per table")
+    void saveAll_FeedbackChildRows_ShouldNotPrepareStatementPerRow() {
+        // When
+        long few = feedbackStatements(2);
+        long many = feedbackStatements(MAX_ROWS);
+
+        // Then: feedback, feedback_dimension and feedback_comment, whatever the row count
+        assertThat(few).isEqualTo(3);
+        assertThat(many).isEqualTo(few);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + 2L * MAX_ROWS);
+    }
+
+    @Test
+    @DisplayName("Assessment dimensions should be inserted in one batch")
+    void save_AssessmentWithDimensions_ShouldNotPrepareStatementPerRow() {
+        // When
+        long few = assessmentStatements(2);
+        long many = assessmentStatements(MAX_ROWS);
+
+        // Then: assessment and assessment_dimension, whatever the row count
+        assertThat(few).isEqualTo(2);
+        assertThat(many).isEqualTo(few);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + MAX_ROWS);
+    }
+
+    private long feedbackStatements(int rows) {
+        entityManager.clear();
+        statistics.clear();
+
+        Feedback feedback = feedbackRepository.save(Feedback.builder()
+                .managerId(UUID.randomUUID())
+                .developerId(UUID.randomUUID())
+                .feedbackVersion(1)
+                .build());
+        List<FeedbackDimension> dimensions = new ArrayList<>();
+        List<FeedbackComment> comments = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            dimensions.add(FeedbackDimension.builder()
+                    .feedback(feedback)
+                    .dimensionDefinition(entityManager.getReference(DimensionDefinition.class,
+                            definitions.get(i).getId()))
+                    .rating(3)
+                    .comment("Comment " + i)
+                    .build());
+            comments.add(FeedbackComment.builder()
+                    .feedback(feedback)
+                    .comment(entityManager.getReference(Comment.class, comment.getId()))
+                    .feedbackCommentBody("Body " + i)
+                    .build());
+        }
+        feedbackDimensionRepository.saveAll(dimensions);
+        feedbackCommentRepository.saveAll(comments);
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long assessmentStatements(int rows) {
+        entityManager.clear();
+        statistics.clear();
+
+        Assessment assessment = Assessment.builder()
+                .userId(UUID.randomUUID())
+                .reflection("Reflection")
+                .submissionStatus(SubmissionStatus.SUBMITTED)
+                .averageScore(3)
+                .build();
+        List<AssessmentDimension> dimensions = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            dimensions.add(AssessmentDimension.builder()
+                    .assessment(assessment)
+                    .dimensionDefinition(entityManager.getReference(DimensionDefinition.class,
+                            definitions.get(i).getId()))
+                    .rating(3)
+                    .build());
+        }
+        assessment.setDimensions(dimensions);
+        assessmentRepository.save(assessment);
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,158 @@
+package com.talentradar.assessment_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.feedback.response.FeedbackDto;
+import com.talentradar.assessment_service.event.rabbit.producer.FeedbackEventProducer;
+import com.talentradar.assessment_service.model.Comment;
+import com.talentradar.assessment_service.model.DimensionDefinition;
+import com.talentradar.assessment_service.model.Feedback;
+import com.talentradar.assessment_service.model.FeedbackComment;
+import com.talentradar.assessment_service.model.FeedbackDimension;
+import com.talentradar.assessment_service.model.GradingCriteria;
+import com.talentradar.assessment_service.service.impl.FeedbackCommentServiceImpl;
+import com.talentradar.assessment_service.service.impl.FeedbackDimensionServiceImpl;
+import com.talentradar.assessment_service.service.impl.FeedbackServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Loads a complete feedback through the real services and counts the statements Hibernate prepares, so a lazy
+ * {@code DimensionDefinition}, grading criteria set or {@code Comment} load per row shows up as a failure.
+ * Every row points at its own definition and comment template, so the persistence context cannot hide an
+ * N+1 by serving repeats from its cache. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:configserver:",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FeedbackServiceImpl.class, FeedbackDimensionServiceImpl.class, FeedbackCommentServiceImpl.class,
+        DimensionDefinitionCatalog.class, SimpleMeterRegistry.class, ObjectMapper.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Complete feedback query count JPA Tests")
+class CompleteFeedbackQueryCountJpaTest {
+
+    private static final int MAX_ROWS = 6;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean
+    private FeedbackEventProducer feedbackEventProducer;
+
+    @MockitoBean
+    private TeamDashboardService teamDashboardService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<DimensionDefinition> definitions = new ArrayList<>();
+    private final List<Comment> comments = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < MAX_ROWS; i++) {
+            DimensionDefinition definition = DimensionDefinition.builder()
+                    .dimensionName("Dimension " + i)
+                    .description("Description " + i)
+                    .weight(new BigDecimal("0.10"))
+                    .build();
+            definition.getGradingCriteriaSet().add(GradingCriteria.builder().criteriaName("Criteria " + i).build());
+            entityManager.persist(definition);
+            definitions.add(definition);
+
+            Comment comment = Comment.builder().commentTitle("Comment " + i).build();
+            entityManager.persist(comment);
+            comments.add(comment);
+        }
+        entityManager.flush();
+
+        // The catalog is loaded once per process in production, so it is warmed before counting
+        dimensionDefinitionCatalog.require(definitions.get(0).getId());
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should load a complete feedback in at most three queries whatever its row count")
+    void getCompleteFeedback_ShouldUseBoundedQueries() {
+        // Given
+        UUID small = persistFeedback(1);
+        UUID large = persistFeedback(MAX_ROWS);
+
+        // When
+        long smallStatements = statementsToLoad(small, 1);
+        long largeStatements = statementsToLoad(large, MAX_ROWS);
+
+        // Then
+        assertThat(largeStatements).isLessThanOrEqualTo(3);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    private long statementsToLoad(UUID feedbackId, int rows) {
+        entityManager.clear();
+        statistics.clear();
+
+        FeedbackDto feedback = feedbackService.getCompleteFeedback(feedbackId);
+
+        assertThat(feedback.getDimensions()).hasSize(rows)
+                .allSatisfy(dimension -> assertThat(dimension.getDimensionDefinition().getGradingCriteria()).hasSize(1));
+        assertThat(feedback.getFeedbackComments()).hasSize(rows);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UUID persistFeedback(int rows) {
+        Feedback feedback = Feedback.builder()
+                .managerId(UUID.randomUUID())
+                .developerId(UUID.randomUUID())
+                .feedbackVersion(1)
+                .build();
+        entityManager.persist(feedback);
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(FeedbackDimension.builder()
+                    .feedback(feedback)
+                    .dimensionDefinition(definitions.get(i))
+                    .rating(4)
+                    .comment("Comment " + i)
+                    .build());
+            entityManager.persist(FeedbackComment.builder()
+                    .feedback(feedback)
+                    .comment(comments.get(i))
+                    .feedbackCommentBody("Body " + i)
+                    .build());
+        }
+        entityManager.flush();
+        return feedback.getId();
+    }
+}
@@ -0,0 +1,182 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.event.rabbit.publisher.ConfirmingPublisher;
+import com.talentradar.assessment_service.event.rabbit.publisher.UnroutableMessageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfirmingPublisher Tests")
+class ConfirmingPublisherTest {
+
+    private static final String EXCHANGE = "assessment.events.exchange";
+    private static final String ROUTING_KEY = "assessment.submitted";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConfirmingPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should complete once the broker acks and record latency metrics")
+    void publish_ShouldComplete_WhenAcked() throws Exception {
+        // Given
+        publisher = publisher(4, 3);
+        brokerAnswers("ack");
+
+        // When
+        CompletableFuture<Void> result = publisher.publish(EXCHANGE, ROUTING_KEY, message());
+
+        // Then
+        result.get(1, TimeUnit.SECONDS);
+        assertThat(publisher.inFlight()).isZero();
+        assertThat(meterRegistry.get("assessment.rabbit.publish.latency").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("assessment.rabbit.confirm.lag").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("assessment.rabbit.publish.outcomes").tag("result", "ack").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should retry a nacked message and complete when a later attempt is acked")
+    void publish_ShouldRetry_WhenNacked() throws Exception {
+        // Given
+        publisher = publisher(4, 3);
+        brokerAnswers("nack", "ack");
+
+        // When
+        publisher.publish(EXCHANGE, ROUTING_KEY, message()).get(1, TimeUnit.SECONDS);
+
+        // Then
+        verify(rabbitTemplate, times(2)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(meterRegistry.get("assessment.rabbit.publish.retries").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fail an unroutable message without retrying it")
+    void publish_ShouldFailWithoutRetry_WhenReturned() {
+        // Given
+        publisher = publisher(4, 3);
+        brokerAnswers("returned");
+
+        // When
+        CompletableFuture<Void> result = publisher.publish(EXCHANGE, ROUTING_KEY, message());
+
+        // Then
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UnroutableMessageException.class)
+                .hasMessageContaining("NO_ROUTE");
+        verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(meterRegistry.find("assessment.rabbit.publish.retries").counter().count()).isZero();
+        assertThat(publisher.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop retrying and free the window slot when the caller cancels")
+    void publish_ShouldStopRetrying_WhenCancelled() throws Exception {
+        // Given: every attempt is nacked and retried after a long backoff
+        publisher = new ConfirmingPublisher(rabbitTemplate, meterRegistry, 1,
+                Duration.ofMillis(20), Duration.ofSeconds(1), 3, Duration.ofMillis(200), 1.0, false);
+        brokerAnswers("nack", "nack", "nack");
+        CompletableFuture<Void> result = publisher.publish(EXCHANGE, ROUTING_KEY, message());
+
+        // When
+        result.cancel(false);
+        Thread.sleep(400);
+
+        // Then: the scheduled retry was dropped and the permit is available again
+        assertThat(publisher.inFlight()).isZero();
+        verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        publisher.publish(EXCHANGE, ROUTING_KEY, message());
+        verify(rabbitTemplate, times(2)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    @DisplayName("Should report the worst-case time a publish can stay unresolved")
+    void maxConfirmTime_ShouldCoverEveryAttemptAndBackoff() {
+        // Given
+        publisher = new ConfirmingPublisher(rabbitTemplate, meterRegistry, 4,
+                Duration.ofSeconds(1), Duration.ofSeconds(5), 3, Duration.ofMillis(200), 2.0, false);
+
+        // When / Then: 3 confirm timeouts plus backoffs of 200 ms and 400 ms
+        assertThat(publisher.maxConfirmTime()).isEqualTo(Duration.ofMillis(15_600));
+    }
+
+    @Test
+    @DisplayName("Should refuse new publishes while the in-flight window is full")
+    void publish_ShouldFail_WhenWindowFull() throws Exception {
+        // Given: the broker never confirms, so the single permit stays taken
+        publisher = new ConfirmingPublisher(rabbitTemplate, meterRegistry, 1,
+                Duration.ofMillis(20), Duration.ofSeconds(5), 1, Duration.ofMillis(1), 1.0, false);
+
+        // When
+        CompletableFuture<Void> first = publisher.publish(EXCHANGE, ROUTING_KEY, message());
+        CompletableFuture<Void> second = publisher.publish(EXCHANGE, ROUTING_KEY, message());
+
+        // Then
+        assertThat(first).isNotDone();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(publisher.inFlight()).isEqualTo(1);
+        verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private ConfirmingPublisher publisher(int maxInFlight, int maxAttempts) {
+        return new ConfirmingPublisher(rabbitTemplate, meterRegistry, maxInFlight,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), maxAttempts, Duration.ofMillis(1), 1.0, false);
+    }
+
+    /**
+     * Makes the mocked template behave like a broker that answers each send with the next outcome.
+     */
+    private void brokerAnswers(String... outcomes) {
+        Queue<String> remaining = new ConcurrentLinkedQueue<>(List.of(outcomes));
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(2);
+            CorrelationData correlation = invocation.getArgument(3);
+            String outcome = remaining.isEmpty() ? "ack" : remaining.poll();
+            if ("returned".equals(outcome)) {
+                correlation.setReturned(new ReturnedMessage(message, 312, "NO_ROUTE", EXCHANGE, ROUTING_KEY));
+            }
+            boolean ack = !"nack".equals(outcome);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private Message message() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message("{}".getBytes(), properties);
+    }
+}
@@ -0,0 +1,137 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.exception.ResourceNotFoundException;
+import com.talentradar.assessment_service.model.DimensionDefinition;
+import com.talentradar.assessment_service.model.GradingCriteria;
+import com.talentradar.assessment_service.repository.DimensionDefinitionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DimensionDefinitionCatalog Tests")
+class DimensionDefinitionCatalogTest {
+
+    @Mock
+    private DimensionDefinitionRepository dimensionDefinitionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DimensionDefinitionCatalog catalog;
+    private DimensionDefinition technical;
+    private UUID technicalId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalog = new DimensionDefinitionCatalog(dimensionDefinitionRepository, meterRegistry, Duration.ofMinutes(5));
+
+        technicalId = UUID.randomUUID();
+        technical = DimensionDefinition.builder()
+                .id(technicalId)
+                .dimensionName("Technical Skills")
+                .description("Assessment of technical capabilities")
+                .weight(new BigDecimal("0.25"))
+                .gradingCriteriaSet(Set.of(GradingCriteria.builder()
+                        .id(UUID.randomUUID())
+                        .criteriaName("Code Quality")
+                        .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should load the catalog once and serve repeated lookups from memory")
+    void require_ShouldLoadCatalogOnce() {
+        // Given
+        when(dimensionDefinitionRepository.findAllWithGradingCriteria()).thenReturn(List.of(technical));
+
+        // When
+        DimensionDefinitionCatalog.Entry first = catalog.require(technicalId);
+        DimensionDefinitionCatalog.Entry second = catalog.require(technicalId);
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.dimensionName()).isEqualTo("Technical Skills");
+        assertThat(first.weight()).isEqualTo(new BigDecimal("0.25"));
+        assertThat(first.gradingCriteria()).extracting(DimensionDefinitionCatalog.Criterion::criteriaName)
+                .containsExactly("Code Quality");
+
+        verify(dimensionDefinitionRepository, times(1)).findAllWithGradingCriteria();
+        assertThat(meterRegistry.get("assessment.dimension.catalog.lookups").tag("result", "hit").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("assessment.dimension.catalog.reloads").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("assessment.dimension.catalog.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should throw and count a miss for unknown ids")
+    void require_ShouldThrowException_WhenIdNotInCatalog() {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+        when(dimensionDefinitionRepository.findAllWithGradingCriteria()).thenReturn(List.of(technical));
+
+        // When & Then
+        assertThatThrownBy(() -> catalog.require(unknownId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("DimensionDefinition with id " + unknownId + " not found");
+
+        assertThat(catalog.containsAll(List.of(technicalId, unknownId))).isFalse();
+        assertThat(catalog.containsAll(List.of(technicalId))).isTrue();
+        assertThat(meterRegistry.get("assessment.dimension.catalog.lookups").tag("result", "miss").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should reload the catalog after invalidation")
+    void invalidate_ShouldTriggerReloadOnNextLookup() {
+        // Given
+        DimensionDefinition renamed = DimensionDefinition.builder()
+                .id(technicalId)
+                .dimensionName("Engineering Skills")
+                .weight(new BigDecimal("0.30"))
+                .build();
+        when(dimensionDefinitionRepository.findAllWithGradingCriteria())
+                .thenReturn(List.of(technical))
+                .thenReturn(List.of(renamed));
+
+        // When
+        catalog.require(technicalId);
+        catalog.invalidate();
+        DimensionDefinitionCatalog.Entry reloaded = catalog.require(technicalId);
+
+        // Then
+        assertThat(reloaded.dimensionName()).isEqualTo("Engineering Skills");
+        assertThat(reloaded.weight()).isEqualTo(new BigDecimal("0.30"));
+        assertThat(reloaded.gradingCriteria()).isEmpty();
+        verify(dimensionDefinitionRepository, times(2)).findAllWithGradingCriteria();
+        assertThat(meterRegistry.get("assessment.dimension.catalog.reloads").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should reload the catalog once the snapshot has expired")
+    void find_ShouldReloadExpiredSnapshot() {
+        // Given
+        catalog = new DimensionDefinitionCatalog(dimensionDefinitionRepository, meterRegistry, Duration.ZERO);
+        when(dimensionDefinitionRepository.findAllWithGradingCriteria()).thenReturn(List.of(technical));
+
+        // When
+        catalog.find(technicalId);
+        catalog.find(technicalId);
+
+        // Then
+        verify(dimensionDefinitionRepository, times(2)).findAllWithGradingCriteria();
+    }
+}
@@ -1,5 +1,6 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.dimensionDefinition.request.CreateDimensionDefinitionDto;
 import com.talentradar.assessment_service.dto.dimensionDefinition.response.DimensionDefinitionDto;
 import com.talentradar.assessment_service.dto.dimensionDefinition.request.UpdateDimensionDefinitionDto;
@@ -29,6 +30,9 @@ class DimensionDefinitionServiceImplTest {
     @Mock
     private DimensionDefinitionRepository dimensionDefinitionRepository;
 
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
     @InjectMocks
     private DimensionDefinitionServiceImpl dimensionDefinitionService;
 
@@ -150,7 +154,8 @@ class DimensionDefinitionServiceImplTest {
         assertThat(result.getDescription()).isEqualTo("Assessment of communication abilities");
         assertThat(result.getWeight()).isEqualTo(new BigDecimal("20.00"));
 
-        verify(dimensionDefinitionRepository).save(any(DimensionDefinition.class));
+        verify(dimensionDefinitionRepository).save(argThat(saved -> "communicationskills".equals(saved.getAnalysisKey())));
+        verify(dimensionDefinitionCatalog).invalidate();
     }
 
     @Test
@@ -167,9 +172,11 @@ class DimensionDefinitionServiceImplTest {
         assertThat(result).isNotNull();
         verify(dimensionDefinitionRepository).findById(dimensionId);
         verify(dimensionDefinitionRepository).save(sampleDimension);
+        verify(dimensionDefinitionCatalog).invalidate();
 
         // Verify the dimension was updated
         assertThat(sampleDimension.getDimensionName()).isEqualTo("Updated Technical Skills");
+        assertThat(sampleDimension.getAnalysisKey()).isEqualTo("updatedtechnicalskills");
         assertThat(sampleDimension.getDescription()).isEqualTo("Updated description");
         assertThat(sampleDimension.getWeight()).isEqualTo(new BigDecimal("30.00"));
     }
@@ -210,6 +217,7 @@ class DimensionDefinitionServiceImplTest {
 
         verify(dimensionDefinitionRepository).findById(dimensionId);
         verify(dimensionDefinitionRepository, never()).save(any());
+        verify(dimensionDefinitionCatalog, never()).invalidate();
     }
 
     @Test
@@ -224,6 +232,7 @@ class DimensionDefinitionServiceImplTest {
         // Then
         verify(dimensionDefinitionRepository).findById(dimensionId);
         verify(dimensionDefinitionRepository).delete(sampleDimension);
+        verify(dimensionDefinitionCatalog).invalidate();
     }
 
     @Test
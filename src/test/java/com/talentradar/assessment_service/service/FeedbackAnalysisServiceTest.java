@@ -1,5 +1,6 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.analysis.FeedbackAnalysisDto;
 import com.talentradar.assessment_service.dto.comment.response.CommentDto;
 import com.talentradar.assessment_service.dto.dimensionDefinition.response.DimensionDefinitionDto;
@@ -33,6 +34,9 @@ class FeedbackAnalysisServiceTest {
     @Mock
     private AssessmentRepository assessmentRepository;
 
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
     @Mock
     private FeedbackDimensionService feedbackDimensionService;
 
@@ -274,6 +278,47 @@ class FeedbackAnalysisServiceTest {
         assertThat(managerFeedback.getScores().get(expectedNormalizedName)).isEqualTo(4);
     }
 
+    @Test
+    @DisplayName("Should use the stored analysis key from the catalog instead of normalizing names")
+    void createAnalysisDto_ShouldUseStoredAnalysisKey() {
+        // Given
+        AssessmentDimension selfRating = AssessmentDimension.builder()
+                .id(UUID.randomUUID())
+                .dimensionDefinition(technicalDimension)
+                .rating(3)
+                .build();
+        Assessment assessment = Assessment.builder()
+                .id(assessmentId)
+                .userId(developerId)
+                .reflection("Test reflection")
+                .submissionStatus(SubmissionStatus.SUBMITTED)
+                .averageScore(3)
+                .dimensions(List.of(selfRating))
+                .build();
+        when(assessmentRepository.findLatestSubmittedAssessmentByUserId(developerId)).thenReturn(Optional.of(assessment));
+        when(feedbackDimensionService.getFeedbackDimensionsByFeedbackId(feedbackId)).thenReturn(List.of(
+                FeedbackDimensionDto.builder()
+                        .feedbackId(feedbackId)
+                        .dimensionDefinition(DimensionDefinitionDto.builder()
+                                .id(dimensionDefinitionId1)
+                                .dimensionName("Technical Excellence")
+                                .build())
+                        .rating(4)
+                        .build()));
+        when(feedbackCommentService.getFeedbackCommentsByFeedbackId(feedbackId)).thenReturn(Collections.emptyList());
+        when(dimensionDefinitionCatalog.find(dimensionDefinitionId1)).thenReturn(Optional.of(
+                new DimensionDefinitionCatalog.Entry(dimensionDefinitionId1, "Technical Excellence", "technical",
+                        null, new BigDecimal("25.0"), List.of())));
+
+        // When
+        FeedbackAnalysisDto result = feedbackAnalysisService.createAnalysisDto(sampleFeedback);
+
+        // Then
+        assertThat(result.getSelfAssessment().getScores()).containsExactly(Map.entry("technical", 3));
+        assertThat(result.getManagerFeedback().getScores()).containsExactly(Map.entry("technical", 4));
+        verify(dimensionDefinitionCatalog, times(2)).find(dimensionDefinitionId1);
+    }
+
     @Test
     @DisplayName("Should combine multiple feedback comments correctly")
     void createAnalysisDto_ShouldCombineFeedbackComments_Correctly() {
@@ -1,6 +1,7 @@
 package com.talentradar.assessment_service.service;
 
 import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentDto;
+import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentRequestDto;
 import com.talentradar.assessment_service.dto.feedbackComment.response.FeedbackCommentDto;
 import com.talentradar.assessment_service.exception.CommentNotFoundException;
 import com.talentradar.assessment_service.exception.FeedbackNotFoundException;
@@ -23,6 +24,7 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -209,4 +211,44 @@ class FeedbackCommentServiceImplTest {
 
         verify(feedbackCommentRepository).findByFeedbackId(feedbackId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should resolve comments in one query and save all feedback comments together")
+    void createFeedbackComments_ShouldLoadCommentsOnceAndSaveInOneBatch() {
+        // Given
+        List<CreateFeedbackCommentRequestDto> requests = List.of(
+                CreateFeedbackCommentRequestDto.builder().commentId(commentId).feedbackCommentBody("First").build(),
+                CreateFeedbackCommentRequestDto.builder().commentId(commentId).feedbackCommentBody("Second").build());
+
+        when(commentRepository.findAllById(Set.of(commentId))).thenReturn(List.of(sampleComment));
+        when(feedbackCommentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<FeedbackCommentDto> result = feedbackCommentService.createFeedbackComments(sampleFeedback, requests);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(FeedbackCommentDto::getFeedbackCommentBody).containsExactly("First", "Second");
+
+        verify(commentRepository, times(1)).findAllById(Set.of(commentId));
+        verify(feedbackCommentRepository, times(1)).saveAll(anyList());
+        verify(commentRepository, never()).findById(any());
+        verify(feedbackRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a referenced comment does not exist")
+    void createFeedbackComments_ShouldThrowException_WhenCommentNotFound() {
+        // Given
+        List<CreateFeedbackCommentRequestDto> requests = List.of(
+                CreateFeedbackCommentRequestDto.builder().commentId(commentId).feedbackCommentBody("First").build());
+        when(commentRepository.findAllById(Set.of(commentId))).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> feedbackCommentService.createFeedbackComments(sampleFeedback, requests))
+                .isInstanceOf(CommentNotFoundException.class)
+                .hasMessage("Comment not found with id: " + commentId);
+
+        verify(feedbackCommentRepository, never()).saveAll(any());
+    }
+}
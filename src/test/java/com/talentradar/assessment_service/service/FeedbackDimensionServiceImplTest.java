@@ -1,5 +1,7 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.dimensionDefinition.request.CreateFeedbackDimensionRequestDto;
 import com.talentradar.assessment_service.dto.dimensionDefinition.response.DimensionDefinitionDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.request.CreateFeedbackDimensionDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.response.FeedbackDimensionDto;
@@ -25,6 +27,8 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +44,9 @@ class FeedbackDimensionServiceImplTest {
     @Mock
     private DimensionDefinitionRepository dimensionDefinitionRepository;
 
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
     @InjectMocks
     private FeedbackDimensionServiceImpl feedbackDimensionService;
 
@@ -426,4 +433,117 @@ class FeedbackDimensionServiceImplTest {
             return true;
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should create all feedback dimensions with a single saveAll and no per-row lookups")
+    void createFeedbackDimensions_ShouldSaveInOneBatch() {
+        // Given
+        UUID secondDefinitionId = UUID.randomUUID();
+        List<CreateFeedbackDimensionRequestDto> requests = List.of(
+                CreateFeedbackDimensionRequestDto.builder()
+                        .dimensionDefinitionId(dimensionDefinitionId).rating(4).comment("Strong").build(),
+                CreateFeedbackDimensionRequestDto.builder()
+                        .dimensionDefinitionId(secondDefinitionId).rating(3).comment("Solid").build());
+
+        when(dimensionDefinitionCatalog.find(dimensionDefinitionId)).thenReturn(Optional.of(
+                new DimensionDefinitionCatalog.Entry(dimensionDefinitionId, "Technical Excellence", "technicalexcellence", null,
+                        new BigDecimal("25.50"), List.of(new DimensionDefinitionCatalog.Criterion(gradingCriteriaId, "Code Quality")))));
+        when(dimensionDefinitionCatalog.find(secondDefinitionId)).thenReturn(Optional.of(
+                new DimensionDefinitionCatalog.Entry(secondDefinitionId, "Communication", "communication", null,
+                        new BigDecimal("20.00"), List.of())));
+        when(feedbackDimensionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<FeedbackDimensionDto> result = feedbackDimensionService.createFeedbackDimensions(sampleFeedback, requests);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getDimensionDefinition().getDimensionName()).isEqualTo("Technical Excellence");
+        assertThat(result.get(0).getDimensionDefinition().getGradingCriteria())
+                .extracting(GradingCriteriaDto::getCriteriaName)
+                .containsExactly("Code Quality");
+        assertThat(result.get(1).getRating()).isEqualTo(3);
+
+        verify(feedbackDimensionRepository, times(1)).saveAll(argThat(rows -> ((List<?>) rows).size() == 2));
+        verify(feedbackDimensionRepository, never()).save(any());
+        verify(feedbackDimensionRepository, never()).existsByFeedbackIdAndDimensionDefinitionId(any(), any());
+        verify(feedbackRepository, never()).findById(any());
+        verify(dimensionDefinitionRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate dimensions in the same request before saving")
+    void createFeedbackDimensions_ShouldThrowException_WhenDimensionRepeated() {
+        // Given
+        List<CreateFeedbackDimensionRequestDto> requests = List.of(
+                CreateFeedbackDimensionRequestDto.builder()
+                        .dimensionDefinitionId(dimensionDefinitionId).rating(4).comment("Strong").build(),
+                CreateFeedbackDimensionRequestDto.builder()
+                        .dimensionDefinitionId(dimensionDefinitionId).rating(2).comment("Weak").build());
+
+        when(dimensionDefinitionCatalog.find(dimensionDefinitionId)).thenReturn(Optional.of(
+                new DimensionDefinitionCatalog.Entry(dimensionDefinitionId, "Technical Excellence", "technicalexcellence", null,
+                        new BigDecimal("25.50"), List.of())));
+
+        // When & Then
+        assertThatThrownBy(() -> feedbackDimensionService.createFeedbackDimensions(sampleFeedback, requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Feedback dimension already exists for feedback ID: " + feedbackId +
+                        " and dimension ID: " + dimensionDefinitionId);
+
+        verify(feedbackDimensionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a requested dimension definition is unknown")
+    void createFeedbackDimensions_ShouldThrowException_WhenDefinitionNotFound() {
+        // Given
+        List<CreateFeedbackDimensionRequestDto> requests = List.of(
+                CreateFeedbackDimensionRequestDto.builder()
+                        .dimensionDefinitionId(dimensionDefinitionId).rating(4).comment("Strong").build());
+        when(dimensionDefinitionCatalog.find(dimensionDefinitionId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> feedbackDimensionService.createFeedbackDimensions(sampleFeedback, requests))
+                .isInstanceOf(DimensionDefinitionNotFoundException.class)
+                .hasMessage("Dimension definition not found with id: " + dimensionDefinitionId);
+
+        verify(feedbackDimensionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should map grading criteria from the catalog without initialising the lazy criteria set")
+    void getFeedbackDimensionsByFeedbackId_ShouldUseCatalog_ForDefinitionDetails() {
+        // Given
+        DimensionDefinition definition = mock(DimensionDefinition.class);
+        when(definition.getId()).thenReturn(dimensionDefinitionId);
+        List<FeedbackDimension> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(FeedbackDimension.builder()
+                    .id(UUID.randomUUID())
+                    .feedback(sampleFeedback)
+                    .dimensionDefinition(definition)
+                    .rating(4)
+                    .comment("Comment " + i)
+                    .build());
+        }
+        when(feedbackDimensionRepository.findByFeedbackId(feedbackId)).thenReturn(rows);
+        when(dimensionDefinitionCatalog.find(dimensionDefinitionId)).thenReturn(Optional.of(
+                new DimensionDefinitionCatalog.Entry(dimensionDefinitionId, "Technical Excellence", "technicalexcellence", "desc",
+                        new BigDecimal("25.50"), List.of(new DimensionDefinitionCatalog.Criterion(gradingCriteriaId, "Code Quality")))));
+
+        // When
+        List<FeedbackDimensionDto> result = feedbackDimensionService.getFeedbackDimensionsByFeedbackId(feedbackId);
+
+        // Then
+        assertThat(result).hasSize(10);
+        assertThat(result).allSatisfy(dto ->
+                assertThat(dto.getDimensionDefinition().getGradingCriteria()).hasSize(1));
+
+        // One query for all rows; the per-definition criteria collection (one query each) is never touched
+        verify(feedbackDimensionRepository, times(1)).findByFeedbackId(feedbackId);
+        verify(definition, never()).getGradingCriteriaSet();
+        verifyNoMoreInteractions(feedbackDimensionRepository);
+        verifyNoInteractions(dimensionDefinitionRepository, feedbackRepository);
+    }
+}
@@ -1,30 +1,49 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.assessment.response.PaginatedResponseDTO;
 import com.talentradar.assessment_service.dto.dimensionDefinition.request.CreateFeedbackDimensionRequestDto;
 import com.talentradar.assessment_service.dto.feedback.request.CreateCompleteFeedbackDto;
+import com.talentradar.assessment_service.dto.feedback.request.FeedbackSearchCriteria;
 import com.talentradar.assessment_service.dto.feedback.response.FeedbackDto;
 import com.talentradar.assessment_service.dto.feedbackComment.request.CreateFeedbackCommentRequestDto;
 import com.talentradar.assessment_service.dto.feedbackComment.response.FeedbackCommentDto;
 import com.talentradar.assessment_service.dto.feedbackDimension.response.FeedbackDimensionDto;
+import com.talentradar.assessment_service.event.rabbit.producer.FeedbackEventProducer;
 import com.talentradar.assessment_service.exception.FeedbackNotFoundException;
 import com.talentradar.assessment_service.model.Feedback;
 import com.talentradar.assessment_service.repository.FeedbackRepository;
+import com.talentradar.assessment_service.repository.FeedbackVersionCounterRepository;
 import com.talentradar.assessment_service.service.FeedbackCommentService;
 import com.talentradar.assessment_service.service.FeedbackDimensionService;
 import com.talentradar.assessment_service.service.impl.FeedbackServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,12 +53,27 @@ class FeedbackServiceImplTest {
     @Mock
     private FeedbackRepository feedbackRepository;
 
+    @Mock
+    private FeedbackVersionCounterRepository feedbackVersionCounterRepository;
+
     @Mock
     private FeedbackDimensionService feedbackDimensionService;
 
     @Mock
     private FeedbackCommentService feedbackCommentService;
 
+    @Mock
+    private TeamDashboardService teamDashboardService;
+
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
+    @Mock
+    private FeedbackEventProducer feedbackEventProducer;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private FeedbackServiceImpl feedbackService;
 
@@ -109,8 +143,10 @@ class FeedbackServiceImplTest {
     void createCompleteFeedback_ShouldCreateCompleteFeedback_WhenValidDto() {
         // Given
         when(feedbackRepository.save(any(Feedback.class))).thenReturn(sampleFeedback);
-        when(feedbackDimensionService.createFeedbackDimension(any())).thenReturn(mockDimensionDto);
-        when(feedbackCommentService.createFeedbackComment(any())).thenReturn(mockCommentDto);
+        when(feedbackDimensionService.createFeedbackDimensions(sampleFeedback, createCompleteFeedbackDto.getDimensions()))
+                .thenReturn(List.of(mockDimensionDto));
+        when(feedbackCommentService.createFeedbackComments(sampleFeedback, createCompleteFeedbackDto.getFeedbackComments()))
+                .thenReturn(List.of(mockCommentDto));
 
         // When
         FeedbackDto result = feedbackService.createCompleteFeedback(createCompleteFeedbackDto);
@@ -125,8 +161,143 @@ class FeedbackServiceImplTest {
         assertThat(result.getFeedbackComments()).hasSize(1);
 
         verify(feedbackRepository).save(any(Feedback.class));
-        verify(feedbackDimensionService).createFeedbackDimension(any());
-        verify(feedbackCommentService).createFeedbackComment(any());
+        // Children are written through one bulk call each rather than one call per row
+        verify(feedbackDimensionService).createFeedbackDimensions(sampleFeedback, createCompleteFeedbackDto.getDimensions());
+        verify(feedbackCommentService).createFeedbackComments(sampleFeedback, createCompleteFeedbackDto.getFeedbackComments());
+        verify(teamDashboardService).recordFeedback(sampleFeedback, Map.of(dimensionId, 4));
+        verify(feedbackDimensionService, never()).createFeedbackDimension(any());
+        verify(feedbackCommentService, never()).createFeedbackComment(any());
+    }
+
+    @Test
+    @DisplayName("Should store the weighted average of the manager's ratings")
+    void createCompleteFeedback_ShouldStoreWeightedAverageScore() {
+        // Given: (4 * 0.30 + 2 * 0.10) / 0.40 = 3.50, which rounds up to 4
+        UUID communicationId = UUID.randomUUID();
+        CreateCompleteFeedbackDto dto = CreateCompleteFeedbackDto.builder()
+                .managerId(managerId)
+                .developerId(developerId)
+                .dimensions(List.of(
+                        CreateFeedbackDimensionRequestDto.builder()
+                                .dimensionDefinitionId(dimensionId).rating(4).comment("Strong").build(),
+                        CreateFeedbackDimensionRequestDto.builder()
+                                .dimensionDefinitionId(communicationId).rating(2).comment("Needs work").build()))
+                .build();
+        when(dimensionDefinitionCatalog.contains(any(UUID.class))).thenReturn(true);
+        when(dimensionDefinitionCatalog.require(dimensionId)).thenReturn(new DimensionDefinitionCatalog.Entry(
+                dimensionId, "Technical Skills", "technicalskills", null, new BigDecimal("0.30"), List.of()));
+        when(dimensionDefinitionCatalog.require(communicationId)).thenReturn(new DimensionDefinitionCatalog.Entry(
+                communicationId, "Communication", "communication", null, new BigDecimal("0.10"), List.of()));
+        when(feedbackRepository.save(any(Feedback.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        FeedbackDto result = feedbackService.createCompleteFeedback(dto);
+
+        // Then
+        ArgumentCaptor<Feedback> saved = ArgumentCaptor.forClass(Feedback.class);
+        verify(feedbackRepository).save(saved.capture());
+        assertThat(saved.getValue().getAverageScore()).isEqualTo(4);
+        assertThat(result.getAverageScore()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reserve versions once per pair when creating feedbacks in bulk")
+    void createCompleteFeedbacks_ShouldAllocateVersionsPerPair() {
+        // Given: the first pair already has version 2 and appears twice in the batch
+        UUID otherDeveloperId = UUID.randomUUID();
+        CreateCompleteFeedbackDto repeated = CreateCompleteFeedbackDto.builder()
+                .managerId(managerId)
+                .developerId(developerId)
+                .dimensions(createCompleteFeedbackDto.getDimensions())
+                .build();
+        CreateCompleteFeedbackDto other = CreateCompleteFeedbackDto.builder()
+                .managerId(managerId)
+                .developerId(otherDeveloperId)
+                .dimensions(createCompleteFeedbackDto.getDimensions())
+                .feedbackComments(createCompleteFeedbackDto.getFeedbackComments())
+                .build();
+        when(feedbackVersionCounterRepository.allocate(managerId, developerId, 2)).thenReturn(4);
+        when(feedbackVersionCounterRepository.allocate(managerId, otherDeveloperId, 1)).thenReturn(1);
+        when(feedbackRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(feedbackDimensionService.createFeedbackDimensions(any(Feedback.class), any()))
+                .thenReturn(List.of(mockDimensionDto));
+        when(feedbackCommentService.createFeedbackComments(any(Feedback.class), any()))
+                .thenReturn(List.of(mockCommentDto));
+
+        // When
+        List<FeedbackDto> results = feedbackService.createCompleteFeedbacks(
+                List.of(createCompleteFeedbackDto, other, repeated));
+
+        // Then
+        assertThat(results).extracting(FeedbackDto::getDeveloperId)
+                .containsExactly(developerId, otherDeveloperId, developerId);
+        assertThat(results).extracting(FeedbackDto::getFeedbackVersion).containsExactly(3, 1, 4);
+        assertThat(results.get(2).getFeedbackComments()).isEmpty();
+
+        // One reservation per distinct pair
+        verify(feedbackVersionCounterRepository, times(2)).allocate(any(), any(), anyInt());
+        verify(feedbackRepository, never()).findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(any(), any());
+        verify(feedbackRepository, never()).save(any(Feedback.class));
+        verify(feedbackRepository).flush();
+        verify(feedbackCommentService, times(2)).createFeedbackComments(any(Feedback.class), any());
+        verify(teamDashboardService, times(3)).recordFeedback(any(Feedback.class), eq(Map.of(dimensionId, 4)));
+        verify(feedbackEventProducer, times(3)).publishFeedbackCreated(any(Feedback.class));
+    }
+
+    @Test
+    @DisplayName("Should return a keyset page of feedback with the total when requested")
+    @SuppressWarnings("unchecked")
+    void searchFeedbacks_ShouldReturnLastKeysetPage_WhenFewerRowsThanSize() {
+        // Given
+        FeedbackSearchCriteria criteria = FeedbackSearchCriteria.builder().developerId(developerId).build();
+        when(feedbackRepository.findBy(any(Specification.class), any())).thenReturn(List.of(sampleFeedback));
+        when(feedbackRepository.count(any(Specification.class))).thenReturn(1L);
+
+        // When
+        PaginatedResponseDTO<FeedbackDto> result = feedbackService.searchFeedbacks(criteria, null, 10, true);
+
+        // Then
+        assertThat(result.getContent()).extracting(FeedbackDto::getId).containsExactly(feedbackId);
+        assertThat(result.getPagination().isHasNext()).isFalse();
+        assertThat(result.getPagination().isHasPrevious()).isFalse();
+        assertThat(result.getPagination().getNextCursor()).isNull();
+        assertThat(result.getPagination().getTotalElements()).isEqualTo(1L);
+        assertThat(result.getPagination().getTotalPages()).isEqualTo(1);
+        verify(feedbackRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should export matching feedback as one JSON object per line and close the stream")
+    @SuppressWarnings("unchecked")
+    void exportFeedbacks_ShouldWriteNdjson() throws IOException {
+        // Given
+        Feedback second = Feedback.builder()
+                .id(UUID.randomUUID())
+                .managerId(managerId)
+                .developerId(developerId)
+                .feedbackVersion(2)
+                .averageScore(3)
+                .createdAt(LocalDateTime.now())
+                .build();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(feedbackRepository.streamAll(any(Specification.class), anyInt()))
+                .thenReturn(Stream.of(sampleFeedback, second).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = feedbackService.exportFeedbacks(
+                FeedbackSearchCriteria.builder().developerId(developerId).build(), out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], FeedbackDto.class).getId()).isEqualTo(feedbackId);
+        FeedbackDto exportedSecond = objectMapper.readValue(lines[1], FeedbackDto.class);
+        assertThat(exportedSecond.getId()).isEqualTo(second.getId());
+        assertThat(exportedSecond.getAverageScore()).isEqualTo(3);
+        assertThat(closed).isTrue();
+        verify(feedbackRepository, never()).findAll();
     }
 
     @Test
@@ -153,6 +324,8 @@ class FeedbackServiceImplTest {
         verify(feedbackRepository).findById(feedbackId);
         verify(feedbackDimensionService).getFeedbackDimensionsByFeedbackId(feedbackId);
         verify(feedbackCommentService).getFeedbackCommentsByFeedbackId(feedbackId);
+        // Bounded read: feedback, dimensions and comments are one query each regardless of row counts
+        verifyNoMoreInteractions(feedbackRepository, feedbackDimensionService, feedbackCommentService);
     }
 
     @Test
@@ -194,12 +367,6 @@ class FeedbackServiceImplTest {
     @DisplayName("Should create new feedback version with incremented version")
     void createNewFeedbackVersion_ShouldIncrementVersion_WhenPreviousVersionExists() {
         // Given
-        Feedback existingFeedback = Feedback.builder()
-                .managerId(managerId)
-                .developerId(developerId)
-                .feedbackVersion(2)
-                .build();
-
         Feedback newFeedback = Feedback.builder()
                 .id(UUID.randomUUID())
                 .managerId(managerId)
@@ -209,8 +376,8 @@ class FeedbackServiceImplTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(feedbackRepository.findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(managerId, developerId))
-                .thenReturn(Optional.of(existingFeedback));
+        // Version 2 already exists, so the counter hands out 3
+        when(feedbackVersionCounterRepository.allocate(managerId, developerId, 1)).thenReturn(3);
         when(feedbackRepository.save(any(Feedback.class))).thenReturn(newFeedback);
 
         // When
@@ -222,8 +389,10 @@ class FeedbackServiceImplTest {
         assertThat(result.getDeveloperId()).isEqualTo(developerId);
         assertThat(result.getFeedbackVersion()).isEqualTo(3);
 
-        verify(feedbackRepository).findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(managerId, developerId);
-        verify(feedbackRepository).save(any(Feedback.class));
+        ArgumentCaptor<Feedback> saved = ArgumentCaptor.forClass(Feedback.class);
+        verify(feedbackRepository).save(saved.capture());
+        assertThat(saved.getValue().getFeedbackVersion()).isEqualTo(3);
+        verify(feedbackRepository, never()).findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(any(), any());
     }
 
     @Test
@@ -239,8 +408,7 @@ class FeedbackServiceImplTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(feedbackRepository.findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(managerId, developerId))
-                .thenReturn(Optional.empty());
+        when(feedbackVersionCounterRepository.allocate(managerId, developerId, 1)).thenReturn(1);
         when(feedbackRepository.save(any(Feedback.class))).thenReturn(newFeedback);
 
         // When
@@ -252,8 +420,10 @@ class FeedbackServiceImplTest {
         assertThat(result.getDeveloperId()).isEqualTo(developerId);
         assertThat(result.getFeedbackVersion()).isEqualTo(1);
 
-        verify(feedbackRepository).findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(managerId, developerId);
-        verify(feedbackRepository).save(any(Feedback.class));
+        ArgumentCaptor<Feedback> saved = ArgumentCaptor.forClass(Feedback.class);
+        verify(feedbackRepository).save(saved.capture());
+        assertThat(saved.getValue().getFeedbackVersion()).isEqualTo(1);
+        verify(feedbackRepository, never()).findTopByManagerIdAndDeveloperIdOrderByFeedbackVersionDesc(any(), any());
     }
 
     @Test
@@ -287,4 +457,4 @@ class FeedbackServiceImplTest {
         assertThat(result).isTrue();
         verify(feedbackRepository).existsById(feedbackId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.model.Feedback;
+import com.talentradar.assessment_service.repository.FeedbackRepository;
+import com.talentradar.assessment_service.repository.FeedbackVersionCounterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs {@link FeedbackVersionCounterRepository#allocate} against PostgreSQL, so the upsert's row locking and
+ * seeding are what is tested. Every allocation commits on its own, so the test itself runs without a
+ * transaction and each test uses a fresh manager/developer pair. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:configserver:",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Feedback version counter JPA Tests")
+class FeedbackVersionCounterJpaTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private FeedbackVersionCounterRepository feedbackVersionCounterRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    private final UUID managerId = UUID.randomUUID();
+    private final UUID developerId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Concurrent single and block allocations should never hand out the same version")
+    void allocate_ConcurrentCallers_ShouldReserveDisjointVersions() throws Exception {
+        // Given
+        int threads = 16;
+        int callsPerThread = 25;
+        Queue<Integer> versions = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < callsPerThread; i++) {
+                    int count = i % 2 == 0 ? 1 : 2;
+                    int last = feedbackVersionCounterRepository.allocate(managerId, developerId, count);
+                    IntStream.rangeClosed(last - count + 1, last).forEach(versions::add);
+                }
+                return null;
+            }));
+        }
+
+        // When
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then: the reserved blocks tile 1..n with no overlap and no gap
+        int expected = threads * IntStream.range(0, callsPerThread).map(i -> i % 2 == 0 ? 1 : 2).sum();
+        assertThat(versions).containsExactlyInAnyOrderElementsOf(
+                IntStream.rangeClosed(1, expected).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("A pair without a counter should start after its highest stored version")
+    void allocate_WithoutCounter_ShouldStartAfterStoredVersions() {
+        // Given
+        saveFeedback(5);
+
+        // When / Then
+        assertThat(feedbackVersionCounterRepository.allocate(managerId, developerId, 1)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("A version written past the counter should not be handed out again")
+    void allocate_AfterVersionWrittenPastCounter_ShouldSkipIt() {
+        // Given: the counter is at 1, then an update stores version 7 for the pair
+        assertThat(feedbackVersionCounterRepository.allocate(managerId, developerId, 1)).isEqualTo(1);
+        saveFeedback(7);
+
+        // When / Then
+        assertThat(feedbackVersionCounterRepository.allocate(managerId, developerId, 2)).isEqualTo(9);
+    }
+
+    private void saveFeedback(int version) {
+        feedbackRepository.saveAndFlush(Feedback.builder()
+                .managerId(managerId)
+                .developerId(developerId)
+                .feedbackVersion(version)
+                .build());
+    }
+}
@@ -1,5 +1,6 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
 import com.talentradar.assessment_service.dto.gradingCriteria.request.CreateGradingCriteriaDto;
 import com.talentradar.assessment_service.dto.gradingCriteria.response.GradingCriteriaDto;
 import com.talentradar.assessment_service.dto.gradingCriteria.request.UpdateGradingCriteriaDto;
@@ -28,6 +29,9 @@ class GradingCriteriaServiceImplTest {
     @Mock
     private GradingCriteriaRepository gradingCriteriaRepository;
 
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
     @InjectMocks
     private GradingCriteriaServiceImpl gradingCriteriaService;
 
@@ -154,6 +158,7 @@ class GradingCriteriaServiceImplTest {
         assertThat(result).isNotNull();
         verify(gradingCriteriaRepository).findById(gradingCriteriaId);
         verify(gradingCriteriaRepository).save(sampleGradingCriteria);
+        verify(dimensionDefinitionCatalog).invalidate();
         
         // Verify the grading criteria was updated
         assertThat(sampleGradingCriteria.getCriteriaName()).isEqualTo("Updated Code Quality");
@@ -208,6 +213,7 @@ class GradingCriteriaServiceImplTest {
         // Then
         verify(gradingCriteriaRepository).findById(gradingCriteriaId);
         verify(gradingCriteriaRepository).delete(sampleGradingCriteria);
+        verify(dimensionDefinitionCatalog).invalidate();
     }
 
     @Test
@@ -223,6 +229,7 @@ class GradingCriteriaServiceImplTest {
         
         verify(gradingCriteriaRepository).findById(gradingCriteriaId);
         verify(gradingCriteriaRepository, never()).delete(any());
+        verify(dimensionDefinitionCatalog, never()).invalidate();
     }
 
     @Test
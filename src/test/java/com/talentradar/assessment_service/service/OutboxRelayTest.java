@@ -0,0 +1,264 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.event.rabbit.outbox.OutboxRelay;
+import com.talentradar.assessment_service.event.rabbit.publisher.ConfirmingPublisher;
+import com.talentradar.assessment_service.model.OutboxEvent;
+import com.talentradar.assessment_service.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConfirmingPublisher confirmingPublisher;
+    private OutboxRelay outboxRelay;
+
+    /**
+     * In-memory broker stand-in: records every published message and answers publisher confirms.
+     */
+    private final List<Message> published = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> nackedIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> returnedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private final List<Boolean> sentInTransaction = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        confirmingPublisher = new ConfirmingPublisher(rabbitTemplate, new SimpleMeterRegistry(), 16,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 2, Duration.ofMillis(1), 1.0, false);
+        outboxRelay = new OutboxRelay(outboxEventRepository, confirmingPublisher, transactionTemplate, meterRegistry,
+                BATCH_SIZE, Duration.ofSeconds(5), 3, Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofDays(7));
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+
+        lenient().doAnswer(invocation -> {
+            Message message = invocation.getArgument(2);
+            CorrelationData correlation = invocation.getArgument(3);
+            published.add(message);
+            sentInTransaction.add(inTransaction.get());
+            if (returnedIds.contains(message.getMessageProperties().getMessageId())) {
+                correlation.setReturned(new ReturnedMessage(message, 312, "NO_ROUTE",
+                        "assessment.events.exchange", "assessment.submitted"));
+            }
+            boolean ack = !nackedIds.contains(message.getMessageProperties().getMessageId());
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        confirmingPublisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should publish pending events and mark confirmed ones as published")
+    void relayPending_ShouldPublishAndMarkConfirmedEvents() {
+        // Given
+        OutboxEvent first = outboxEvent("{\"n\":1}");
+        OutboxEvent second = outboxEvent("{\"n\":2}");
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class))).thenReturn(List.of(first, second));
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then
+        assertThat(published).hasSize(2);
+        Message message = published.get(0);
+        assertThat(new String(message.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"n\":1}");
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo("application/json");
+        assertThat(message.getMessageProperties().getHeaders().get("__TypeId__"))
+                .isEqualTo("com.talentradar.assessment_service.event.AssessmentEvent");
+        assertThat(message.getMessageProperties().getMessageId()).isEqualTo(first.getId().toString());
+
+        verify(outboxEventRepository).markPublished(eq(List.of(first.getId(), second.getId())), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).markFailed(anyCollection(), anyString(), any(), anyLong(), anyLong());
+        // A partial batch means the outbox is drained, so only one batch is locked
+        verify(outboxEventRepository, times(1)).lockNextBatch(anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should lease the claimed batch and publish it outside any transaction")
+    void relayPending_ShouldPublishOutsideTheClaimingTransaction() {
+        // Given
+        OutboxEvent event = outboxEvent("{\"n\":1}");
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class))).thenReturn(List.of(event));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then: the lease outlasts the confirm wait, and no row lock or connection is held while sending
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository).claim(eq(List.of(event.getId())), leaseUntil.capture());
+        assertThat(leaseUntil.getValue()).isAfter(before.plusSeconds(5));
+        assertThat(sentInTransaction).containsExactly(false);
+        verify(outboxEventRepository).markPublished(eq(List.of(event.getId())), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should keep events pending once the publisher gives up on repeated nacks")
+    void relayPending_ShouldLeaveNackedEventsPending() {
+        // Given
+        OutboxEvent confirmed = outboxEvent("{\"n\":1}");
+        OutboxEvent nacked = outboxEvent("{\"n\":2}");
+        nackedIds.add(nacked.getId().toString());
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class))).thenReturn(List.of(confirmed, nacked));
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then: the nacked event was attempted twice (max attempts) before being left for a later run
+        assertThat(published).hasSize(3);
+        verify(outboxEventRepository).markPublished(eq(List.of(confirmed.getId())), any(LocalDateTime.class));
+        verify(outboxEventRepository).markFailed(eq(List.of(nacked.getId())), anyString(), any(LocalDateTime.class), eq(1000L), eq(60000L));
+    }
+
+    @Test
+    @DisplayName("Should park an event once it has used up its relay attempts")
+    void relayPending_ShouldParkExhaustedEvents() {
+        // Given: two earlier runs already failed, this is the third and last attempt
+        OutboxEvent event = outboxEvent("{\"n\":1}");
+        event.setAttempts(2);
+        nackedIds.add(event.getId().toString());
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class))).thenReturn(List.of(event));
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then
+        verify(outboxEventRepository).markParked(eq(List.of(event.getId())), anyString(), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).markFailed(anyCollection(), anyString(), any(), anyLong(), anyLong());
+        assertThat(meterRegistry.counter("assessment.outbox.parked").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should park an unroutable event on its first attempt")
+    void relayPending_ShouldParkUnroutableEvents() {
+        // Given
+        OutboxEvent event = outboxEvent("{\"n\":1}");
+        returnedIds.add(event.getId().toString());
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class))).thenReturn(List.of(event));
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then: sent once, never retried, and not left pending
+        assertThat(published).hasSize(1);
+        verify(outboxEventRepository).markParked(eq(List.of(event.getId())), contains("unroutable"), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).markFailed(anyCollection(), anyString(), any(), anyLong(), anyLong());
+        assertThat(meterRegistry.counter("assessment.outbox.parked").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep events pending when the broker connection fails")
+    void relayPending_ShouldLeaveEventsPending_WhenSendFails() {
+        // Given
+        OutboxEvent event = outboxEvent("{\"n\":1}");
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class))).thenReturn(List.of(event));
+        doThrow(new RuntimeException("Connection refused"))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any());
+        verify(outboxEventRepository).markFailed(eq(List.of(event.getId())), anyString(), any(LocalDateTime.class), eq(1000L), eq(60000L));
+    }
+
+    @Test
+    @DisplayName("Should keep draining while full batches are confirmed")
+    void relayPending_ShouldDrainFullBatches() {
+        // Given
+        List<OutboxEvent> fullBatch = List.of(outboxEvent("{}"), outboxEvent("{}"), outboxEvent("{}"));
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class)))
+                .thenReturn(fullBatch)
+                .thenReturn(List.of());
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then
+        assertThat(published).hasSize(3);
+        verify(outboxEventRepository, times(2)).lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class));
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventRepository).markPublished(ids.capture(), any(LocalDateTime.class));
+        assertThat(ids.getValue()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should not touch the broker when there is nothing to relay")
+    void relayPending_ShouldDoNothing_WhenOutboxEmpty() {
+        // Given
+        when(outboxEventRepository.lockNextBatch(eq(BATCH_SIZE), any(LocalDateTime.class))).thenReturn(List.of());
+
+        // When
+        outboxRelay.relayPending();
+
+        // Then
+        verifyNoInteractions(rabbitTemplate);
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any());
+    }
+
+    private OutboxEvent outboxEvent(String payload) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .exchange("assessment.events.exchange")
+                .routingKey("assessment.submitted")
+                .payload(payload)
+                .payloadType("com.talentradar.assessment_service.event.AssessmentEvent")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
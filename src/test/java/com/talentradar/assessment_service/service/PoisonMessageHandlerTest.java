@@ -0,0 +1,99 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.config.RabbitMQConfig;
+import com.talentradar.assessment_service.event.rabbit.consumer.PoisonMessageHandler;
+import com.talentradar.assessment_service.event.rabbit.publisher.ConfirmingPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PoisonMessageHandler Tests")
+class PoisonMessageHandlerTest {
+
+    @Mock
+    private ConfirmingPublisher confirmingPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PoisonMessageHandler poisonMessageHandler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        poisonMessageHandler = new PoisonMessageHandler(confirmingPublisher, meterRegistry, 3, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should requeue until max attempts, then move the message to the dead-letter queue")
+    void handleFailure_ShouldDeadLetter_AfterMaxAttempts() {
+        // Given
+        Message message = message();
+        RuntimeException failure = new RuntimeException("Bad payload");
+        when(confirmingPublisher.publish(RabbitMQConfig.USER_EVENTS_DLX, RabbitMQConfig.USER_EVENTS_DLQ, message))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        boolean first = poisonMessageHandler.handleFailure("evt-1", message, failure);
+        boolean second = poisonMessageHandler.handleFailure("evt-1", message, failure);
+        boolean third = poisonMessageHandler.handleFailure("evt-1", message, failure);
+
+        // Then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(third).isTrue();
+        assertThat(message.getMessageProperties().<String>getHeader("x-exception-message")).isEqualTo("Bad payload");
+        assertThat(message.getMessageProperties().<String>getHeader("x-original-queue")).isEqualTo("user-created");
+        assertThat(meterRegistry.get("assessment.user_events.dead_lettered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep requeueing when the dead-letter publish is not confirmed")
+    void handleFailure_ShouldRequeue_WhenDeadLetterPublishFails() {
+        // Given
+        poisonMessageHandler = new PoisonMessageHandler(confirmingPublisher, meterRegistry, 1, Duration.ofSeconds(1));
+        when(confirmingPublisher.publish(anyString(), anyString(), any(Message.class)))
+                .thenReturn(CompletableFuture.failedFuture(new AmqpException("nacked")));
+
+        // When
+        boolean deadLettered = poisonMessageHandler.handleFailure("evt-1", message(), new RuntimeException("Bad payload"));
+
+        // Then
+        assertThat(deadLettered).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should start counting again once an event succeeds")
+    void clear_ShouldResetAttempts() {
+        // Given
+        poisonMessageHandler = new PoisonMessageHandler(confirmingPublisher, meterRegistry, 2, Duration.ofSeconds(1));
+        poisonMessageHandler.handleFailure("evt-1", message(), new RuntimeException("Transient"));
+
+        // When
+        poisonMessageHandler.clear("evt-1");
+        boolean deadLettered = poisonMessageHandler.handleFailure("evt-1", message(), new RuntimeException("Transient"));
+
+        // Then
+        assertThat(deadLettered).isFalse();
+        verifyNoInteractions(confirmingPublisher);
+    }
+
+    private Message message() {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue("user-created");
+        return new Message("{}".getBytes(), properties);
+    }
+}
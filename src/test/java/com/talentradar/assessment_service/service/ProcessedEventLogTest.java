@@ -0,0 +1,88 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.cache.ProcessedEventLog;
+import com.talentradar.assessment_service.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessedEventLog Tests")
+class ProcessedEventLogTest {
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProcessedEventLog processedEventLog;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processedEventLog = new ProcessedEventLog(processedEventRepository, meterRegistry, 2, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("Should answer from memory for ids recorded by this instance")
+    void isProcessed_ShouldUseWindow_ForRecentlyRecordedIds() {
+        // When
+        processedEventLog.markProcessed("evt-1");
+
+        // Then
+        assertThat(processedEventLog.isProcessed("evt-1")).isTrue();
+        verify(processedEventRepository).saveAll(anyList());
+        verify(processedEventRepository, never()).findExistingEventIds(anyCollection());
+        assertThat(meterRegistry.get("assessment.user_events.dedup").tag("result", "cache_hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should look up unknown ids with a single query and remember the ones found")
+    void findProcessed_ShouldQueryOnceForUnknownIds() {
+        // Given
+        when(processedEventRepository.findExistingEventIds(Set.of("evt-1", "evt-2"))).thenReturn(List.of("evt-2"));
+
+        // When
+        Set<String> first = processedEventLog.findProcessed(List.of("evt-1", "evt-2"));
+        boolean second = processedEventLog.isProcessed("evt-2");
+
+        // Then
+        assertThat(first).containsExactly("evt-2");
+        assertThat(second).isTrue();
+        verify(processedEventRepository, times(1)).findExistingEventIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used ids once the window is full")
+    void findProcessed_ShouldFallBackToTable_AfterEviction() {
+        // Given: the window holds two ids
+        processedEventLog.markProcessed(List.of("evt-1", "evt-2", "evt-3"));
+        when(processedEventRepository.findExistingEventIds(Set.of("evt-1"))).thenReturn(List.of("evt-1"));
+
+        // When
+        boolean processed = processedEventLog.isProcessed("evt-1");
+
+        // Then
+        assertThat(processed).isTrue();
+        verify(processedEventRepository).findExistingEventIds(Set.of("evt-1"));
+    }
+
+    @Test
+    @DisplayName("Should never treat events without an id as duplicates")
+    void isProcessed_ShouldReturnFalse_WhenEventIdMissing() {
+        assertThat(processedEventLog.isProcessed(null)).isFalse();
+        verifyNoInteractions(processedEventRepository);
+    }
+}
@@ -0,0 +1,146 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
+import com.talentradar.assessment_service.config.RabbitMQConfig;
+import com.talentradar.assessment_service.dto.analysis.FeedbackAnalysisDto;
+import com.talentradar.assessment_service.event.rabbit.outbox.OutboxWriter;
+import com.talentradar.assessment_service.event.rabbit.producer.AssessmentEventProducer;
+import com.talentradar.assessment_service.event.rabbit.producer.FeedbackEventProducer;
+import com.talentradar.assessment_service.model.Assessment;
+import com.talentradar.assessment_service.model.Feedback;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import com.talentradar.assessment_service.model.UserRole;
+import com.talentradar.assessment_service.model.UserSnapshot;
+import com.talentradar.assessment_service.service.impl.FeedbackAnalysisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Binding;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs every producer against a recording {@link OutboxWriter} and checks that each exchange and routing key it
+ * enqueues matches at least one binding declared in {@link RabbitMQConfig}. Publishes are mandatory, so a key no
+ * binding matches is returned by the broker and parked by the outbox relay on every event.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Rabbit topology Tests")
+class RabbitTopologyTest {
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
+    @Mock
+    private FeedbackAnalysisService feedbackAnalysisService;
+
+    private final List<String[]> enqueued = new ArrayList<>();
+    private List<Binding> bindings;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RabbitMQConfig config = new RabbitMQConfig();
+        bindings = new ArrayList<>();
+        for (Method method : RabbitMQConfig.class.getMethods()) {
+            if (method.getReturnType() == Binding.class && method.getParameterCount() == 0) {
+                bindings.add((Binding) method.invoke(config));
+            }
+        }
+
+        doAnswer(invocation -> enqueued.add(new String[]{invocation.getArgument(0), invocation.getArgument(1)}))
+                .when(outboxWriter).enqueue(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Every feedback and assessment event should be routable to a declared queue")
+    void producers_ShouldOnlyUseRoutableKeys() {
+        // Given
+        UUID managerId = UUID.randomUUID();
+        UUID developerId = UUID.randomUUID();
+        when(userSnapshotCache.find(any(UUID.class))).thenAnswer(invocation -> Optional.of(UserSnapshot.builder()
+                .userId(invocation.getArgument(0))
+                .username("user")
+                .fullName("User")
+                .email("user@example.com")
+                .role(UserRole.DEVELOPER)
+                .managerId(managerId)
+                .build()));
+        when(feedbackAnalysisService.createAnalysisDto(any(Feedback.class)))
+                .thenReturn(FeedbackAnalysisDto.builder().userId(developerId.toString()).build());
+        Feedback feedback = Feedback.builder()
+                .id(UUID.randomUUID())
+                .managerId(managerId)
+                .developerId(developerId)
+                .feedbackVersion(1)
+                .build();
+        Assessment assessment = Assessment.builder()
+                .id(UUID.randomUUID())
+                .userId(developerId)
+                .reflection("Reflection")
+                .averageScore(3)
+                .submissionStatus(SubmissionStatus.SUBMITTED)
+                .build();
+        FeedbackEventProducer feedbackEventProducer =
+                new FeedbackEventProducer(outboxWriter, userSnapshotCache, feedbackAnalysisService);
+        AssessmentEventProducer assessmentEventProducer = new AssessmentEventProducer(outboxWriter, userSnapshotCache);
+
+        // When
+        feedbackEventProducer.publishFeedbackCreated(feedback);
+        feedbackEventProducer.publishFeedbackUpdated(feedback);
+        feedbackEventProducer.publishFeedbackDeleted(feedback);
+        feedbackEventProducer.publishFeedbackVersionCreated(feedback);
+        assessmentEventProducer.publishAssessmentSubmitted(assessment);
+        assessmentEventProducer.publishAssessmentUpdated(assessment);
+
+        // Then
+        assertThat(enqueued).hasSize(9)
+                .allSatisfy(key -> assertThat(bindings)
+                        .as("binding on %s for routing key %s", key[0], key[1])
+                        .anyMatch(binding -> binding.getExchange().equals(key[0])
+                                && topicMatches(binding.getRoutingKey(), key[1])));
+    }
+
+    @Test
+    @DisplayName("Topic matching should follow the broker's one-word and many-word wildcards")
+    void topicMatches_ShouldFollowBrokerSemantics() {
+        assertThat(topicMatches("feedback.*", "feedback.created")).isTrue();
+        assertThat(topicMatches("feedback.*", "feedback.version.created")).isFalse();
+        assertThat(topicMatches("feedback.#", "feedback.version.created")).isTrue();
+        assertThat(topicMatches("feedback.#", "feedback")).isTrue();
+        assertThat(topicMatches("feedback.submitted", "feedback.created")).isFalse();
+    }
+
+    // RabbitMQ topic semantics: "*" matches exactly one word, "#" matches zero or more
+    private static boolean topicMatches(String pattern, String routingKey) {
+        return topicMatches(pattern.split("\\."), 0, routingKey.split("\\."), 0);
+    }
+
+    private static boolean topicMatches(String[] pattern, int p, String[] words, int w) {
+        if (p == pattern.length) {
+            return w == words.length;
+        }
+        if (pattern[p].equals("#")) {
+            return topicMatches(pattern, p + 1, words, w)
+                    || (w < words.length && topicMatches(pattern, p, words, w + 1));
+        }
+        if (w == words.length) {
+            return false;
+        }
+        return (pattern[p].equals("*") || pattern[p].equals(words[w]))
+                && topicMatches(pattern, p + 1, words, w + 1);
+    }
+}
@@ -0,0 +1,177 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.model.Assessment;
+import com.talentradar.assessment_service.model.AssessmentDimension;
+import com.talentradar.assessment_service.model.DimensionDefinition;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import com.talentradar.assessment_service.model.UserRole;
+import com.talentradar.assessment_service.model.UserSnapshot;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs paged queries through Hibernate against PostgreSQL with the application's JPA settings, so a
+ * collection fetch under a limit fails here whichever way it is written (JPQL, entity graph, derived query).
+ * The manager's developer listing queries, which filter on submitted assessments in SQL, are checked here too.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:configserver:",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Repository pagination JPA Tests")
+class RepositoryPaginationJpaTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private AssessmentRepository assessmentRepository;
+
+    @Autowired
+    private UserSnapshotRepository userSnapshotRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        DimensionDefinition definition = DimensionDefinition.builder()
+                .dimensionName("Technical Skills")
+                .description("Code quality and design")
+                .weight(new BigDecimal("0.50"))
+                .build();
+        entityManager.persist(definition);
+
+        for (int i = 0; i < 3; i++) {
+            Assessment assessment = Assessment.builder()
+                    .userId(userId)
+                    .reflection("Reflection " + i)
+                    .submissionStatus(SubmissionStatus.SUBMITTED)
+                    .averageScore(3)
+                    .build();
+            assessment.setDimensions(List.of(AssessmentDimension.builder()
+                    .assessment(assessment)
+                    .dimensionDefinition(definition)
+                    .rating(3)
+                    .build()));
+            entityManager.persist(assessment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Paged id query should be limited by the database")
+    void findIdPageByUserId_ShouldPageWithoutCollectionFetch() {
+        // When
+        Page<UUID> page = assessmentRepository.findIdPageByUserId(userId, PageRequest.of(0, 2));
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(assessmentRepository.findAllWithDimensionsByIdIn(page.getContent()))
+                .hasSize(2)
+                .allSatisfy(assessment -> assertThat(assessment.getDimensions()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("A paged JPQL collection fetch join should fail instead of paging in memory")
+    void pagedFetchJoin_ShouldFail() {
+        // When & Then
+        assertThatThrownBy(() -> entityManager.createQuery(
+                        "SELECT a FROM Assessment a JOIN FETCH a.dimensions WHERE a.userId = :userId", Assessment.class)
+                .setParameter("userId", userId)
+                .setMaxResults(2)
+                .getResultList())
+                .isInstanceOf(PersistenceException.class)
+                .hasMessageContaining("fail_on_pagination_over_collection_fetch");
+    }
+
+    @Test
+    @DisplayName("A paged entity graph over a collection should fail instead of paging in memory")
+    void pagedEntityGraph_ShouldFail() {
+        // Given
+        EntityGraph<Assessment> graph = entityManager.createEntityGraph(Assessment.class);
+        graph.addAttributeNodes("dimensions");
+
+        // When & Then
+        assertThatThrownBy(() -> entityManager.createQuery(
+                        "SELECT a FROM Assessment a WHERE a.userId = :userId", Assessment.class)
+                .setParameter("userId", userId)
+                .setHint("jakarta.persistence.fetchgraph", graph)
+                .setMaxResults(2)
+                .getResultList())
+                .isInstanceOf(PersistenceException.class)
+                .hasMessageContaining("fail_on_pagination_over_collection_fetch");
+    }
+
+    @Test
+    @DisplayName("Developers with only draft assessments should be left out of the manager's listing")
+    void findDevelopersByManager_ShouldExcludeDraftOnlyDevelopers() {
+        // Given: the setup's developer has submitted assessments, a second one only has a draft
+        UUID managerId = UUID.randomUUID();
+        UUID draftOnlyId = UUID.randomUUID();
+        entityManager.persist(developerSnapshot(userId, managerId));
+        entityManager.persist(developerSnapshot(draftOnlyId, managerId));
+        entityManager.persist(Assessment.builder()
+                .userId(draftOnlyId)
+                .reflection("Draft")
+                .submissionStatus(SubmissionStatus.DRAFT)
+                .build());
+        entityManager.flush();
+        userSnapshotRepository.markAssessmentSubmitted(userId);
+        entityManager.clear();
+
+        // When
+        List<UserSnapshot> byExists = userSnapshotRepository.findByManagerIdAndRoleWithAssessmentStatus(
+                managerId, UserRole.DEVELOPER, SubmissionStatus.SUBMITTED);
+        List<UserSnapshot> byFlag = userSnapshotRepository.findByManagerIdAndRoleAndAssessmentSubmittedTrue(
+                managerId, UserRole.DEVELOPER);
+
+        // Then
+        assertThat(byExists).extracting(UserSnapshot::getUserId).containsExactly(userId);
+        assertThat(byFlag).extracting(UserSnapshot::getUserId).containsExactly(userId);
+        assertThat(assessmentRepository.findUserIdsWithSubmissionStatus(
+                List.of(userId, draftOnlyId), SubmissionStatus.SUBMITTED)).isEqualTo(Set.of(userId));
+    }
+
+    private UserSnapshot developerSnapshot(UUID developerId, UUID managerId) {
+        return UserSnapshot.builder()
+                .userId(developerId)
+                .managerId(managerId)
+                .fullName("Developer")
+                .username("developer-" + developerId)
+                .email(developerId + "@example.com")
+                .role(UserRole.DEVELOPER)
+                .build();
+    }
+}
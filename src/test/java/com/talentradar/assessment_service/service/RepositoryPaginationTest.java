@@ -0,0 +1,98 @@
+package com.talentradar.assessment_service.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Guards against Hibernate's in-memory pagination (HHH90003004): a query that fetch-joins a collection
+ * cannot be limited by the database, so combining it with a {@link Pageable} loads every matching row.
+ */
+@DisplayName("Repository pagination Tests")
+class RepositoryPaginationTest {
+
+    private static final String REPOSITORY_PACKAGE = "com.talentradar.assessment_service.repository";
+    private static final Pattern FETCH_JOIN = Pattern.compile("\\bJOIN\\s+FETCH\\b", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    @DisplayName("No paged repository query should fetch-join or use an entity graph")
+    void pagedQueries_ShouldNotFetchJoin() throws ClassNotFoundException {
+        // Given
+        List<String> offenders = new ArrayList<>();
+
+        // When
+        for (Class<?> repository : repositories()) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!isPaged(method)) {
+                    continue;
+                }
+                Query query = method.getAnnotation(Query.class);
+                // Entity graphs are flagged wholesale; RepositoryPaginationJpaTest covers what text cannot
+                if ((query != null && FETCH_JOIN.matcher(query.value()).find())
+                        || method.isAnnotationPresent(EntityGraph.class)) {
+                    offenders.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        // Then
+        assertThat(offenders).as("paged queries with JOIN FETCH").isEmpty();
+    }
+
+    @Test
+    @DisplayName("Hibernate should be configured to fail on pagination over a collection fetch")
+    void applicationConfig_ShouldFailOnPaginationOverCollectionFetch() throws IOException {
+        // Given
+        String config;
+        try (InputStream in = new ClassPathResource("application.yml").getInputStream()) {
+            config = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Then
+        assertThat(config).contains("fail_on_pagination_over_collection_fetch: true");
+    }
+
+    private static boolean isPaged(Method method) {
+        return Slice.class.isAssignableFrom(method.getReturnType())
+                || Arrays.stream(method.getParameterTypes()).anyMatch(Pageable.class::isAssignableFrom);
+    }
+
+    private static List<Class<?>> repositories() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(REPOSITORY_PACKAGE);
+        List<Class<?>> repositories = new ArrayList<>();
+        for (BeanDefinition candidate : candidates) {
+            repositories.add(Class.forName(candidate.getBeanClassName()));
+        }
+        assertThat(repositories).as("repositories found on the classpath").isNotEmpty();
+        return repositories;
+    }
+}
@@ -0,0 +1,381 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.dto.gapAnalysis.response.DimensionGapDto;
+import com.talentradar.assessment_service.dto.gapAnalysis.response.GapBucketDto;
+import com.talentradar.assessment_service.dto.gapAnalysis.response.GapDistributionDto;
+import com.talentradar.assessment_service.dto.teamDashboard.response.DeveloperDashboardDto;
+import com.talentradar.assessment_service.dto.teamDashboard.response.DimensionDeltaDto;
+import com.talentradar.assessment_service.dto.teamDashboard.response.TeamDashboardDto;
+import com.talentradar.assessment_service.model.*;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.DeveloperRollupRepository;
+import com.talentradar.assessment_service.repository.DimensionRollupRepository;
+import com.talentradar.assessment_service.repository.FeedbackDimensionRepository;
+import com.talentradar.assessment_service.repository.FeedbackRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.service.impl.TeamDashboardServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeamDashboardService Tests")
+class TeamDashboardServiceImplTest {
+
+    @Mock
+    private DeveloperRollupRepository developerRollupRepository;
+
+    @Mock
+    private DimensionRollupRepository dimensionRollupRepository;
+
+    @Mock
+    private UserSnapshotRepository userSnapshotRepository;
+
+    @Mock
+    private FeedbackRepository feedbackRepository;
+
+    @Mock
+    private FeedbackDimensionRepository feedbackDimensionRepository;
+
+    @Mock
+    private DimensionDefinitionCatalog dimensionDefinitionCatalog;
+
+    @Mock
+    private AssessmentRepository assessmentRepository;
+
+    @InjectMocks
+    private TeamDashboardServiceImpl teamDashboardService;
+
+    private UUID managerId;
+    private UUID developerId;
+    private UUID technicalId;
+    private UUID communicationId;
+
+    @BeforeEach
+    void setUp() {
+        managerId = UUID.randomUUID();
+        developerId = UUID.randomUUID();
+        technicalId = UUID.randomUUID();
+        communicationId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should assemble the whole team from rollup rows with a fixed number of queries")
+    void getTeamDashboard_ShouldReadRollups() {
+        // Given
+        UUID idleDeveloperId = UUID.randomUUID();
+        when(userSnapshotRepository.findByManagerIdAndRole(managerId, UserRole.DEVELOPER)).thenReturn(List.of(
+                developer(developerId, "Alice Developer"), developer(idleDeveloperId, "Bob Developer")));
+        when(developerRollupRepository.findAllById(List.of(developerId, idleDeveloperId))).thenReturn(List.of(
+                DeveloperRollup.builder()
+                        .developerId(developerId)
+                        .latestAverageScore(4)
+                        .latestFeedbackVersion(3)
+                        .build()));
+        when(dimensionRollupRepository.findByDeveloperIdIn(List.of(developerId, idleDeveloperId))).thenReturn(List.of(
+                DimensionRollup.builder().developerId(developerId).dimensionDefinitionId(technicalId)
+                        .selfRating(4).managerRating(3).gap(-1).build(),
+                DimensionRollup.builder().developerId(developerId).dimensionDefinitionId(communicationId)
+                        .selfRating(2).build()));
+        when(dimensionDefinitionCatalog.find(technicalId)).thenReturn(Optional.of(entry(technicalId, "Technical Skills")));
+        when(dimensionDefinitionCatalog.find(communicationId)).thenReturn(Optional.of(entry(communicationId, "Communication")));
+
+        // When
+        TeamDashboardDto result = teamDashboardService.getTeamDashboard(managerId);
+
+        // Then
+        assertThat(result.getManagerId()).isEqualTo(managerId);
+        assertThat(result.getDevelopers()).hasSize(2);
+
+        DeveloperDashboardDto alice = result.getDevelopers().get(0);
+        assertThat(alice.getFullName()).isEqualTo("Alice Developer");
+        assertThat(alice.getLatestAverageScore()).isEqualTo(4);
+        assertThat(alice.getLatestFeedbackVersion()).isEqualTo(3);
+        assertThat(alice.getDimensions()).extracting(DimensionDeltaDto::getDimensionName)
+                .containsExactly("Communication", "Technical Skills");
+        assertThat(alice.getDimensions()).extracting(DimensionDeltaDto::getDelta)
+                .containsExactly(null, -1);
+
+        DeveloperDashboardDto bob = result.getDevelopers().get(1);
+        assertThat(bob.getLatestAverageScore()).isNull();
+        assertThat(bob.getDimensions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return an empty dashboard without reading rollups when the manager has no team")
+    void getTeamDashboard_ShouldReturnEmpty_WhenNoDevelopers() {
+        // Given
+        when(userSnapshotRepository.findByManagerIdAndRole(managerId, UserRole.DEVELOPER)).thenReturn(List.of());
+
+        // When
+        TeamDashboardDto result = teamDashboardService.getTeamDashboard(managerId);
+
+        // Then
+        assertThat(result.getDevelopers()).isEmpty();
+        verifyNoInteractions(developerRollupRepository, dimensionRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should record a submitted assessment and replace the developer's self ratings")
+    void recordAssessment_ShouldUpdateSelfRatings() {
+        // Given
+        Assessment assessment = assessment(SubmissionStatus.SUBMITTED, Map.of(technicalId, 5));
+        DimensionRollup stale = DimensionRollup.builder().developerId(developerId).dimensionDefinitionId(communicationId)
+                .selfRating(2).managerRating(3).build();
+        when(developerRollupRepository.upsertLatestAssessment(eq(developerId), eq(assessment.getId()), eq(4),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(dimensionRollupRepository.findByDeveloperId(developerId)).thenReturn(List.of(stale));
+
+        // When
+        teamDashboardService.recordAssessment(assessment);
+
+        // Then
+        List<DimensionRollup> saved = captureSaved();
+        assertThat(saved).hasSize(2);
+        assertThat(stale.getSelfRating()).isNull();
+        assertThat(stale.getManagerRating()).isEqualTo(3);
+        assertThat(saved).filteredOn(rollup -> rollup.getDimensionDefinitionId().equals(technicalId))
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getSelfRating()).isEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("Should ignore drafts and writes older than the recorded assessment")
+    void recordAssessment_ShouldSkipDraftsAndStaleWrites() {
+        // Given
+        Assessment stale = assessment(SubmissionStatus.SUBMITTED, Map.of(technicalId, 5));
+        when(developerRollupRepository.upsertLatestAssessment(any(), any(), anyInt(), any())).thenReturn(0);
+
+        // When
+        teamDashboardService.recordAssessment(assessment(SubmissionStatus.DRAFT, Map.of(technicalId, 1)));
+        teamDashboardService.recordAssessment(stale);
+
+        // Then
+        verify(developerRollupRepository, times(1)).upsertLatestAssessment(any(), any(), anyInt(), any());
+        verifyNoInteractions(dimensionRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the previous submitted assessment when the latest one goes back to draft")
+    void assessmentWithdrawn_ShouldFallBackToPreviousSubmittedAssessment() {
+        // Given
+        Assessment withdrawn = assessment(SubmissionStatus.DRAFT, Map.of(technicalId, 5));
+        Assessment previous = assessment(SubmissionStatus.SUBMITTED, Map.of(communicationId, 2));
+        previous.setCreatedAt(LocalDateTime.now().minusDays(30));
+        when(developerRollupRepository.clearLatestAssessment(eq(developerId), eq(withdrawn.getId()), any()))
+                .thenReturn(1);
+        when(assessmentRepository.findTopByUserIdAndSubmissionStatusAndIdNotOrderByCreatedAtDesc(
+                developerId, SubmissionStatus.SUBMITTED, withdrawn.getId())).thenReturn(Optional.of(previous));
+        when(developerRollupRepository.upsertLatestAssessment(developerId, previous.getId(), 4,
+                previous.getCreatedAt())).thenReturn(1);
+        when(dimensionRollupRepository.findByDeveloperId(developerId)).thenReturn(List.of());
+
+        // When
+        teamDashboardService.assessmentWithdrawn(withdrawn);
+
+        // Then
+        verify(dimensionRollupRepository).clearSelfRatings(developerId);
+        assertThat(captureSaved()).singleElement()
+                .satisfies(rollup -> {
+                    assertThat(rollup.getDimensionDefinitionId()).isEqualTo(communicationId);
+                    assertThat(rollup.getSelfRating()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    @DisplayName("Should leave the rollup alone when the withdrawn assessment is not the recorded one")
+    void assessmentWithdrawn_ShouldSkip_WhenNotLatestAssessment() {
+        // Given
+        Assessment withdrawn = assessment(SubmissionStatus.DRAFT, Map.of(technicalId, 5));
+        when(developerRollupRepository.clearLatestAssessment(eq(developerId), eq(withdrawn.getId()), any()))
+                .thenReturn(0);
+
+        // When
+        teamDashboardService.assessmentWithdrawn(withdrawn);
+
+        // Then
+        verifyNoInteractions(dimensionRollupRepository, assessmentRepository);
+    }
+
+    @Test
+    @DisplayName("Should record new feedback and its manager ratings")
+    void recordFeedback_ShouldUpdateManagerRatings() {
+        // Given
+        Feedback feedback = feedback(2);
+        when(developerRollupRepository.upsertLatestFeedback(eq(developerId), eq(feedback.getId()), eq(managerId),
+                eq(2), any(LocalDateTime.class))).thenReturn(1);
+        when(dimensionRollupRepository.findByDeveloperId(developerId)).thenReturn(List.of(
+                DimensionRollup.builder().developerId(developerId).dimensionDefinitionId(technicalId)
+                        .selfRating(5).build()));
+
+        // When
+        teamDashboardService.recordFeedback(feedback, Map.of(technicalId, 3, communicationId, 4));
+
+        // Then
+        List<DimensionRollup> saved = captureSaved();
+        assertThat(saved).hasSize(2);
+        assertThat(saved).filteredOn(rollup -> rollup.getDimensionDefinitionId().equals(technicalId))
+                .singleElement()
+                .satisfies(rollup -> {
+                    assertThat(rollup.getManagerRating()).isEqualTo(3);
+                    assertThat(rollup.getManagerFeedbackId()).isEqualTo(feedback.getId());
+                    assertThat(rollup.getGap()).isEqualTo(-2);
+                });
+        assertThat(saved).filteredOn(rollup -> rollup.getDimensionDefinitionId().equals(communicationId))
+                .singleElement()
+                .satisfies(rollup -> assertThat(rollup.getGap()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the previous feedback when the latest one is deleted")
+    void feedbackDeleted_ShouldFallBackToPreviousFeedback() {
+        // Given
+        Feedback deleted = feedback(2);
+        Feedback previous = feedback(1);
+        previous.setCreatedAt(LocalDateTime.now().minusDays(7));
+        when(developerRollupRepository.clearLatestFeedback(eq(developerId), eq(deleted.getId()), any())).thenReturn(1);
+        when(feedbackRepository.findTopByDeveloperIdAndIdNotOrderByCreatedAtDesc(developerId, deleted.getId()))
+                .thenReturn(Optional.of(previous));
+        when(feedbackDimensionRepository.findByFeedbackId(previous.getId())).thenReturn(List.of(
+                FeedbackDimension.builder()
+                        .feedback(previous)
+                        .dimensionDefinition(DimensionDefinition.builder().id(technicalId).build())
+                        .rating(4)
+                        .build()));
+        when(developerRollupRepository.upsertLatestFeedback(developerId, previous.getId(), managerId, 1,
+                previous.getCreatedAt())).thenReturn(1);
+        when(dimensionRollupRepository.findByDeveloperId(developerId)).thenReturn(List.of());
+
+        // When
+        teamDashboardService.feedbackDeleted(deleted);
+
+        // Then
+        verify(dimensionRollupRepository).clearManagerRatings(developerId, deleted.getId());
+        assertThat(captureSaved()).singleElement()
+                .satisfies(rollup -> assertThat(rollup.getManagerFeedbackId()).isEqualTo(previous.getId()));
+    }
+
+    @Test
+    @DisplayName("Should only refresh the version when feedback is edited in place")
+    void feedbackUpdated_ShouldRefreshVersion_WhenDeveloperUnchanged() {
+        // Given
+        Feedback feedback = feedback(5);
+
+        // When
+        teamDashboardService.feedbackUpdated(developerId, feedback);
+
+        // Then
+        verify(developerRollupRepository).refreshLatestFeedback(eq(developerId), eq(feedback.getId()),
+                eq(managerId), eq(5), any(LocalDateTime.class));
+        verifyNoInteractions(dimensionRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should build a team gap distribution from grouped gap counts")
+    void getTeamGapDistribution_ShouldSummariseGapCounts() {
+        // Given
+        when(dimensionRollupRepository.countGapsForManager(managerId, UserRole.DEVELOPER)).thenReturn(List.of(
+                gapCount(technicalId, 1, 3),
+                gapCount(technicalId, -2, 1),
+                gapCount(communicationId, 0, 2)));
+        when(dimensionDefinitionCatalog.find(technicalId)).thenReturn(Optional.of(entry(technicalId, "Technical Skills")));
+        when(dimensionDefinitionCatalog.find(communicationId)).thenReturn(Optional.of(entry(communicationId, "Communication")));
+
+        // When
+        GapDistributionDto result = teamDashboardService.getTeamGapDistribution(managerId);
+
+        // Then
+        assertThat(result.getManagerId()).isEqualTo(managerId);
+        assertThat(result.getDimensions()).extracting(DimensionGapDto::getDimensionName)
+                .containsExactly("Communication", "Technical Skills");
+
+        DimensionGapDto technical = result.getDimensions().get(1);
+        assertThat(technical.getDevelopers()).isEqualTo(4);
+        assertThat(technical.getAverageGap()).isEqualByComparingTo("0.25");
+        assertThat(technical.getBuckets()).extracting(GapBucketDto::getGap).containsExactly(-2, 1);
+        verify(dimensionRollupRepository, never()).countGaps();
+    }
+
+    private DimensionRollupRepository.GapCount gapCount(UUID dimensionDefinitionId, int gap, long developers) {
+        return new DimensionRollupRepository.GapCount() {
+            @Override
+            public UUID getDimensionDefinitionId() {
+                return dimensionDefinitionId;
+            }
+
+            @Override
+            public Integer getGap() {
+                return gap;
+            }
+
+            @Override
+            public Long getDevelopers() {
+                return developers;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DimensionRollup> captureSaved() {
+        ArgumentCaptor<List<DimensionRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dimensionRollupRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private UserSnapshot developer(UUID userId, String fullName) {
+        return UserSnapshot.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .managerId(managerId)
+                .fullName(fullName)
+                .email(fullName.toLowerCase().replace(' ', '.') + "@example.com")
+                .role(UserRole.DEVELOPER)
+                .build();
+    }
+
+    private Assessment assessment(SubmissionStatus status, Map<UUID, Integer> ratings) {
+        Assessment assessment = Assessment.builder()
+                .id(UUID.randomUUID())
+                .userId(developerId)
+                .submissionStatus(status)
+                .averageScore(4)
+                .build();
+        assessment.setDimensions(ratings.entrySet().stream()
+                .map(rating -> AssessmentDimension.builder()
+                        .assessment(assessment)
+                        .dimensionDefinition(DimensionDefinition.builder().id(rating.getKey()).build())
+                        .rating(rating.getValue())
+                        .build())
+                .toList());
+        return assessment;
+    }
+
+    private Feedback feedback(int version) {
+        return Feedback.builder()
+                .id(UUID.randomUUID())
+                .managerId(managerId)
+                .developerId(developerId)
+                .feedbackVersion(version)
+                .build();
+    }
+
+    private DimensionDefinitionCatalog.Entry entry(UUID id, String name) {
+        return new DimensionDefinitionCatalog.Entry(id, name, null, null, BigDecimal.ONE, List.of());
+    }
+}
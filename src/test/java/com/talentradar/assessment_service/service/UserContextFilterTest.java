@@ -0,0 +1,91 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.filter.UserContextFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UserContextFilter Tests")
+class UserContextFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FilterChain chain = (request, response) -> { };
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should authenticate with trimmed roles and reuse parsed roles for repeated headers")
+    void doFilter_ShouldAuthenticateAndCacheRoles() throws Exception {
+        // Given
+        UserContextFilter filter = new UserContextFilter(meterRegistry, true, 0.0, 16);
+        String userId = UUID.randomUUID().toString();
+
+        // When
+        filter.doFilter(request(userId, " ROLE_MANAGER , ,ROLE_DEVELOPER"), new MockHttpServletResponse(), chain);
+        Authentication first = SecurityContextHolder.getContext().getAuthentication();
+        filter.doFilter(request(userId, " ROLE_MANAGER , ,ROLE_DEVELOPER"), new MockHttpServletResponse(), chain);
+        Authentication second = SecurityContextHolder.getContext().getAuthentication();
+
+        // Then
+        assertThat(first.getPrincipal()).isEqualTo(userId);
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_MANAGER", "ROLE_DEVELOPER");
+        assertThat(second.getAuthorities()).isSameAs(first.getAuthorities());
+        assertThat(meterRegistry.get("assessment.user_context.duration").tag("mode", "lean").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should leave the request unauthenticated when the role header is missing")
+    void doFilter_ShouldNotAuthenticate_WhenRolesMissing() throws Exception {
+        // Given
+        UserContextFilter filter = new UserContextFilter(meterRegistry, true, 1.0, 16);
+
+        // When
+        filter.doFilter(request(UUID.randomUUID().toString(), null), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should authenticate the same way in verbose mode")
+    void doFilter_ShouldAuthenticate_InVerboseMode() throws Exception {
+        // Given
+        UserContextFilter filter = new UserContextFilter(meterRegistry, false, 0.0, 0);
+        String userId = UUID.randomUUID().toString();
+
+        // When
+        filter.doFilter(request(userId, "ROLE_DEVELOPER"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_DEVELOPER");
+        assertThat(meterRegistry.get("assessment.user_context.duration").tag("mode", "verbose").timer().count())
+                .isEqualTo(1);
+    }
+
+    private MockHttpServletRequest request(String userId, String roles) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/assessments");
+        request.addHeader("X-User-Id", userId);
+        if (roles != null) {
+            request.addHeader("X-User-Role", roles);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package com.talentradar.assessment_service.service;
+
+import com.rabbitmq.client.Channel;
+import com.talentradar.assessment_service.event.EventType;
+import com.talentradar.assessment_service.event.Role;
+import com.talentradar.assessment_service.event.UserEvent;
+import com.talentradar.assessment_service.event.rabbit.consumer.PoisonMessageHandler;
+import com.talentradar.assessment_service.event.rabbit.consumer.UserEventBatchConsumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserEventBatchConsumerTest {
+
+    @Mock
+    private UserSnapshotSyncService userSnapshotSyncService;
+
+    @Mock
+    private PoisonMessageHandler poisonMessageHandler;
+
+    @Mock
+    private MessageConverter messageConverter;
+
+    @Mock
+    private Channel channel;
+
+    @InjectMocks
+    private UserEventBatchConsumer userEventBatchConsumer;
+
+    @Test
+    void handleUserEvents_ShouldApplyBatchAndAckOnce() throws Exception {
+        // ARRANGE
+        UserEvent first = createTestUserEvent();
+        UserEvent second = createTestUserEvent();
+
+        // ACT
+        userEventBatchConsumer.handleUserEvents(List.of(message(first, 7L), message(second, 8L)), channel);
+
+        // ASSERT: one transaction for the batch, one multiple-ack up to the last delivery
+        verify(userSnapshotSyncService).applyBatch(List.of(first, second));
+        verify(channel).basicAck(8L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void handleUserEvents_ShouldRetryIndividually_WhenBatchFails() throws Exception {
+        // ARRANGE: the batch fails because of one bad event
+        UserEvent good = createTestUserEvent();
+        UserEvent poison = createTestUserEvent();
+        UserEvent alsoGood = createTestUserEvent();
+        doThrow(new RuntimeException("Database connection failed"))
+                .when(userSnapshotSyncService).applyBatch(anyList());
+        doThrow(new RuntimeException("Bad payload")).when(userSnapshotSyncService).apply(poison);
+        when(messageConverter.toMessage(any(), any(MessageProperties.class))).thenAnswer(invocation ->
+                new org.springframework.amqp.core.Message(new byte[0], invocation.getArgument(1)));
+
+        // ACT
+        userEventBatchConsumer.handleUserEvents(
+                List.of(message(good, 3L), message(poison, 4L), message(alsoGood, 5L)), channel);
+
+        // ASSERT: only the poison event is requeued, the rest are acked around it
+        verify(userSnapshotSyncService).apply(good);
+        verify(userSnapshotSyncService).apply(alsoGood);
+        verify(poisonMessageHandler).handleFailure(eq(poison.getEventId()), any(), any());
+        verify(channel).basicNack(4L, false, true);
+        verify(channel).basicAck(5L, true);
+        verify(channel, never()).basicAck(eq(4L), anyBoolean());
+    }
+
+    private Message<UserEvent> message(UserEvent event, long deliveryTag) {
+        return MessageBuilder.withPayload(event)
+                .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag)
+                .build();
+    }
+
+    private UserEvent createTestUserEvent() {
+        return UserEvent.builder()
+                .eventType(EventType.USER_CREATED)
+                .eventId(UUID.randomUUID().toString())
+                .userId(UUID.randomUUID())
+                .fullName("Ganza Kevin")
+                .username("ganzaKevin")
+                .email("ganza.kevin@example.com")
+                .role(Role.DEVELOPER)
+                .managerId(UUID.randomUUID())
+                .build();
+    }
+}
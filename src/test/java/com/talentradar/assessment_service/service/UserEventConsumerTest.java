@@ -4,22 +4,27 @@ import com.rabbitmq.client.Channel;
 import com.talentradar.assessment_service.event.EventType;
 import com.talentradar.assessment_service.event.Role;
 import com.talentradar.assessment_service.event.UserEvent;
+import com.talentradar.assessment_service.event.rabbit.consumer.PoisonMessageHandler;
 import com.talentradar.assessment_service.event.rabbit.consumer.UserEventConsumer;
-import com.talentradar.assessment_service.model.UserRole;
-import com.talentradar.assessment_service.model.UserSnapshot;
-import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.event.rabbit.consumer.UserEventLanes;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -27,248 +32,203 @@ import static org.mockito.Mockito.*;
 class UserEventConsumerTest {
 
     @Mock
-    private UserSnapshotRepository userSnapshotRepository;
+    private UserSnapshotSyncService userSnapshotSyncService;
 
     @Mock
-    private Channel channel;
-
-    @Mock
-    private Message message;
+    private PoisonMessageHandler poisonMessageHandler;
 
     @Mock
-    private MessageProperties messageProperties;
-
-    @InjectMocks
-    private UserEventConsumer userEventConsumer;
+    private Channel channel;
 
+    private UserEventLanes lanes;
     private UserEvent testUserEvent;
-    private UserSnapshot existingUserSnapshot;
-    private final long DELIVERY_TAG = 123L;
 
     @BeforeEach
     void setUp() {
-        // Create test user event
-        testUserEvent = createTestUserEvent(EventType.USER_CREATED);
-
-        // Create existing user snapshot for update scenarios
-        existingUserSnapshot = createExistingUserSnapshot();
-
-        // Setup message mocks
-        when(message.getMessageProperties()).thenReturn(messageProperties);
-        when(messageProperties.getDeliveryTag()).thenReturn(DELIVERY_TAG);
-    }
-
-    // TEST 1: Happy path - USER_CREATED event creates new snapshot
-    @Test
-    void handleUserEvent_ShouldCreateNewSnapshot_WhenUserCreatedAndUserNotExists() throws Exception {
-        // ARRANGE: No existing user snapshot
-        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
-                .thenReturn(Optional.empty());
-
-        // ACT
-        userEventConsumer.handleUserEvent(testUserEvent, message, channel);
-
-        // ASSERT
-        // 1. Repository was queried
-        verify(userSnapshotRepository).findByUserId(testUserEvent.getUserId());
-
-        // 2. New snapshot was saved
-        verify(userSnapshotRepository).save(argThat(snapshot ->
-                snapshot.getUserId().equals(testUserEvent.getUserId()) &&
-                        snapshot.getFullName().equals(testUserEvent.getFullName()) &&
-                        snapshot.getUsername().equals(testUserEvent.getUsername()) &&
-                        snapshot.getEmail().equals(testUserEvent.getEmail()) &&
-                        snapshot.getRole() == UserRole.valueOf(testUserEvent.getRole().name()) &&
-                        snapshot.getManagerId().equals(testUserEvent.getManagerId())
-        ));
-
-        // 3. Message was acknowledged
-        verify(channel).basicAck(DELIVERY_TAG, false);
-
-        // 4. No nack was sent
-        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        testUserEvent = createTestUserEvent(UUID.randomUUID());
     }
 
-    // TEST 2: Happy path - USER_UPDATED event updates existing snapshot
-    @Test
-    void handleUserEvent_ShouldUpdateSnapshot_WhenUserUpdatedAndUserExists() throws Exception {
-        // ARRANGE: User already exists
-        UserEvent updateEvent = createTestUserEvent(EventType.USER_UPDATED);
-        when(userSnapshotRepository.findByUserId(updateEvent.getUserId()))
-                .thenReturn(Optional.of(existingUserSnapshot));
-
-        // ACT
-        userEventConsumer.handleUserEvent(updateEvent, message, channel);
-
-        // ASSERT
-        // 1. Repository was queried
-        verify(userSnapshotRepository).findByUserId(updateEvent.getUserId());
-
-        // 2. Existing snapshot was updated and saved
-        verify(userSnapshotRepository).save(argThat(snapshot ->
-                snapshot.getId().equals(existingUserSnapshot.getId()) && // Same ID (update)
-                        snapshot.getUserId().equals(existingUserSnapshot.getUserId()) && // Same userId
-                        snapshot.getFullName().equals(updateEvent.getFullName()) // Updated data
-        ));
-
-        // 3. Message was acknowledged
-        verify(channel).basicAck(DELIVERY_TAG, false);
+    @AfterEach
+    void tearDown() {
+        if (lanes != null) {
+            lanes.shutdown();
+        }
     }
 
-    // TEST 3: Happy path - USER_CREATED event updates existing snapshot (duplicate event)
+    // TEST 1: Happy path - processed event is acked once the batch is full
     @Test
-    void handleUserEvent_ShouldUpdateSnapshot_WhenUserCreatedButUserAlreadyExists() throws Exception {
-        // ARRANGE: User already exists (maybe duplicate CREATE event)
-        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
-                .thenReturn(Optional.of(existingUserSnapshot));
+    void handleUserEvent_ShouldAckMessage_WhenEventApplied() throws Exception {
+        // ARRANGE
+        UserEventConsumer consumer = consumer(1, 1);
 
         // ACT
-        userEventConsumer.handleUserEvent(testUserEvent, message, channel);
+        consumer.handleUserEvent(testUserEvent, message(1L), channel);
+        lanes.shutdown();
 
         // ASSERT
-        // Should update existing snapshot instead of creating new one
-        verify(userSnapshotRepository).save(any(UserSnapshot.class));
-        verify(channel).basicAck(DELIVERY_TAG, false);
+        verify(userSnapshotSyncService).apply(testUserEvent);
+        verify(channel).basicAck(1L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
     }
 
-    // TEST 4: Happy path - USER_DELETED event deletes existing snapshot
+    // TEST 2: Acks are batched into a single multiple-ack
     @Test
-    void handleUserEvent_ShouldDeleteSnapshot_WhenUserDeletedAndUserExists() throws Exception {
+    void handleUserEvent_ShouldAckBatchWithMultiple_WhenBatchSizeReached() throws Exception {
         // ARRANGE
-        UserEvent deleteEvent = createTestUserEvent(EventType.USER_DELETED);
-        when(userSnapshotRepository.findByUserId(deleteEvent.getUserId()))
-                .thenReturn(Optional.of(existingUserSnapshot));
+        UserEventConsumer consumer = consumer(4, 3);
 
         // ACT
-        userEventConsumer.handleUserEvent(deleteEvent, message, channel);
+        for (long tag = 1; tag <= 3; tag++) {
+            consumer.handleUserEvent(createTestUserEvent(UUID.randomUUID()), message(tag), channel);
+        }
+        lanes.shutdown();
 
         // ASSERT
-        // 1. Repository was queried
-        verify(userSnapshotRepository).findByUserId(deleteEvent.getUserId());
-
-        // 2. Snapshot was deleted
-        verify(userSnapshotRepository).delete(existingUserSnapshot);
-
-        // 3. Message was acknowledged
-        verify(channel).basicAck(DELIVERY_TAG, false);
+        verify(channel).basicAck(3L, true);
+        verify(channel, times(1)).basicAck(anyLong(), anyBoolean());
     }
 
-    // TEST 5: Edge case - USER_DELETED event when user doesn't exist
+    // TEST 3: A partial batch is acked by the periodic flush
     @Test
-    void handleUserEvent_ShouldHandleGracefully_WhenUserDeletedButUserNotExists() throws Exception {
-        // ARRANGE: User doesn't exist
-        UserEvent deleteEvent = createTestUserEvent(EventType.USER_DELETED);
-        when(userSnapshotRepository.findByUserId(deleteEvent.getUserId()))
-                .thenReturn(Optional.empty());
+    void flushAcks_ShouldAckPartialBatch() throws Exception {
+        // ARRANGE
+        UserEventConsumer consumer = consumer(2, 10);
+        when(channel.isOpen()).thenReturn(true);
+        consumer.handleUserEvent(testUserEvent, message(1L), channel);
+        consumer.handleUserEvent(createTestUserEvent(UUID.randomUUID()), message(2L), channel);
+        lanes.shutdown();
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
 
         // ACT
-        userEventConsumer.handleUserEvent(deleteEvent, message, channel);
+        consumer.flushAcks();
 
         // ASSERT
-        // 1. Repository was queried
-        verify(userSnapshotRepository).findByUserId(deleteEvent.getUserId());
-
-        // 2. No delete was called (user didn't exist)
-        verify(userSnapshotRepository, never()).delete(any());
-
-        // 3. Message was still acknowledged (it's not an error)
-        verify(channel).basicAck(DELIVERY_TAG, false);
+        verify(channel).basicAck(2L, true);
     }
 
-    // TEST 6: Error case - Repository throws exception during CREATE/UPDATE
+    // TEST 4: Error case - failed event is nacked and requeued, never covered by an ack
     @Test
-    void handleUserEvent_ShouldNackMessage_WhenRepositoryThrowsException() throws Exception {
-        // ARRANGE: Repository throws exception
-        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
-                .thenThrow(new RuntimeException("Database connection failed"));
+    void handleUserEvent_ShouldNackMessage_WhenApplyThrowsException() throws Exception {
+        // ARRANGE
+        UserEventConsumer consumer = consumer(1, 1);
+        doThrow(new RuntimeException("Database connection failed"))
+                .when(userSnapshotSyncService).apply(testUserEvent);
 
         // ACT
-        userEventConsumer.handleUserEvent(testUserEvent, message, channel);
+        consumer.handleUserEvent(testUserEvent, message(1L), channel);
+        lanes.shutdown();
 
         // ASSERT
-        // 1. Message should be nacked and requeued
-        verify(channel).basicNack(DELIVERY_TAG, false, true);
-
-        // 2. No ack should be sent
+        verify(channel).basicNack(1L, false, true);
         verify(channel, never()).basicAck(anyLong(), anyBoolean());
     }
 
-    // TEST 7: Error case - Repository throws exception during save
+    // TEST 5: Poison message - once dead-lettered, the original is acked instead of requeued
     @Test
-    void handleUserEvent_ShouldNackMessage_WhenSaveThrowsException() throws Exception {
-        // ARRANGE: Find works but save fails
-        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
-                .thenReturn(Optional.empty());
-        when(userSnapshotRepository.save(any(UserSnapshot.class)))
-                .thenThrow(new RuntimeException("Save failed"));
+    void handleUserEvent_ShouldAckMessage_WhenFailedEventWasDeadLettered() throws Exception {
+        // ARRANGE
+        UserEventConsumer consumer = consumer(1, 1);
+        testUserEvent.setEventId("evt-1");
+        RuntimeException failure = new RuntimeException("Bad payload");
+        doThrow(failure).when(userSnapshotSyncService).apply(testUserEvent);
+        when(poisonMessageHandler.handleFailure(eq("evt-1"), any(Message.class), eq(failure))).thenReturn(true);
 
         // ACT
-        userEventConsumer.handleUserEvent(testUserEvent, message, channel);
+        consumer.handleUserEvent(testUserEvent, message(1L), channel);
+        lanes.shutdown();
 
         // ASSERT
-        verify(channel).basicNack(DELIVERY_TAG, false, true);
-        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(channel).basicAck(1L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
     }
 
-    // TEST 8: Error case - Repository throws exception during delete
+    // TEST 6: A multiple-ack spans a nacked delivery but never names it
     @Test
-    void handleUserEvent_ShouldNackMessage_WhenDeleteThrowsException() throws Exception {
+    void handleUserEvent_ShouldAckAroundNackedDelivery() throws Exception {
         // ARRANGE
-        UserEvent deleteEvent = createTestUserEvent(EventType.USER_DELETED);
-        when(userSnapshotRepository.findByUserId(deleteEvent.getUserId()))
-                .thenReturn(Optional.of(existingUserSnapshot));
-        doThrow(new RuntimeException("Delete failed"))
-                .when(userSnapshotRepository).delete(existingUserSnapshot);
+        UserEventConsumer consumer = consumer(1, 2);
+        UserEvent failing = createTestUserEvent(UUID.randomUUID());
+        doThrow(new RuntimeException("Save failed")).when(userSnapshotSyncService).apply(failing);
 
         // ACT
-        userEventConsumer.handleUserEvent(deleteEvent, message, channel);
+        consumer.handleUserEvent(testUserEvent, message(1L), channel);
+        consumer.handleUserEvent(failing, message(2L), channel);
+        consumer.handleUserEvent(createTestUserEvent(UUID.randomUUID()), message(3L), channel);
+        lanes.shutdown();
 
         // ASSERT
-        verify(channel).basicNack(DELIVERY_TAG, false, true);
-        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel).basicNack(2L, false, true);
+        inOrder.verify(channel).basicAck(3L, true);
+        verify(channel, never()).basicAck(eq(2L), anyBoolean());
     }
 
-    // TEST 9: Error case - Channel operations fail
+    // TEST 7: Error case - Channel operations fail
     @Test
     void handleUserEvent_ShouldHandleChannelErrors_WhenNackFails() throws Exception {
-        // ARRANGE: Repository fails AND nack fails
-        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
-                .thenThrow(new RuntimeException("Database failed"));
+        // ARRANGE
+        UserEventConsumer consumer = consumer(1, 1);
+        doThrow(new RuntimeException("Database failed")).when(userSnapshotSyncService).apply(testUserEvent);
         doThrow(new RuntimeException("Channel failed"))
                 .when(channel).basicNack(anyLong(), anyBoolean(), anyBoolean());
 
         // ACT: Should not throw exception (error is logged)
-        userEventConsumer.handleUserEvent(testUserEvent, message, channel);
+        consumer.handleUserEvent(testUserEvent, message(1L), channel);
+        lanes.shutdown();
 
-        // ASSERT: Verify both operations were attempted
-        verify(channel).basicNack(DELIVERY_TAG, false, true);
+        // ASSERT
+        verify(channel).basicNack(1L, false, true);
         verify(channel, never()).basicAck(anyLong(), anyBoolean());
     }
 
-    // TEST 10: Verify correct data mapping for user creation
+    // TEST 8: Events for the same user are applied in delivery order even with many lanes
     @Test
-    void handleUserEvent_ShouldMapDataCorrectly_WhenCreatingUser() {
+    void handleUserEvent_ShouldPreserveOrderPerUser() throws Exception {
         // ARRANGE
-        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
-                .thenReturn(Optional.empty());
+        UserEventConsumer consumer = consumer(8, 100);
+        UUID userId = UUID.randomUUID();
+        List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(50);
+        doAnswer(invocation -> {
+            UserEvent event = invocation.getArgument(0);
+            if (userId.equals(event.getUserId())) {
+                applied.add(event.getFullName());
+            }
+            done.countDown();
+            return null;
+        }).when(userSnapshotSyncService).apply(any(UserEvent.class));
+
+        // ACT: interleave events for one user with events for other users
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UserEvent event = createTestUserEvent(i % 2 == 0 ? userId : UUID.randomUUID());
+            event.setFullName("update-" + i);
+            if (i % 2 == 0) {
+                expected.add(event.getFullName());
+            }
+            consumer.handleUserEvent(event, message(i + 1L), channel);
+        }
 
-        // ACT
-        userEventConsumer.handleUserEvent(testUserEvent, message, channel);
-
-        // ASSERT: Verify all fields are mapped correctly
-        verify(userSnapshotRepository).save(argThat(snapshot -> snapshot.getUserId().equals(testUserEvent.getUserId()) &&
-                snapshot.getFullName().equals(testUserEvent.getFullName()) &&
-                snapshot.getUsername().equals(testUserEvent.getUsername()) &&
-                snapshot.getEmail().equals(testUserEvent.getEmail()) &&
-                snapshot.getManagerId().equals(testUserEvent.getManagerId()) &&
-                snapshot.getRole().name().equals(testUserEvent.getRole().name())));
+        // ASSERT
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(applied).containsExactlyElementsOf(expected);
     }
 
-    // Helper methods to create test data
-    private UserEvent createTestUserEvent(EventType eventType) {
+    private UserEventConsumer consumer(int laneCount, int ackBatchSize) {
+        lanes = new UserEventLanes(laneCount, false);
+        return new UserEventConsumer(userSnapshotSyncService, lanes, poisonMessageHandler, ackBatchSize);
+    }
+
+    private Message message(long deliveryTag) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(new byte[0], properties);
+    }
+
+    private UserEvent createTestUserEvent(UUID userId) {
         return UserEvent.builder()
-                .eventType(eventType)
-                .userId(UUID.randomUUID())
+                .eventType(EventType.USER_CREATED)
+                .userId(userId)
                 .fullName("Ganza Kevin")
                 .username("ganzaKevin")
                 .email("ganza.kevin@example.com")
@@ -276,16 +236,4 @@ class UserEventConsumerTest {
                 .managerId(UUID.randomUUID())
                 .build();
     }
-
-    private UserSnapshot createExistingUserSnapshot() {
-        UserSnapshot snapshot = new UserSnapshot();
-        snapshot.setId(UUID.randomUUID());
-        snapshot.setUserId(testUserEvent.getUserId()); // Same as test event
-        snapshot.setFullName("Gwiza Kelly");
-        snapshot.setUsername("gwizaKelly");
-        snapshot.setEmail("gwiza.kelly@example.com");
-        snapshot.setRole(UserRole.DEVELOPER);
-        snapshot.setManagerId(UUID.randomUUID());
-        return snapshot;
-    }
 }
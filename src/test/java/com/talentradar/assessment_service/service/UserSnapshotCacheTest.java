@@ -0,0 +1,132 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
+import com.talentradar.assessment_service.model.UserRole;
+import com.talentradar.assessment_service.model.UserSnapshot;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSnapshotCache Tests")
+class UserSnapshotCacheTest {
+
+    @Mock
+    private UserSnapshotRepository userSnapshotRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserSnapshotCache cache;
+    private UserSnapshot developer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserSnapshotCache(userSnapshotRepository, meterRegistry, 2, Duration.ofMinutes(10));
+        developer = snapshot(UUID.randomUUID(), "Ganza Kevin");
+    }
+
+    @Test
+    @DisplayName("Should load a user once and serve detached copies from memory")
+    void find_ShouldLoadOnce() {
+        // Given
+        when(userSnapshotRepository.findByUserId(developer.getUserId())).thenReturn(Optional.of(developer));
+
+        // When
+        UserSnapshot first = cache.find(developer.getUserId()).orElseThrow();
+        first.setFullName("Changed by caller");
+        UserSnapshot second = cache.find(developer.getUserId()).orElseThrow();
+
+        // Then
+        assertThat(second.getFullName()).isEqualTo("Ganza Kevin");
+        assertThat(second.getManagerId()).isEqualTo(developer.getManagerId());
+        verify(userSnapshotRepository, times(1)).findByUserId(developer.getUserId());
+        assertThat(meterRegistry.get("assessment.user_snapshot.cache.lookups").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reload a user after it has been evicted")
+    void evict_ShouldForceReload() {
+        // Given
+        UserSnapshot renamed = snapshot(developer.getUserId(), "Gwiza Kelly");
+        when(userSnapshotRepository.findByUserId(developer.getUserId()))
+                .thenReturn(Optional.of(developer))
+                .thenReturn(Optional.of(renamed));
+        cache.find(developer.getUserId());
+
+        // When
+        cache.evict(developer.getUserId());
+        UserSnapshot reloaded = cache.find(developer.getUserId()).orElseThrow();
+
+        // Then
+        assertThat(reloaded.getFullName()).isEqualTo("Gwiza Kelly");
+        verify(userSnapshotRepository, times(2)).findByUserId(developer.getUserId());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing users and should respect the size bound")
+    void find_ShouldNotCacheMisses_AndEvictLeastRecentlyUsed() {
+        // Given
+        UUID missing = UUID.randomUUID();
+        UserSnapshot second = snapshot(UUID.randomUUID(), "Second");
+        UserSnapshot third = snapshot(UUID.randomUUID(), "Third");
+        when(userSnapshotRepository.findByUserId(any(UUID.class))).thenAnswer(invocation -> {
+            UUID userId = invocation.getArgument(0);
+            if (userId.equals(developer.getUserId())) return Optional.of(developer);
+            if (userId.equals(second.getUserId())) return Optional.of(second);
+            if (userId.equals(third.getUserId())) return Optional.of(third);
+            return Optional.empty();
+        });
+
+        // When
+        assertThat(cache.find(missing)).isEmpty();
+        assertThat(cache.find(missing)).isEmpty();
+        cache.find(developer.getUserId());
+        cache.find(second.getUserId());
+        cache.find(third.getUserId());
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        verify(userSnapshotRepository, times(2)).findByUserId(missing);
+    }
+
+    @Test
+    @DisplayName("Should reload entries older than the TTL")
+    void find_ShouldReloadExpiredEntries() {
+        // Given
+        cache = new UserSnapshotCache(userSnapshotRepository, meterRegistry, 10, Duration.ZERO);
+        when(userSnapshotRepository.findByUserId(developer.getUserId())).thenReturn(Optional.of(developer));
+
+        // When
+        cache.find(developer.getUserId());
+        cache.find(developer.getUserId());
+
+        // Then
+        verify(userSnapshotRepository, times(2)).findByUserId(developer.getUserId());
+    }
+
+    private UserSnapshot snapshot(UUID userId, String fullName) {
+        return UserSnapshot.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .managerId(UUID.randomUUID())
+                .fullName(fullName)
+                .username("user")
+                .email("user@example.com")
+                .role(UserRole.DEVELOPER)
+                .build();
+    }
+}
@@ -1,12 +1,12 @@
 package com.talentradar.assessment_service.service;
 
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
 import com.talentradar.assessment_service.dto.userSnapshot.response.UserSnapshotDto;
 import com.talentradar.assessment_service.exception.BadRequestException;
 import com.talentradar.assessment_service.exception.ResourceNotFoundException;
 import com.talentradar.assessment_service.model.SubmissionStatus;
 import com.talentradar.assessment_service.model.UserRole;
 import com.talentradar.assessment_service.model.UserSnapshot;
-import com.talentradar.assessment_service.repository.AssessmentRepository;
 import com.talentradar.assessment_service.repository.UserSnapshotRepository;
 import com.talentradar.assessment_service.service.impl.UserSnapshotServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
 
@@ -31,7 +32,7 @@ class UserSnapshotServiceImplTest {
     private UserSnapshotRepository userSnapshotRepository;
 
     @Mock
-    private AssessmentRepository assessmentRepository;
+    private UserSnapshotCache userSnapshotCache;
 
     @InjectMocks
     private UserSnapshotServiceImpl userSnapshotService;
@@ -97,14 +98,9 @@ class UserSnapshotServiceImplTest {
     void getDevelopersByManagerId_ShouldReturnDevelopersWithSubmittedAssessments_WhenValidManager() {
         // Given
         when(userSnapshotRepository.findByUserId(managerId)).thenReturn(Optional.of(managerSnapshot));
-        when(userSnapshotRepository.findByManagerIdAndRole(managerId, UserRole.DEVELOPER))
+        when(userSnapshotRepository.findByManagerIdAndRoleWithAssessmentStatus(
+                managerId, UserRole.DEVELOPER, SubmissionStatus.SUBMITTED))
                 .thenReturn(Arrays.asList(developer1Snapshot, developer2Snapshot));
-        
-        // Mock that both developers have submitted assessments
-        when(assessmentRepository.existsByUserIdAndSubmissionStatus(developerId1, SubmissionStatus.SUBMITTED))
-                .thenReturn(true);
-        when(assessmentRepository.existsByUserIdAndSubmissionStatus(developerId2, SubmissionStatus.SUBMITTED))
-                .thenReturn(true);
 
         // When
         List<UserSnapshotDto> result = userSnapshotService.getDevelopersByManagerId(managerId);
@@ -118,38 +114,28 @@ class UserSnapshotServiceImplTest {
         assertThat(result.get(1).getFullName()).isEqualTo("Bob Developer");
         assertThat(result.get(1).getManagerId()).isEqualTo(managerId);
 
+        // One set-based query, no per-developer lookups
         verify(userSnapshotRepository).findByUserId(managerId);
-        verify(userSnapshotRepository).findByManagerIdAndRole(managerId, UserRole.DEVELOPER);
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatus(developerId1, SubmissionStatus.SUBMITTED);
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatus(developerId2, SubmissionStatus.SUBMITTED);
+        verify(userSnapshotRepository).findByManagerIdAndRoleWithAssessmentStatus(
+                managerId, UserRole.DEVELOPER, SubmissionStatus.SUBMITTED);
+        verifyNoMoreInteractions(userSnapshotRepository);
     }
 
     @Test
-    @DisplayName("Should filter out developers without submitted assessments")
-    void getDevelopersByManagerId_ShouldFilterOutDevelopersWithoutSubmittedAssessments() {
+    @DisplayName("Should read the materialized submission flag when enabled")
+    void getDevelopersByManagerId_ShouldUseSubmissionFlag_WhenEnabled() {
         // Given
+        ReflectionTestUtils.setField(userSnapshotService, "useSubmissionFlag", true);
         when(userSnapshotRepository.findByUserId(managerId)).thenReturn(Optional.of(managerSnapshot));
-        when(userSnapshotRepository.findByManagerIdAndRole(managerId, UserRole.DEVELOPER))
-                .thenReturn(Arrays.asList(developer1Snapshot, developer2Snapshot));
-        
-        // Mock that only developer1 has submitted assessment
-        when(assessmentRepository.existsByUserIdAndSubmissionStatus(developerId1, SubmissionStatus.SUBMITTED))
-                .thenReturn(true);
-        when(assessmentRepository.existsByUserIdAndSubmissionStatus(developerId2, SubmissionStatus.SUBMITTED))
-                .thenReturn(false);
+        when(userSnapshotRepository.findByManagerIdAndRoleAndAssessmentSubmittedTrue(managerId, UserRole.DEVELOPER))
+                .thenReturn(List.of(developer1Snapshot));
 
         // When
         List<UserSnapshotDto> result = userSnapshotService.getDevelopersByManagerId(managerId);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getUserId()).isEqualTo(developerId1);
-        assertThat(result.get(0).getFullName()).isEqualTo("Alice Developer");
-
-        verify(userSnapshotRepository).findByUserId(managerId);
-        verify(userSnapshotRepository).findByManagerIdAndRole(managerId, UserRole.DEVELOPER);
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatus(developerId1, SubmissionStatus.SUBMITTED);
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatus(developerId2, SubmissionStatus.SUBMITTED);
+        assertThat(result).extracting(UserSnapshotDto::getUserId).containsExactly(developerId1);
+        verify(userSnapshotRepository, never()).findByManagerIdAndRoleWithAssessmentStatus(any(), any(), any());
     }
 
     @Test
@@ -164,7 +150,7 @@ class UserSnapshotServiceImplTest {
                 .hasMessage("Manager not found with id: " + managerId);
 
         verify(userSnapshotRepository).findByUserId(managerId);
-        verifyNoMoreInteractions(userSnapshotRepository, assessmentRepository);
+        verifyNoMoreInteractions(userSnapshotRepository);
     }
 
     @Test
@@ -184,7 +170,7 @@ class UserSnapshotServiceImplTest {
                 .hasMessage("User with id " + managerId + " is not a manager");
 
         verify(userSnapshotRepository).findByUserId(managerId);
-        verifyNoMoreInteractions(userSnapshotRepository, assessmentRepository);
+        verifyNoMoreInteractions(userSnapshotRepository);
     }
 
     @Test
@@ -192,12 +178,9 @@ class UserSnapshotServiceImplTest {
     void getDevelopersByManagerId_ShouldReturnEmptyList_WhenNoDevelopersWithSubmittedAssessments() {
         // Given
         when(userSnapshotRepository.findByUserId(managerId)).thenReturn(Optional.of(managerSnapshot));
-        when(userSnapshotRepository.findByManagerIdAndRole(managerId, UserRole.DEVELOPER))
-                .thenReturn(Arrays.asList(developer1Snapshot));
-        
-        // Mock that developer has no submitted assessment
-        when(assessmentRepository.existsByUserIdAndSubmissionStatus(developerId1, SubmissionStatus.SUBMITTED))
-                .thenReturn(false);
+        when(userSnapshotRepository.findByManagerIdAndRoleWithAssessmentStatus(
+                managerId, UserRole.DEVELOPER, SubmissionStatus.SUBMITTED))
+                .thenReturn(List.of());
 
         // When
         List<UserSnapshotDto> result = userSnapshotService.getDevelopersByManagerId(managerId);
@@ -206,8 +189,8 @@ class UserSnapshotServiceImplTest {
         assertThat(result).isEmpty();
 
         verify(userSnapshotRepository).findByUserId(managerId);
-        verify(userSnapshotRepository).findByManagerIdAndRole(managerId, UserRole.DEVELOPER);
-        verify(assessmentRepository).existsByUserIdAndSubmissionStatus(developerId1, SubmissionStatus.SUBMITTED);
+        verify(userSnapshotRepository).findByManagerIdAndRoleWithAssessmentStatus(
+                managerId, UserRole.DEVELOPER, SubmissionStatus.SUBMITTED);
     }
 
     @Test
@@ -229,6 +212,7 @@ class UserSnapshotServiceImplTest {
         verify(userSnapshotRepository).findByUserId(developerId3);
         verify(userSnapshotRepository).findByUserId(managerId);
         verify(userSnapshotRepository).save(developer3Snapshot);
+        verify(userSnapshotCache).evict(developerId3);
         
         // Verify the developer's managerId was set
         assertThat(developer3Snapshot.getManagerId()).isEqualTo(managerId);
@@ -402,7 +386,7 @@ class UserSnapshotServiceImplTest {
     @DisplayName("Should return true when user exists")
     void userExists_ShouldReturnTrue_WhenUserExists() {
         // Given
-        when(userSnapshotRepository.findByUserId(developerId1)).thenReturn(Optional.of(developer1Snapshot));
+        when(userSnapshotRepository.existsByUserId(developerId1)).thenReturn(true);
 
         // When
         boolean result = userSnapshotService.userExists(developerId1);
@@ -410,14 +394,14 @@ class UserSnapshotServiceImplTest {
         // Then
         assertThat(result).isTrue();
 
-        verify(userSnapshotRepository).findByUserId(developerId1);
+        verify(userSnapshotRepository).existsByUserId(developerId1);
     }
 
     @Test
     @DisplayName("Should return false when user does not exist")
     void userExists_ShouldReturnFalse_WhenUserDoesNotExist() {
         // Given
-        when(userSnapshotRepository.findByUserId(developerId1)).thenReturn(Optional.empty());
+        when(userSnapshotRepository.existsByUserId(developerId1)).thenReturn(false);
 
         // When
         boolean result = userSnapshotService.userExists(developerId1);
@@ -425,7 +409,7 @@ class UserSnapshotServiceImplTest {
         // Then
         assertThat(result).isFalse();
 
-        verify(userSnapshotRepository).findByUserId(developerId1);
+        verify(userSnapshotRepository).existsByUserId(developerId1);
     }
 
     @Test
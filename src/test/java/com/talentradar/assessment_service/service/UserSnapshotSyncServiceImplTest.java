@@ -0,0 +1,331 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.cache.ProcessedEventLog;
+import com.talentradar.assessment_service.cache.UserSnapshotCache;
+import com.talentradar.assessment_service.event.EventType;
+import com.talentradar.assessment_service.event.Role;
+import com.talentradar.assessment_service.event.UserEvent;
+import com.talentradar.assessment_service.model.SubmissionStatus;
+import com.talentradar.assessment_service.model.UserRole;
+import com.talentradar.assessment_service.model.UserSnapshot;
+import com.talentradar.assessment_service.repository.AssessmentRepository;
+import com.talentradar.assessment_service.repository.UserSnapshotRepository;
+import com.talentradar.assessment_service.service.impl.UserSnapshotSyncServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSnapshotSyncServiceImplTest {
+
+    @Mock
+    private UserSnapshotRepository userSnapshotRepository;
+
+    @Mock
+    private ProcessedEventLog processedEventLog;
+
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
+    @Mock
+    private AssessmentRepository assessmentRepository;
+
+    @InjectMocks
+    private UserSnapshotSyncServiceImpl userSnapshotSyncService;
+
+    private UserEvent testUserEvent;
+    private UserSnapshot existingUserSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        testUserEvent = createTestUserEvent(EventType.USER_CREATED);
+        existingUserSnapshot = createExistingUserSnapshot();
+    }
+
+    @Test
+    void apply_ShouldCreateNewSnapshot_WhenUserCreatedAndUserNotExists() {
+        // ARRANGE: No existing user snapshot
+        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
+                .thenReturn(Optional.empty());
+
+        // ACT
+        userSnapshotSyncService.apply(testUserEvent);
+
+        // ASSERT: all fields are mapped from the event
+        verify(userSnapshotRepository).save(argThat(snapshot ->
+                snapshot.getUserId().equals(testUserEvent.getUserId()) &&
+                        snapshot.getFullName().equals(testUserEvent.getFullName()) &&
+                        snapshot.getUsername().equals(testUserEvent.getUsername()) &&
+                        snapshot.getEmail().equals(testUserEvent.getEmail()) &&
+                        snapshot.getRole() == UserRole.valueOf(testUserEvent.getRole().name()) &&
+                        snapshot.getManagerId().equals(testUserEvent.getManagerId())
+        ));
+    }
+
+    @Test
+    void apply_ShouldSeedSubmissionFlag_WhenCreatedUserAlreadySubmittedAnAssessment() {
+        // ARRANGE: the snapshot was deleted earlier, the user's submitted assessments were not
+        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId())).thenReturn(Optional.empty());
+        when(assessmentRepository.existsByUserIdAndSubmissionStatus(testUserEvent.getUserId(), SubmissionStatus.SUBMITTED))
+                .thenReturn(true);
+
+        // ACT
+        userSnapshotSyncService.apply(testUserEvent);
+
+        // ASSERT
+        verify(userSnapshotRepository).save(argThat(UserSnapshot::isAssessmentSubmitted));
+    }
+
+    @Test
+    void apply_ShouldUpdateProfileFieldsOnly_WhenUserUpdatedAndUserExists() {
+        // ARRANGE: User already exists
+        UserEvent updateEvent = createTestUserEvent(EventType.USER_UPDATED);
+        UUID managerId = existingUserSnapshot.getManagerId();
+        when(userSnapshotRepository.findByUserId(updateEvent.getUserId()))
+                .thenReturn(Optional.of(existingUserSnapshot));
+
+        // ACT
+        userSnapshotSyncService.apply(updateEvent);
+
+        // ASSERT: name fields are synced, locally owned fields are kept
+        verify(userSnapshotRepository).save(existingUserSnapshot);
+        assertThat(existingUserSnapshot.getFullName()).isEqualTo(updateEvent.getFullName());
+        assertThat(existingUserSnapshot.getUsername()).isEqualTo(updateEvent.getUsername());
+        assertThat(existingUserSnapshot.getManagerId()).isEqualTo(managerId);
+        assertThat(existingUserSnapshot.getEmail()).isEqualTo("gwiza.kelly@example.com");
+    }
+
+    @Test
+    void apply_ShouldUpdateSnapshot_WhenUserCreatedButUserAlreadyExists() {
+        // ARRANGE: User already exists (maybe duplicate CREATE event)
+        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
+                .thenReturn(Optional.of(existingUserSnapshot));
+
+        // ACT
+        userSnapshotSyncService.apply(testUserEvent);
+
+        // ASSERT: the existing snapshot is updated instead of a new one being created
+        verify(userSnapshotRepository).save(argThat(snapshot ->
+                snapshot.getId().equals(existingUserSnapshot.getId())));
+    }
+
+    @Test
+    void apply_ShouldDeleteSnapshot_WhenUserDeletedAndUserExists() {
+        // ARRANGE
+        UserEvent deleteEvent = createTestUserEvent(EventType.USER_DELETED);
+        when(userSnapshotRepository.findByUserId(deleteEvent.getUserId()))
+                .thenReturn(Optional.of(existingUserSnapshot));
+
+        // ACT
+        userSnapshotSyncService.apply(deleteEvent);
+
+        // ASSERT
+        verify(userSnapshotRepository).delete(existingUserSnapshot);
+    }
+
+    @Test
+    void apply_ShouldHandleGracefully_WhenUserDeletedButUserNotExists() {
+        // ARRANGE: User doesn't exist
+        UserEvent deleteEvent = createTestUserEvent(EventType.USER_DELETED);
+        when(userSnapshotRepository.findByUserId(deleteEvent.getUserId()))
+                .thenReturn(Optional.empty());
+
+        // ACT
+        userSnapshotSyncService.apply(deleteEvent);
+
+        // ASSERT: nothing to delete, and no error
+        verify(userSnapshotRepository, never()).delete(any());
+    }
+
+    @Test
+    void apply_ShouldPropagateException_WhenSaveFails() {
+        // ARRANGE: Find works but save fails
+        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId()))
+                .thenReturn(Optional.empty());
+        when(userSnapshotRepository.save(any(UserSnapshot.class)))
+                .thenThrow(new RuntimeException("Save failed"));
+
+        // ACT & ASSERT: the caller must see the failure so the message is requeued
+        assertThatThrownBy(() -> userSnapshotSyncService.apply(testUserEvent))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Save failed");
+    }
+
+    @Test
+    void applyBatch_ShouldCollapseDuplicateUsersAndLookUpOnce() {
+        // ARRANGE: two updates for an existing user and one create for a new user
+        UserEvent firstUpdate = eventFor(existingUserSnapshot.getUserId(), EventType.USER_UPDATED, "First Name");
+        UserEvent secondUpdate = eventFor(existingUserSnapshot.getUserId(), EventType.USER_UPDATED, "Second Name");
+        UserEvent newUser = createTestUserEvent(EventType.USER_CREATED);
+        when(userSnapshotRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(existingUserSnapshot));
+
+        // ACT
+        userSnapshotSyncService.applyBatch(List.of(firstUpdate, newUser, secondUpdate));
+
+        // ASSERT: latest event wins, one lookup, one bulk save
+        verify(userSnapshotRepository, times(1)).findByUserIdIn(anyCollection());
+        verify(userSnapshotRepository).saveAll(argThat(snapshots -> {
+            List<UserSnapshot> saved = new ArrayList<>();
+            snapshots.forEach(saved::add);
+            return saved.size() == 2
+                    && saved.get(0) == existingUserSnapshot
+                    && saved.get(1).getUserId().equals(newUser.getUserId());
+        }));
+        verify(userSnapshotRepository, never()).findByUserId(any());
+        verify(userSnapshotRepository, never()).deleteAllInBatch(anyIterable());
+        assertThat(existingUserSnapshot.getFullName()).isEqualTo("Second Name");
+    }
+
+    @Test
+    void applyBatch_ShouldSeedSubmissionFlagForNewSnapshotsInOneQuery() {
+        // ARRANGE: two new users, only one of whom has a submitted assessment
+        UserEvent submitter = createTestUserEvent(EventType.USER_CREATED);
+        UserEvent newcomer = createTestUserEvent(EventType.USER_CREATED);
+        Set<UUID> newUsers = Set.of(submitter.getUserId(), newcomer.getUserId());
+        when(userSnapshotRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(assessmentRepository.findUserIdsWithSubmissionStatus(newUsers, SubmissionStatus.SUBMITTED))
+                .thenReturn(Set.of(submitter.getUserId()));
+
+        // ACT
+        userSnapshotSyncService.applyBatch(List.of(submitter, newcomer));
+
+        // ASSERT
+        verify(userSnapshotRepository).saveAll(argThat(snapshots -> {
+            List<UserSnapshot> saved = new ArrayList<>();
+            snapshots.forEach(saved::add);
+            return saved.size() == 2
+                    && saved.get(0).isAssessmentSubmitted()
+                    && !saved.get(1).isAssessmentSubmitted();
+        }));
+        verify(assessmentRepository, never()).existsByUserIdAndSubmissionStatus(any(), any());
+    }
+
+    @Test
+    void applyBatch_ShouldDeleteSnapshot_WhenLatestEventIsDelete() {
+        // ARRANGE
+        UserEvent update = eventFor(existingUserSnapshot.getUserId(), EventType.USER_UPDATED, "Renamed");
+        UserEvent delete = eventFor(existingUserSnapshot.getUserId(), EventType.USER_DELETED, null);
+        when(userSnapshotRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(existingUserSnapshot));
+
+        // ACT
+        userSnapshotSyncService.applyBatch(List.of(update, delete));
+
+        // ASSERT
+        verify(userSnapshotRepository).saveAll(List.of());
+        verify(userSnapshotRepository).deleteAllInBatch(List.of(existingUserSnapshot));
+    }
+
+    @Test
+    void applyBatch_ShouldReuseRow_WhenUserDeletedAndRecreatedInBatch() {
+        // ARRANGE
+        UUID userId = existingUserSnapshot.getUserId();
+        UserEvent delete = eventFor(userId, EventType.USER_DELETED, null);
+        UserEvent create = eventFor(userId, EventType.USER_CREATED, "Recreated");
+        when(userSnapshotRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(existingUserSnapshot));
+
+        // ACT
+        userSnapshotSyncService.applyBatch(List.of(delete, create));
+
+        // ASSERT: same row, with every field taken from the create event; the row keeps its submission flag
+        verify(userSnapshotRepository).saveAll(List.of(existingUserSnapshot));
+        verifyNoInteractions(assessmentRepository);
+        verify(userSnapshotRepository, never()).deleteAllInBatch(anyIterable());
+        assertThat(existingUserSnapshot.getFullName()).isEqualTo("Recreated");
+        assertThat(existingUserSnapshot.getEmail()).isEqualTo(create.getEmail());
+        assertThat(existingUserSnapshot.getManagerId()).isEqualTo(create.getManagerId());
+    }
+
+    @Test
+    void apply_ShouldSkipEvent_WhenEventIdAlreadyProcessed() {
+        // ARRANGE
+        testUserEvent.setEventId("evt-1");
+        when(processedEventLog.isProcessed("evt-1")).thenReturn(true);
+
+        // ACT
+        userSnapshotSyncService.apply(testUserEvent);
+
+        // ASSERT
+        verifyNoInteractions(userSnapshotRepository);
+        verify(processedEventLog, never()).markProcessed(anyString());
+    }
+
+    @Test
+    void apply_ShouldRecordEventId_WhenEventApplied() {
+        // ARRANGE
+        testUserEvent.setEventId("evt-1");
+        when(userSnapshotRepository.findByUserId(testUserEvent.getUserId())).thenReturn(Optional.empty());
+
+        // ACT
+        userSnapshotSyncService.apply(testUserEvent);
+
+        // ASSERT
+        verify(userSnapshotRepository).save(any(UserSnapshot.class));
+        verify(processedEventLog).markProcessed("evt-1");
+    }
+
+    @Test
+    void applyBatch_ShouldSkipProcessedAndRepeatedEventIds() {
+        // ARRANGE: one event already applied earlier, one delivered twice within the batch
+        UserEvent processed = createTestUserEvent(EventType.USER_CREATED);
+        processed.setEventId("evt-old");
+        UserEvent fresh = createTestUserEvent(EventType.USER_CREATED);
+        fresh.setEventId("evt-new");
+        when(processedEventLog.findProcessed(List.of("evt-old", "evt-new", "evt-new"))).thenReturn(Set.of("evt-old"));
+        when(userSnapshotRepository.findByUserIdIn(Set.of(fresh.getUserId()))).thenReturn(List.of());
+
+        // ACT
+        userSnapshotSyncService.applyBatch(List.of(processed, fresh, fresh));
+
+        // ASSERT
+        verify(processedEventLog).markProcessed(Set.of("evt-new"));
+        verify(userSnapshotRepository).saveAll(argThat(snapshots -> {
+            List<UserSnapshot> saved = new ArrayList<>();
+            snapshots.forEach(saved::add);
+            return saved.size() == 1 && saved.get(0).getUserId().equals(fresh.getUserId());
+        }));
+    }
+
+    private UserEvent eventFor(UUID userId, EventType eventType, String fullName) {
+        UserEvent event = createTestUserEvent(eventType);
+        event.setUserId(userId);
+        event.setFullName(fullName);
+        return event;
+    }
+
+    private UserEvent createTestUserEvent(EventType eventType) {
+        return UserEvent.builder()
+                .eventType(eventType)
+                .userId(UUID.randomUUID())
+                .fullName("Ganza Kevin")
+                .username("ganzaKevin")
+                .email("ganza.kevin@example.com")
+                .role(Role.DEVELOPER)
+                .managerId(UUID.randomUUID())
+                .build();
+    }
+
+    private UserSnapshot createExistingUserSnapshot() {
+        UserSnapshot snapshot = new UserSnapshot();
+        snapshot.setId(UUID.randomUUID());
+        snapshot.setUserId(testUserEvent.getUserId());
+        snapshot.setFullName("Gwiza Kelly");
+        snapshot.setUsername("gwizaKelly");
+        snapshot.setEmail("gwiza.kelly@example.com");
+        snapshot.setRole(UserRole.DEVELOPER);
+        snapshot.setManagerId(UUID.randomUUID());
+        return snapshot;
+    }
+}
@@ -0,0 +1,137 @@
+package com.talentradar.assessment_service.service;
+
+import com.talentradar.assessment_service.cache.DimensionDefinitionCatalog;
+import com.talentradar.assessment_service.util.WeightedScoreUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WeightedScoreUtil Tests")
+class WeightedScoreUtilTest {
+
+    private static final long SEED = 20261017L;
+    private static final int CASES = 200_000;
+
+    @Test
+    @DisplayName("Fixed-point path should match the BigDecimal reference for random ratings and weights")
+    void weightedAverage_ShouldMatchReference_ForRandomInputs() {
+        // Given
+        Random random = new Random(SEED);
+
+        for (int run = 0; run < CASES; run++) {
+            int dimensions = 1 + random.nextInt(20);
+            int[] ratings = new int[dimensions];
+            long[] scaledWeights = new long[dimensions];
+            BigDecimal[] weights = new BigDecimal[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                // Mostly real 1-5 ratings, sometimes arbitrary signed values to exercise rounding away from zero
+                ratings[i] = random.nextInt(4) == 0 ? random.nextInt(2001) - 1000 : 1 + random.nextInt(5);
+                // numeric(8, 2): up to 999999.99, with a bias towards small weights where ties are common
+                scaledWeights[i] = random.nextBoolean() ? random.nextInt(101) : random.nextInt(100_000_000);
+                weights[i] = BigDecimal.valueOf(scaledWeights[i], 2);
+            }
+
+            // When
+            int fixedPoint = WeightedScoreUtil.weightedAverage(ratings, scaledWeights);
+            int reference = WeightedScoreUtil.weightedAverage(ratings, weights);
+
+            // Then
+            assertThat(fixedPoint)
+                    .as("run %d: ratings=%s weights=%s", run, Arrays.toString(ratings), Arrays.toString(weights))
+                    .isEqualTo(reference);
+        }
+    }
+
+    @Test
+    @DisplayName("Should round HALF_UP twice, to two decimals and then to a whole score")
+    void weightedAverage_ShouldApplyBothRoundingSteps() {
+        // Given: 499 / 200 = 2.495 rounds to 2.50 and then to 3, although rounding once would give 2
+        int[] ratings = {2, 3};
+        BigDecimal[] weights = {new BigDecimal("101.00"), new BigDecimal("99.00")};
+        long[] scaledWeights = {10100, 9900};
+
+        // When & Then
+        assertThat(WeightedScoreUtil.weightedAverage(ratings, weights)).isEqualTo(3);
+        assertThat(WeightedScoreUtil.weightedAverage(ratings, scaledWeights)).isEqualTo(3);
+
+        // Exact halves round away from zero
+        assertThat(WeightedScoreUtil.weightedAverage(new int[]{3, 2}, new long[]{50, 50})).isEqualTo(3);
+        assertThat(WeightedScoreUtil.weightedAverage(new int[]{-3, -2}, new long[]{50, 50})).isEqualTo(-3);
+        assertThat(WeightedScoreUtil.weightedAverage(new int[]{2, 3}, new long[]{5010, 4990}))
+                .isEqualTo(WeightedScoreUtil.weightedAverage(new int[]{2, 3},
+                        new BigDecimal[]{new BigDecimal("50.10"), new BigDecimal("49.90")}));
+    }
+
+    @Test
+    @DisplayName("Should return 0 when the total weight is zero")
+    void weightedAverage_ShouldReturnZero_WhenTotalWeightIsZero() {
+        // When & Then
+        assertThat(WeightedScoreUtil.weightedAverage(new int[]{5, 4}, new long[]{0, 0})).isZero();
+        assertThat(WeightedScoreUtil.weightedAverage(new int[]{5, 4},
+                new BigDecimal[]{BigDecimal.ZERO, new BigDecimal("0.00")})).isZero();
+        assertThat(WeightedScoreUtil.weightedAverage(new int[0], new long[0])).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fall back to BigDecimal when the scaled sums overflow a long")
+    void weightedAverage_ShouldMatchReference_WhenScaledSumsOverflow() {
+        // Given
+        int[] ratings = {Integer.MAX_VALUE, Integer.MAX_VALUE, 1};
+        long[] scaledWeights = {Long.MAX_VALUE / 4, Long.MAX_VALUE / 4, 1};
+        BigDecimal[] weights = {BigDecimal.valueOf(Long.MAX_VALUE / 4, 2), BigDecimal.valueOf(Long.MAX_VALUE / 4, 2),
+                BigDecimal.valueOf(1, 2)};
+
+        // When & Then
+        assertThat(WeightedScoreUtil.weightedAverage(ratings, scaledWeights))
+                .isEqualTo(WeightedScoreUtil.weightedAverage(ratings, weights));
+    }
+
+    @Test
+    @DisplayName("Catalog entry overload should match the array overloads, including weights with three decimals")
+    void weightedAverage_WithCatalogEntries_ShouldMatchArrayOverloads() {
+        // Given
+        DimensionDefinitionCatalog.Entry technical = entry("0.30");
+        DimensionDefinitionCatalog.Entry communication = entry("0.10");
+        DimensionDefinitionCatalog.Entry precise = entry("0.125");
+        List<Rated> scalable = List.of(new Rated(4, technical), new Rated(2, communication));
+        List<Rated> mixed = List.of(new Rated(4, technical), new Rated(1, precise));
+
+        // When & Then: (4 * 0.30 + 2 * 0.10) / 0.40 = 3.50 -> 4
+        assertThat(WeightedScoreUtil.weightedAverage(scalable, Rated::rating, Rated::definition))
+                .isEqualTo(WeightedScoreUtil.weightedAverage(new int[]{4, 2}, new long[]{30, 10}))
+                .isEqualTo(4);
+        // (4 * 0.30 + 1 * 0.125) / 0.425 = 3.1176... -> 3.12 -> 3, via the BigDecimal reference
+        assertThat(WeightedScoreUtil.weightedAverage(mixed, Rated::rating, Rated::definition))
+                .isEqualTo(WeightedScoreUtil.weightedAverage(new int[]{4, 1},
+                        new BigDecimal[]{new BigDecimal("0.30"), new BigDecimal("0.125")}))
+                .isEqualTo(3);
+        assertThat(WeightedScoreUtil.weightedAverage(List.<Rated>of(), Rated::rating, Rated::definition)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should scale weights with at most two decimals and reject the rest")
+    void toScaledWeight_ShouldScaleToHundredths() {
+        // When & Then
+        assertThat(WeightedScoreUtil.toScaledWeight(new BigDecimal("25.5"))).isEqualTo(2550);
+        assertThat(WeightedScoreUtil.toScaledWeight(new BigDecimal("0.25"))).isEqualTo(25);
+        assertThat(WeightedScoreUtil.toScaledWeight(new BigDecimal("3"))).isEqualTo(300);
+        assertThat(WeightedScoreUtil.toScaledWeight(new BigDecimal("0.250"))).isEqualTo(25);
+        assertThat(WeightedScoreUtil.toScaledWeight(new BigDecimal("0.125"))).isEqualTo(WeightedScoreUtil.NOT_SCALABLE);
+        assertThat(WeightedScoreUtil.toScaledWeight(null)).isEqualTo(WeightedScoreUtil.NOT_SCALABLE);
+    }
+
+    private static DimensionDefinitionCatalog.Entry entry(String weight) {
+        return new DimensionDefinitionCatalog.Entry(UUID.randomUUID(), "Dimension", "dimension", null,
+                new BigDecimal(weight), List.of());
+    }
+
+    private record Rated(int rating, DimensionDefinitionCatalog.Entry definition) {
+    }
+}
@@ -0,0 +1,32 @@
+-- Verifies a feedback_version_stress.sql run; fails unless every pair holds exactly versions 1..n.
+
+\set ON_ERROR_STOP on
+SET search_path = bench;
+
+SELECT 'allocate' AS path, COUNT(*) AS feedbacks,
+       COUNT(*) - COUNT(DISTINCT (manager_id, developer_id, feedback_version)) AS duplicate_versions
+FROM feedback
+UNION ALL
+SELECT 'legacy', COUNT(*),
+       COUNT(*) - COUNT(DISTINCT (manager_id, developer_id, feedback_version))
+FROM feedback_legacy;
+
+DO $$
+DECLARE
+    broken_pairs integer;
+BEGIN
+    SELECT COUNT(*) INTO broken_pairs
+    FROM (SELECT f.manager_id, f.developer_id
+          FROM feedback f
+          JOIN feedback_version_counter c USING (manager_id, developer_id)
+          GROUP BY f.manager_id, f.developer_id, c.last_version
+          HAVING COUNT(*) <> c.last_version
+              OR COUNT(DISTINCT f.feedback_version) <> COUNT(*)
+              OR MIN(f.feedback_version) <> 1
+              OR MAX(f.feedback_version) <> c.last_version) broken;
+
+    IF broken_pairs > 0 THEN
+        RAISE EXCEPTION '% pairs have duplicate or missing feedback versions', broken_pairs;
+    END IF;
+    RAISE NOTICE 'All allocated feedback versions are unique and gap-free';
+END $$;
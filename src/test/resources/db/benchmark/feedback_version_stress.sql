@@ -0,0 +1,48 @@
+-- Stress test: feedback version allocation under high parallelism.
+--
+-- Runs against a scratch schema, never the application's tables:
+--   createdb talentradar_bench
+--   psql -d talentradar_bench -f src/test/resources/db/benchmark/feedback_version_stress.sql
+--   pgbench -n -c 64 -j 8 -t 500 -D pairs=8 -f src/test/resources/db/benchmark/feedback_version_allocate.pgbench talentradar_bench
+--   pgbench -n -c 64 -j 8 -t 500 -D pairs=8 -f src/test/resources/db/benchmark/feedback_version_legacy.pgbench talentradar_bench
+--   psql -d talentradar_bench -f src/test/resources/db/benchmark/feedback_version_check.sql
+--
+-- 64 clients submitting for only 8 (manager, developer) pairs keeps every counter row hot. The allocate script
+-- reserves versions the way FeedbackVersionCounterRepository#allocate does; the legacy script reads
+-- MAX(feedback_version) + 1 and inserts, as FeedbackServiceImpl did before. The check script fails unless
+-- every allocated pair holds exactly versions 1..n, and reports how many duplicates the legacy path produced.
+-- Compare the tps pgbench prints for both scripts to see what the counter row lock costs.
+
+\set ON_ERROR_STOP on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path = bench;
+
+CREATE TABLE feedback (
+    id               uuid PRIMARY KEY,
+    manager_id       uuid         NOT NULL,
+    developer_id     uuid         NOT NULL,
+    feedback_version integer      NOT NULL,
+    created_at       timestamp(6) NOT NULL,
+    CONSTRAINT uk_feedback_manager_developer_version UNIQUE (manager_id, developer_id, feedback_version)
+);
+
+CREATE TABLE feedback_version_counter (
+    manager_id   uuid    NOT NULL,
+    developer_id uuid    NOT NULL,
+    last_version integer NOT NULL,
+    PRIMARY KEY (manager_id, developer_id)
+);
+
+-- No unique key, as before V8; otherwise the legacy run would just fail on its first collision
+CREATE TABLE feedback_legacy (
+    id               uuid PRIMARY KEY,
+    manager_id       uuid         NOT NULL,
+    developer_id     uuid         NOT NULL,
+    feedback_version integer      NOT NULL,
+    created_at       timestamp(6) NOT NULL
+);
+
+CREATE INDEX idx_feedback_legacy_manager_developer_version
+    ON feedback_legacy (manager_id, developer_id, feedback_version);
@@ -0,0 +1,71 @@
+-- Benchmark: user_snapshot lookup by user_id at 1M users, with and without the unique index.
+--
+-- Runs against a scratch schema, never the application's tables:
+--   createdb talentradar_bench
+--   psql -d talentradar_bench -f src/test/resources/db/benchmark/user_snapshot_lookup_1m.sql
+--
+-- It reports EXPLAIN (ANALYZE, BUFFERS) for a single keyed lookup and the average of 1,000 random lookups
+-- for each variant. Record the numbers from your own hardware alongside any change to these indexes.
+
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path = bench;
+
+CREATE TABLE user_snapshot (
+    id         uuid PRIMARY KEY,
+    user_id    uuid         NOT NULL,
+    manager_id uuid,
+    full_name  varchar(255),
+    username   varchar(255),
+    email      varchar(255) NOT NULL,
+    role       varchar(255) NOT NULL
+);
+
+-- 1M developers spread over 10k managers
+INSERT INTO user_snapshot (id, user_id, manager_id, full_name, username, email, role)
+SELECT gen_random_uuid(),
+       gen_random_uuid(),
+       md5((n % 10000)::text)::uuid,
+       'User ' || n,
+       'user' || n,
+       'user' || n || '@example.com',
+       CASE WHEN n % 100 = 0 THEN 'MANAGER' ELSE 'DEVELOPER' END
+FROM generate_series(1, 1000000) AS n;
+ANALYZE user_snapshot;
+
+CREATE TABLE probe AS
+SELECT user_id FROM user_snapshot ORDER BY random() LIMIT 1000;
+
+CREATE FUNCTION lookup_all() RETURNS interval LANGUAGE plpgsql AS $$
+DECLARE
+    started timestamptz := clock_timestamp();
+    probe_id uuid;
+    found user_snapshot%ROWTYPE;
+BEGIN
+    FOR probe_id IN SELECT user_id FROM probe LOOP
+        SELECT * INTO found FROM user_snapshot WHERE user_id = probe_id;
+    END LOOP;
+    RETURN (clock_timestamp() - started) / 1000;
+END $$;
+
+\echo '--- without index on user_id (baseline) ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM user_snapshot WHERE user_id = (SELECT user_id FROM probe LIMIT 1);
+SELECT lookup_all() AS avg_lookup_without_index;
+
+\echo '--- with uk_user_snapshot_user_id ---'
+CREATE UNIQUE INDEX uk_user_snapshot_user_id ON user_snapshot (user_id);
+CREATE INDEX idx_user_snapshot_manager_role ON user_snapshot (manager_id, role);
+ANALYZE user_snapshot;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM user_snapshot WHERE user_id = (SELECT user_id FROM probe LIMIT 1);
+SELECT lookup_all() AS avg_lookup_with_index;
+
+\echo '--- developers of one manager ---'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM user_snapshot WHERE manager_id = md5('42')::uuid AND role = 'DEVELOPER';
+
+DROP SCHEMA bench CASCADE;
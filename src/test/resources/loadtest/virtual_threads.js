@@ -0,0 +1,69 @@
+// Load test: platform threads vs virtual threads for the read-heavy request mix.
+//
+// Run the service twice against the same database, at the same fixed heap, once per mode:
+//   java -Xms512m -Xmx512m -jar target/*.jar                                   # platform threads
+//   VIRTUAL_THREADS_ENABLED=true VIRTUAL_THREAD_PINNING_MONITOR_ENABLED=true \
+//     java -Xms512m -Xmx512m -jar target/*.jar                                 # virtual threads
+//
+// and drive each with the same constant arrival rate:
+//   k6 run -e BASE_URL=http://localhost:8084 -e DEVELOPER_ID=<uuid> -e MANAGER_ID=<uuid> \
+//     -e RATE=400 -e DURATION=5m --summary-export=target/k6-<mode>.json \
+//     src/test/resources/loadtest/virtual_threads.js
+//
+// Compare http_reqs (throughput), http_req_duration p(99) and dropped_iterations between the two summaries,
+// and check the service log for "Virtual thread pinned" warnings. Requests carry the gateway's user headers
+// directly, so point BASE_URL at the service, not the gateway. Record the numbers from your own hardware
+// alongside any change to the threading defaults.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8084';
+const DEVELOPER_ID = __ENV.DEVELOPER_ID;
+const MANAGER_ID = __ENV.MANAGER_ID;
+
+export const options = {
+    scenarios: {
+        read_mix: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 200),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: Number(__ENV.VUS || 200),
+            maxVUs: Number(__ENV.MAX_VUS || 1000),
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+function headers(userId, role) {
+    return { headers: { 'X-User-Id': userId, 'X-User-Role': role, Accept: 'application/json' } };
+}
+
+export function setup() {
+    if (!DEVELOPER_ID || !MANAGER_ID) {
+        throw new Error('DEVELOPER_ID and MANAGER_ID must be set to existing users');
+    }
+}
+
+export default function () {
+    const developer = headers(DEVELOPER_ID, 'ROLE_DEVELOPER');
+    const manager = headers(MANAGER_ID, 'ROLE_MANAGER');
+    const pick = Math.random();
+
+    let response;
+    if (pick < 0.4) {
+        response = http.get(`${BASE_URL}/api/v1/assessments?size=20&includeTotal=false`, developer);
+    } else if (pick < 0.7) {
+        response = http.get(`${BASE_URL}/api/v1/feedbacks/search?developerId=${DEVELOPER_ID}&size=20&includeTotal=false`, manager);
+    } else if (pick < 0.9) {
+        response = http.get(`${BASE_URL}/api/v1/user-assign/developers/dashboard`, manager);
+    } else {
+        response = http.get(`${BASE_URL}/api/v1/dimensions`, manager);
+    }
+
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}